@@ -0,0 +1,21 @@
+plugins {
+    id("dev.failsafe.java-conventions")
+}
+
+dependencies {
+    implementation(project(":failsafe"))
+    implementation("org.openjdk.jmh:jmh-core:1.37")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+description = "Failsafe Benchmarks"
+
+val benchmarksJar by tasks.registering(Jar::class) {
+    archiveFileName.set("benchmarks.jar")
+    manifest {
+        attributes["Main-Class"] = "org.openjdk.jmh.Main"
+    }
+    duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+    from(sourceSets["main"].output)
+    from(configurations.runtimeClasspath.get().map { if (it.isDirectory) it else zipTree(it) })
+}
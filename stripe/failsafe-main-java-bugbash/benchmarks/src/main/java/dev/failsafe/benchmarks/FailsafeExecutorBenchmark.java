@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.benchmarks;
+
+import dev.failsafe.FailsafeExecutor;
+import dev.failsafe.function.AsyncRunnable;
+import dev.failsafe.function.CheckedSupplier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call overhead of {@link FailsafeExecutor} for each {@link PolicyStack}. The executor and its
+ * policies are shared by all benchmark threads, as they would be in an application, so stateful policies such as
+ * circuit breakers, rate limiters and bulkheads are measured under contention when running with multiple threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FailsafeExecutorBenchmark {
+  private static final Object RESULT = new Object();
+  private static final CheckedSupplier<Object> SUPPLIER = () -> RESULT;
+  private static final CheckedSupplier<CompletionStage<Object>> STAGE_SUPPLIER = () -> CompletableFuture.completedFuture(
+    RESULT);
+  private static final AsyncRunnable<Void> ASYNC_RUNNABLE = execution -> execution.recordResult(null);
+
+  @Param
+  public PolicyStack stack;
+
+  private FailsafeExecutor<Object> failsafe;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    failsafe = stack.newExecutor();
+  }
+
+  @Benchmark
+  public Object get() {
+    return failsafe.get(SUPPLIER);
+  }
+
+  @Benchmark
+  public Object getAsync() {
+    return failsafe.getAsync(SUPPLIER).join();
+  }
+
+  @Benchmark
+  public Object getStageAsync() {
+    return failsafe.getStageAsync(STAGE_SUPPLIER).join();
+  }
+
+  @Benchmark
+  public Object runAsyncExecution() {
+    return failsafe.runAsyncExecution(ASYNC_RUNNABLE).join();
+  }
+}
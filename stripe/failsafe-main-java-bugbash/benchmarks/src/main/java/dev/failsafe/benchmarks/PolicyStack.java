@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.benchmarks;
+
+import dev.failsafe.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Policy compositions that are benchmarked, outermost policy first. Each policy is configured so that successful
+ * executions are never rejected or delayed, which isolates the per-call overhead of the policy itself.
+ */
+public enum PolicyStack {
+  NONE,
+  RETRY(PolicyStack::retryPolicy),
+  CIRCUIT_BREAKER(PolicyStack::circuitBreaker),
+  RATE_LIMITER(PolicyStack::rateLimiter),
+  BULKHEAD(PolicyStack::bulkhead),
+  TIMEOUT(PolicyStack::timeout),
+  FALLBACK(PolicyStack::fallback),
+  RETRY_CIRCUIT_BREAKER(PolicyStack::retryPolicy, PolicyStack::circuitBreaker),
+  FALLBACK_RETRY_CIRCUIT_BREAKER(PolicyStack::fallback, PolicyStack::retryPolicy, PolicyStack::circuitBreaker),
+  RETRY_CIRCUIT_BREAKER_TIMEOUT(PolicyStack::retryPolicy, PolicyStack::circuitBreaker, PolicyStack::timeout),
+  RETRY_RATE_LIMITER_BULKHEAD(PolicyStack::retryPolicy, PolicyStack::rateLimiter, PolicyStack::bulkhead),
+  ALL(PolicyStack::fallback, PolicyStack::retryPolicy, PolicyStack::circuitBreaker, PolicyStack::rateLimiter,
+    PolicyStack::bulkhead, PolicyStack::timeout);
+
+  private final List<Supplier<Policy<Object>>> policySuppliers;
+
+  @SafeVarargs
+  PolicyStack(Supplier<Policy<Object>>... policySuppliers) {
+    this.policySuppliers = Arrays.asList(policySuppliers);
+  }
+
+  /**
+   * Returns a new FailsafeExecutor for the stack, with new policy instances.
+   */
+  public FailsafeExecutor<Object> newExecutor() {
+    if (policySuppliers.isEmpty())
+      return Failsafe.none();
+
+    List<Policy<Object>> policies = new ArrayList<>(policySuppliers.size());
+    for (Supplier<Policy<Object>> supplier : policySuppliers)
+      policies.add(supplier.get());
+    return Failsafe.with(policies);
+  }
+
+  static Policy<Object> retryPolicy() {
+    return RetryPolicy.ofDefaults();
+  }
+
+  static Policy<Object> circuitBreaker() {
+    return CircuitBreaker.ofDefaults();
+  }
+
+  static Policy<Object> rateLimiter() {
+    return RateLimiter.burstyBuilder(1_000_000_000L, Duration.ofSeconds(1)).build();
+  }
+
+  static Policy<Object> bulkhead() {
+    return Bulkhead.of(1024);
+  }
+
+  static Policy<Object> timeout() {
+    return Timeout.of(Duration.ofSeconds(10));
+  }
+
+  static Policy<Object> fallback() {
+    return Fallback.of("fallback");
+  }
+}
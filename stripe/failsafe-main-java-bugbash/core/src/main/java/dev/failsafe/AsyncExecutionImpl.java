@@ -21,6 +21,7 @@ import dev.failsafe.spi.*;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -32,8 +33,14 @@ import java.util.function.Function;
 final class AsyncExecutionImpl<R> extends ExecutionImpl<R> implements AsyncExecutionInternal<R> {
   // -- Cross-attempt state --
 
+  private final List<? extends Policy<R>> policies;
+  private final Scheduler scheduler;
+  private final Metrics metrics;
   private final FailsafeFuture<R> future;
   private final boolean asyncExecution;
+  // Creates the innermost function for a future, so that inner executions can be created
+  private final Function<FailsafeFuture<R>, Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>>>
+    innerFnFactory;
   // The outermost function that executions begin with
   private Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> outerFn;
 
@@ -46,10 +53,26 @@ final class AsyncExecutionImpl<R> extends ExecutionImpl<R> implements AsyncExecu
 
   AsyncExecutionImpl(List<Policy<R>> policies, Scheduler scheduler, FailsafeFuture<R> future, boolean asyncExecution,
     Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn) {
-    super(policies);
+    this(policies, scheduler, Metrics.NONE, Ticker.defaultTicker(), future, asyncExecution, f -> innerFn);
+  }
+
+  /**
+   * Creates an execution of the {@code policies} whose innermost function is created for the {@code future} by the
+   * {@code innerFnFactory}.
+   */
+  AsyncExecutionImpl(List<? extends Policy<R>> policies, Scheduler scheduler, Metrics metrics, Ticker ticker,
+    FailsafeFuture<R> future, boolean asyncExecution,
+    Function<FailsafeFuture<R>, Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>>>
+      innerFnFactory) {
+    super(toPolicyExecutors(policies, metrics), ticker);
+    this.policies = policies;
+    this.scheduler = scheduler;
+    this.metrics = metrics;
     this.future = future;
     this.asyncExecution = asyncExecution;
+    this.innerFnFactory = innerFnFactory;
 
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn = innerFnFactory.apply(future);
     outerFn = asyncExecution ? Functions.toExecutionAware(innerFn) : innerFn;
     outerFn = Functions.toAsync(outerFn, scheduler, future);
 
@@ -63,8 +86,12 @@ final class AsyncExecutionImpl<R> extends ExecutionImpl<R> implements AsyncExecu
   private AsyncExecutionImpl(AsyncExecutionImpl<R> execution) {
     super(execution);
     outerFn = execution.outerFn;
+    policies = execution.policies;
+    scheduler = execution.scheduler;
+    metrics = execution.metrics;
     future = execution.future;
     asyncExecution = execution.asyncExecution;
+    innerFnFactory = execution.innerFnFactory;
   }
 
   @Override
@@ -142,6 +169,20 @@ final class AsyncExecutionImpl<R> extends ExecutionImpl<R> implements AsyncExecu
     return new AsyncExecutionImpl<>(this);
   }
 
+  @Override
+  public FailsafeFuture<R> executeInner(PolicyExecutor<R> policyExecutor,
+    BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler) {
+    // Policies are outermost first, whereas policy indexes are innermost first
+    int innerPolicyCount = policyExecutor.getPolicyIndex();
+    List<? extends Policy<R>> innerPolicies = policies.subList(policies.size() - innerPolicyCount, policies.size());
+    FailsafeFuture<R> innerFuture = new FailsafeFuture<>(completionHandler, innerPolicyCount);
+    AsyncExecutionImpl<R> execution = new AsyncExecutionImpl<>(innerPolicies, scheduler, metrics, ticker, innerFuture,
+      asyncExecution, innerFnFactory);
+    innerFuture.setExecution(execution);
+    execution.executeAsync();
+    return innerFuture;
+  }
+
   /**
    * Performs an asynchronous execution.
    */
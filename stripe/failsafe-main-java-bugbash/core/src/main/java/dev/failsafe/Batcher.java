@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.CheckedFunction;
+import dev.failsafe.internal.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Groups individual asynchronous lookups into bulk calls that are performed with a {@link FailsafeExecutor}. Keys are
+ * buffered until a {@link BatcherBuilder#withMaxSize(int) max number} of distinct keys is reached or the {@link
+ * BatcherBuilder#withMaxLinger(java.time.Duration) max linger} time has passed since the first key was buffered, then
+ * the bulk function is called once for all of the buffered keys, and each caller's future is completed with the value
+ * for its key:
+ * <pre>{@code
+ * Batcher<Long, User> batcher = Batcher.<Long, User>builder(ids -> userService.loadAll(ids))
+ *   .withMaxSize(100)
+ *   .withMaxLinger(Duration.ofMillis(5))
+ *   .build(Failsafe.with(retryPolicy, circuitBreaker, timeout));
+ * CompletableFuture<User> user = batcher.getAsync(userId);
+ * }</pre>
+ * <p>
+ * The executor's policies apply to each bulk call, so a bulk call is retried, counted by a circuit breaker, or timed
+ * out as a whole. If a bulk call fails, each of its callers' futures is completed exceptionally with the failure.
+ * Callers for keys that are missing from the bulk call's result are completed with {@code null}.
+ * </p>
+ * <p>
+ * A caller that cancels its future is excluded from bulk calls that have not yet been performed, and a bulk call is
+ * cancelled if all of its callers cancel their futures.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @see BatcherConfig
+ * @see BatcherBuilder
+ */
+public interface Batcher<K, V> {
+  /**
+   * Returns a {@link BatcherBuilder} that builds {@link Batcher} instances that perform the {@code bulkFunction},
+   * which returns the values for a list of distinct keys.
+   *
+   * @throws NullPointerException if {@code bulkFunction} is null
+   */
+  static <K, V> BatcherBuilder<K, V> builder(CheckedFunction<List<K>, Map<K, V>> bulkFunction) {
+    return new BatcherBuilder<>(Assert.notNull(bulkFunction, "bulkFunction"));
+  }
+
+  /**
+   * Creates a new BatcherBuilder that will be based on the {@code config}.
+   */
+  static <K, V> BatcherBuilder<K, V> builder(BatcherConfig<K, V> config) {
+    return new BatcherBuilder<>(config);
+  }
+
+  /**
+   * Returns the {@link BatcherConfig} that the Batcher was built with.
+   */
+  BatcherConfig<K, V> getConfig();
+
+  /**
+   * Buffers the {@code key} for the next bulk call, returning a future that is completed with the key's value.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  CompletableFuture<V> getAsync(K key);
+
+  /**
+   * Performs a bulk call for any buffered keys without waiting for the max linger time to pass.
+   */
+  void flush();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.CheckedFunction;
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds {@link Batcher} instances.
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @see BatcherConfig
+ */
+public class BatcherBuilder<K, V> {
+  final BatcherConfig<K, V> config;
+
+  BatcherBuilder(CheckedFunction<List<K>, Map<K, V>> bulkFunction) {
+    config = new BatcherConfig<>(bulkFunction);
+  }
+
+  BatcherBuilder(BatcherConfig<K, V> config) {
+    this.config = new BatcherConfig<>(config);
+  }
+
+  /**
+   * Builds a new {@link Batcher} that performs bulk calls with the {@code failsafe} executor, whose policies apply to
+   * each bulk call.
+   *
+   * @throws NullPointerException if {@code failsafe} is null
+   */
+  public Batcher<K, V> build(FailsafeExecutor<? super Map<K, V>> failsafe) {
+    return new BatcherImpl<>(new BatcherConfig<>(config), Assert.notNull(failsafe, "failsafe"));
+  }
+
+  /**
+   * Configures the max number of distinct keys in a bulk call. When this many keys are buffered, a bulk call is
+   * performed without waiting for the max linger time to pass.
+   *
+   * @throws IllegalArgumentException if {@code maxSize} < 1
+   */
+  public BatcherBuilder<K, V> withMaxSize(int maxSize) {
+    Assert.isTrue(maxSize >= 1, "maxSize must be >= 1");
+    config.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * Configures the max time that a key is buffered before a bulk call is performed, measured from when the first key
+   * of a bulk call is buffered.
+   *
+   * @throws NullPointerException if {@code maxLinger} is null
+   * @throws IllegalArgumentException if {@code maxLinger} <= 0
+   */
+  public BatcherBuilder<K, V> withMaxLinger(Duration maxLinger) {
+    Assert.notNull(maxLinger, "maxLinger");
+    Assert.isTrue(maxLinger.toNanos() > 0, "maxLinger must be > 0");
+    config.maxLinger = maxLinger;
+    return this;
+  }
+}
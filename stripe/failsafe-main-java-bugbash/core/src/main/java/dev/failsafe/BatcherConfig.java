@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.CheckedFunction;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for a {@link Batcher}.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @see BatcherBuilder
+ */
+public class BatcherConfig<K, V> {
+  CheckedFunction<List<K>, Map<K, V>> bulkFunction;
+  int maxSize;
+  Duration maxLinger;
+
+  BatcherConfig(CheckedFunction<List<K>, Map<K, V>> bulkFunction) {
+    this.bulkFunction = bulkFunction;
+    maxSize = 100;
+    maxLinger = Duration.ofMillis(10);
+  }
+
+  BatcherConfig(BatcherConfig<K, V> config) {
+    bulkFunction = config.bulkFunction;
+    maxSize = config.maxSize;
+    maxLinger = config.maxLinger;
+  }
+
+  /**
+   * Returns the function that returns the values for a list of distinct keys.
+   *
+   * @see Batcher#builder(CheckedFunction)
+   */
+  public CheckedFunction<List<K>, Map<K, V>> getBulkFunction() {
+    return bulkFunction;
+  }
+
+  /**
+   * Returns the max number of distinct keys in a bulk call. Defaults to {@code 100}.
+   *
+   * @see BatcherBuilder#withMaxSize(int)
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the max time that a key is buffered before a bulk call is performed. Defaults to 10 milliseconds.
+   *
+   * @see BatcherBuilder#withMaxLinger(Duration)
+   */
+  public Duration getMaxLinger() {
+    return maxLinger;
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.Scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Batcher} implementation that buffers keys in a pending batch, which is dispatched when it is full or when
+ * its linger time has passed, whichever happens first.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+class BatcherImpl<K, V> implements Batcher<K, V> {
+  private final BatcherConfig<K, V> config;
+  private final FailsafeExecutor<? super Map<K, V>> failsafe;
+  private final long maxLingerNanos;
+
+  // Mutable state guarded by "this"
+  private Batch<K, V> pending;
+
+  BatcherImpl(BatcherConfig<K, V> config, FailsafeExecutor<? super Map<K, V>> failsafe) {
+    this.config = config;
+    this.failsafe = failsafe;
+    maxLingerNanos = config.getMaxLinger().toNanos();
+  }
+
+  @Override
+  public BatcherConfig<K, V> getConfig() {
+    return config;
+  }
+
+  @Override
+  public CompletableFuture<V> getAsync(K key) {
+    Assert.notNull(key, "key");
+    CompletableFuture<V> future = new CompletableFuture<>();
+    Batch<K, V> batch;
+    boolean first = false;
+    boolean full = false;
+    synchronized (this) {
+      if (pending == null) {
+        pending = new Batch<>();
+        first = true;
+      }
+      batch = pending;
+      batch.add(key, future);
+      if (batch.size() >= config.getMaxSize()) {
+        pending = null;
+        full = true;
+      }
+    }
+
+    future.whenComplete((result, error) -> {
+      if (future.isCancelled())
+        batch.cancelled();
+    });
+    if (full)
+      dispatch(batch);
+    else if (first)
+      scheduleLinger(batch);
+    return future;
+  }
+
+  @Override
+  public void flush() {
+    Batch<K, V> batch;
+    synchronized (this) {
+      batch = pending;
+      pending = null;
+    }
+    if (batch != null)
+      dispatch(batch);
+  }
+
+  /**
+   * Schedules the {@code batch} to be dispatched after the max linger time, else dispatches it now if it cannot be
+   * scheduled.
+   */
+  private void scheduleLinger(Batch<K, V> batch) {
+    Scheduler scheduler = failsafe.getScheduler();
+    try {
+      batch.setLingerFuture(scheduler.schedule(() -> {
+        dispatchIfPending(batch);
+        return null;
+      }, maxLingerNanos, TimeUnit.NANOSECONDS));
+    } catch (Throwable t) {
+      dispatchIfPending(batch);
+    }
+  }
+
+  private void dispatchIfPending(Batch<K, V> batch) {
+    synchronized (this) {
+      if (pending != batch)
+        return;
+      pending = null;
+    }
+    dispatch(batch);
+  }
+
+  /**
+   * Performs a bulk call for the keys in the {@code batch} that have not been cancelled, and completes the batch's
+   * futures with the results.
+   */
+  private void dispatch(Batch<K, V> batch) {
+    List<K> keys = batch.dispatch();
+    if (keys.isEmpty())
+      return;
+
+    CompletableFuture<Map<K, V>> bulkFuture = failsafe.getAsync(() -> config.getBulkFunction().apply(keys));
+    batch.setBulkFuture(bulkFuture);
+    bulkFuture.whenComplete(batch::complete);
+  }
+
+  /**
+   * A group of keys and the futures waiting for their values.
+   */
+  static final class Batch<K, V> {
+    // Mutable state guarded by "this"
+    private final Map<K, List<CompletableFuture<V>>> futures = new LinkedHashMap<>();
+    private int activeFutures;
+    private Future<?> lingerFuture;
+    private CompletableFuture<?> bulkFuture;
+
+    synchronized void add(K key, CompletableFuture<V> future) {
+      futures.computeIfAbsent(key, k -> new ArrayList<>(1)).add(future);
+      activeFutures++;
+    }
+
+    synchronized int size() {
+      return futures.size();
+    }
+
+    synchronized void setLingerFuture(Future<?> lingerFuture) {
+      this.lingerFuture = lingerFuture;
+    }
+
+    /**
+     * Returns the keys that have futures which are not done, cancelling any scheduled linger.
+     */
+    synchronized List<K> dispatch() {
+      if (lingerFuture != null)
+        lingerFuture.cancel(false);
+      List<K> keys = new ArrayList<>(futures.size());
+      for (Map.Entry<K, List<CompletableFuture<V>>> entry : futures.entrySet()) {
+        for (CompletableFuture<V> future : entry.getValue()) {
+          if (!future.isDone()) {
+            keys.add(entry.getKey());
+            break;
+          }
+        }
+      }
+      return keys;
+    }
+
+    void setBulkFuture(CompletableFuture<?> bulkFuture) {
+      boolean cancel;
+      synchronized (this) {
+        this.bulkFuture = bulkFuture;
+        cancel = activeFutures == 0;
+      }
+      if (cancel)
+        bulkFuture.cancel(false);
+    }
+
+    /**
+     * Handles a cancelled future, cancelling the bulk call if all futures were cancelled.
+     */
+    void cancelled() {
+      CompletableFuture<?> toCancel;
+      synchronized (this) {
+        toCancel = --activeFutures == 0 ? bulkFuture : null;
+      }
+      if (toCancel != null)
+        toCancel.cancel(false);
+    }
+
+    void complete(Map<K, V> results, Throwable error) {
+      List<Map.Entry<K, List<CompletableFuture<V>>>> entries;
+      synchronized (this) {
+        entries = new ArrayList<>(futures.entrySet());
+      }
+      for (Map.Entry<K, List<CompletableFuture<V>>> entry : entries) {
+        V value = error == null && results != null ? results.get(entry.getKey()) : null;
+        for (CompletableFuture<V> future : entry.getValue()) {
+          if (error != null)
+            future.completeExceptionally(error);
+          else
+            future.complete(value);
+        }
+      }
+    }
+  }
+}
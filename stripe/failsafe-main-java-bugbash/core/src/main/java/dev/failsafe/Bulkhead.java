@@ -61,12 +61,43 @@ public interface Bulkhead<R> extends Policy<R> {
     return new BulkheadImpl<>(new BulkheadConfig<>(maxConcurrency));
   }
 
+  /**
+   * An algorithm that adapts a bulkhead's concurrency limit to the latencies and failures of executions.
+   *
+   * @see BulkheadBuilder#withAdaptiveConcurrency(LimitAlgorithm, int)
+   */
+  enum LimitAlgorithm {
+    /**
+     * Additively increases the limit when executions succeed while the bulkhead is at least half full, and
+     * multiplicatively decreases the limit when executions fail.
+     */
+    AIMD,
+    /**
+     * Estimates the number of queued executions from the difference between the minimum and the current latency,
+     * increasing the limit when the queue is small and decreasing it when the queue is large.
+     */
+    VEGAS,
+    /**
+     * Moves the limit by the gradient between the long term average and the current latency, decreasing the limit when
+     * latencies rise above the long term average.
+     */
+    GRADIENT
+  }
+
   /**
    * Returns the {@link BulkheadConfig} that the Bulkhead was built with.
    */
   @Override
   BulkheadConfig<R> getConfig();
 
+  /**
+   * Returns the current concurrency limit, which is the configured {@link BulkheadConfig#getMaxConcurrency() max
+   * concurrency} unless the bulkhead was configured with an {@link BulkheadConfig#getLimitAlgorithm() adaptive limit}.
+   */
+  default int getConcurrencyLimit() {
+    return getConfig().getMaxConcurrency();
+  }
+
   /**
    * Attempts to acquire a permit to perform an execution against within the bulkhead, waiting until one is available or
    * the thread is interrupted. After execution is complete, the permit should be {@link #releasePermit() released} back
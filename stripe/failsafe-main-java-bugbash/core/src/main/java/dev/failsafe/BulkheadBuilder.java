@@ -47,6 +47,28 @@ public class BulkheadBuilder<R> extends PolicyBuilder<BulkheadBuilder<R>, Bulkhe
     return new BulkheadImpl<>(new BulkheadConfig<>(config));
   }
 
+  /**
+   * Configures the bulkhead to adapt its concurrency limit to the latencies and failures of executions using the {@code
+   * algorithm}, starting at the {@code initialConcurrency}. The limit moves between 1 and the max concurrency that the
+   * bulkhead was created with, and executions beyond the current limit wait up to the {@link #withMaxWaitTime(Duration)
+   * maxWaitTime} for a permit, as with a fixed limit.
+   * <p>
+   * Latencies are measured from the start of each execution attempt within the bulkhead until its result is recorded.
+   * Adaptive limits only observe executions that are performed with the {@link Failsafe} class, and do not adapt when
+   * the Bulkhead is used in a standalone way.
+   * </p>
+   *
+   * @throws NullPointerException if {@code algorithm} is null
+   * @throws IllegalArgumentException if {@code initialConcurrency} is < 1 or > the max concurrency
+   */
+  public BulkheadBuilder<R> withAdaptiveConcurrency(Bulkhead.LimitAlgorithm algorithm, int initialConcurrency) {
+    Assert.isTrue(initialConcurrency >= 1, "initialConcurrency must be >= 1");
+    Assert.isTrue(initialConcurrency <= config.maxConcurrency, "initialConcurrency must be <= maxConcurrency");
+    config.limitAlgorithm = Assert.notNull(algorithm, "algorithm");
+    config.initialConcurrency = initialConcurrency;
+    return this;
+  }
+
   /**
    * Configures the {@code maxWaitTime} to wait for permits to be available. If permits cannot be acquired before the
    * {@code maxWaitTime} is exceeded, then the bulkhead will throw {@link BulkheadFullException}.
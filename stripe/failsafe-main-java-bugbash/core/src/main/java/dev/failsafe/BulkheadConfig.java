@@ -26,20 +26,26 @@ import java.time.Duration;
 public class BulkheadConfig<R> extends PolicyConfig<R> {
   int maxConcurrency;
   Duration maxWaitTime;
+  Bulkhead.LimitAlgorithm limitAlgorithm;
+  int initialConcurrency;
 
   BulkheadConfig(int maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
     maxWaitTime = Duration.ZERO;
+    initialConcurrency = maxConcurrency;
   }
 
   BulkheadConfig(BulkheadConfig<R> config) {
     super(config);
     maxConcurrency = config.maxConcurrency;
     maxWaitTime = config.maxWaitTime;
+    limitAlgorithm = config.limitAlgorithm;
+    initialConcurrency = config.initialConcurrency;
   }
 
   /**
-   * Returns that max concurrent executions that are permitted within the bulkhead.
+   * Returns that max concurrent executions that are permitted within the bulkhead. When an {@link #getLimitAlgorithm()
+   * adaptive limit} is configured, this is the upper bound of the limit.
    *
    * @see Bulkhead#builder(int)
    */
@@ -60,4 +66,24 @@ public class BulkheadConfig<R> extends PolicyConfig<R> {
   public Duration getMaxWaitTime() {
     return maxWaitTime;
   }
+
+  /**
+   * Returns the algorithm that adapts the concurrency limit to the latencies and failures of executions, else {@code
+   * null} if the concurrency limit is fixed at the {@link #getMaxConcurrency() max concurrency}.
+   *
+   * @see BulkheadBuilder#withAdaptiveConcurrency(Bulkhead.LimitAlgorithm, int)
+   */
+  public Bulkhead.LimitAlgorithm getLimitAlgorithm() {
+    return limitAlgorithm;
+  }
+
+  /**
+   * Returns the concurrency limit that the bulkhead starts with. Defaults to the {@link #getMaxConcurrency() max
+   * concurrency}.
+   *
+   * @see BulkheadBuilder#withAdaptiveConcurrency(Bulkhead.LimitAlgorithm, int)
+   */
+  public int getInitialConcurrency() {
+    return initialConcurrency;
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * A policy that caches successful execution results for a time to live, short-circuiting executions when a cached
+ * result is present. Results that complete without an exception are cached, and when the cache is full, entries are
+ * evicted according to its {@link CacheBuilder#withEvictionPolicy(EvictionPolicy) eviction policy}.
+ * <p>
+ * Since policies do not see the arguments of the functions they execute, a Cache that is used directly caches a single
+ * result, and results for different arguments are cached via {@link #forKey(Object) keyed views} of the Cache, which
+ * share its entries and size bound:
+ * </p>
+ * <pre>{@code
+ * Failsafe.with(fallback, cache.forKey(userId), retryPolicy, circuitBreaker).get(() -> userService.load(userId));
+ * }</pre>
+ * <p>
+ * A Cache is typically composed inside of a {@link Fallback} and outside of policies such as {@link RetryPolicy} and
+ * {@link CircuitBreaker}, so that cache hits skip them. Asynchronous executions can be configured to {@link
+ * CacheBuilder#withStaleWhileRevalidate(Duration) serve stale results} while a result is revalidated in the background.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CacheConfig
+ * @see CacheBuilder
+ */
+public interface Cache<R> extends Policy<R> {
+  /**
+   * Returns a {@link CacheBuilder} that builds {@link Cache} instances that hold up to {@code maxSize} results for the
+   * {@code ttl}.
+   *
+   * @throws NullPointerException if {@code ttl} is null
+   * @throws IllegalArgumentException if {@code maxSize} < 1 or {@code ttl} <= 0
+   */
+  static <R> CacheBuilder<R> builder(int maxSize, Duration ttl) {
+    Assert.isTrue(maxSize >= 1, "maxSize must be >= 1");
+    Assert.notNull(ttl, "ttl");
+    Assert.isTrue(ttl.toNanos() > 0, "ttl must be > 0");
+    return new CacheBuilder<>(maxSize, ttl);
+  }
+
+  /**
+   * Creates a new CacheBuilder that will be based on the {@code config}.
+   */
+  static <R> CacheBuilder<R> builder(CacheConfig<R> config) {
+    return new CacheBuilder<>(config);
+  }
+
+  /**
+   * Returns a {@link Cache} that holds up to {@code maxSize} results for the {@code ttl}. Alias for {@code
+   * Cache.builder(maxSize, ttl).build()}. To configure additional options on a Cache, use {@link #builder(int,
+   * Duration)} instead.
+   *
+   * @param <R> result type
+   * @throws NullPointerException if {@code ttl} is null
+   * @throws IllegalArgumentException if {@code maxSize} < 1 or {@code ttl} <= 0
+   * @see #builder(int, Duration)
+   */
+  static <R> Cache<R> of(int maxSize, Duration ttl) {
+    return Cache.<R>builder(maxSize, ttl).build();
+  }
+
+  /**
+   * The policy used to choose which entries to evict when a cache is full.
+   */
+  enum EvictionPolicy {
+    /** Evicts the least recently used entry. */
+    LRU,
+    /**
+     * Admits new entries through a small LRU window, after which they replace the least recently used entry of the main
+     * cache only if they have been used more frequently, as estimated by a frequency sketch. This protects frequently
+     * used entries from being flushed by one-off lookups.
+     */
+    TINY_LFU
+  }
+
+  /**
+   * Returns the {@link CacheConfig} that the Cache was built with.
+   */
+  @Override
+  CacheConfig<R> getConfig();
+
+  /**
+   * Returns a view of this Cache that caches results under the {@code key}, sharing entries and the size bound with this
+   * Cache. Keys must implement {@code equals} and {@code hashCode}.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  Cache<R> forKey(Object key);
+
+  /**
+   * Removes the result cached for this Cache's key, if any.
+   */
+  void invalidate();
+
+  /**
+   * Removes all cached results, including those cached for other keys.
+   */
+  void invalidateAll();
+
+  /**
+   * Returns the number of cached results, including those for other keys, that may be expired.
+   */
+  int size();
+}
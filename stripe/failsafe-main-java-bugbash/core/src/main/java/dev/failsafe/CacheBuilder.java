@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.AsyncRunnable;
+import dev.failsafe.internal.CacheImpl;
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link Cache} instances.
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CacheConfig
+ */
+public class CacheBuilder<R> extends PolicyBuilder<CacheBuilder<R>, CacheConfig<R>, R> {
+  CacheBuilder(int maxSize, Duration ttl) {
+    super(new CacheConfig<>(maxSize, ttl));
+  }
+
+  CacheBuilder(CacheConfig<R> config) {
+    super(new CacheConfig<>(config));
+  }
+
+  /**
+   * Builds a new {@link Cache} using the builder's configuration.
+   */
+  public Cache<R> build() {
+    return new CacheImpl<>(new CacheConfig<>(config));
+  }
+
+  /**
+   * Configures the {@code evictionPolicy} used to choose which entries to evict when the cache is full.
+   *
+   * @throws NullPointerException if {@code evictionPolicy} is null
+   */
+  public CacheBuilder<R> withEvictionPolicy(Cache.EvictionPolicy evictionPolicy) {
+    config.evictionPolicy = Assert.notNull(evictionPolicy, "evictionPolicy");
+    return this;
+  }
+
+  /**
+   * Configures expired results to be returned for up to {@code staleWhileRevalidate} after their ttl, while a new
+   * result is computed in the background by the policies and function that the Cache wraps. Only one revalidation is
+   * performed at a time for each key, and the stale result is replaced when the revalidation succeeds.
+   * <p>
+   * Revalidation only applies to asynchronous executions such as {@link FailsafeExecutor#getAsync}. Synchronous
+   * executions and {@link FailsafeExecutor#getAsyncExecution(AsyncRunnable) async executions} treat expired results as
+   * missing.
+   * </p>
+   *
+   * @throws NullPointerException if {@code staleWhileRevalidate} is null
+   * @throws IllegalArgumentException if {@code staleWhileRevalidate} < 0
+   */
+  public CacheBuilder<R> withStaleWhileRevalidate(Duration staleWhileRevalidate) {
+    Assert.notNull(staleWhileRevalidate, "staleWhileRevalidate");
+    Assert.isTrue(!staleWhileRevalidate.isNegative(), "staleWhileRevalidate must be >= 0");
+    config.staleWhileRevalidate = staleWhileRevalidate;
+    return this;
+  }
+}
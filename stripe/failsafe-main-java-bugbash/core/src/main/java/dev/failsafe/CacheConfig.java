@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import java.time.Duration;
+
+/**
+ * Configuration for a {@link Cache}.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CacheBuilder
+ */
+public class CacheConfig<R> extends PolicyConfig<R> {
+  int maxSize;
+  Duration ttl;
+  Cache.EvictionPolicy evictionPolicy;
+  Duration staleWhileRevalidate;
+
+  CacheConfig(int maxSize, Duration ttl) {
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    evictionPolicy = Cache.EvictionPolicy.LRU;
+    staleWhileRevalidate = Duration.ZERO;
+  }
+
+  CacheConfig(CacheConfig<R> config) {
+    super(config);
+    maxSize = config.maxSize;
+    ttl = config.ttl;
+    evictionPolicy = config.evictionPolicy;
+    staleWhileRevalidate = config.staleWhileRevalidate;
+  }
+
+  /**
+   * Returns the max number of results that can be cached.
+   *
+   * @see Cache#builder(int, Duration)
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the time to live of cached results, after which they are no longer returned, unless they can be {@link
+   * #getStaleWhileRevalidate() served while stale}.
+   *
+   * @see Cache#builder(int, Duration)
+   */
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  /**
+   * Returns the policy used to choose which entries to evict when the cache is full. Defaults to {@link
+   * Cache.EvictionPolicy#LRU}.
+   *
+   * @see CacheBuilder#withEvictionPolicy(Cache.EvictionPolicy)
+   */
+  public Cache.EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Returns the time after the {@link #getTtl() ttl} during which an expired result can be returned to asynchronous
+   * executions while it is revalidated in the background. Defaults to {@link Duration#ZERO}, meaning that expired
+   * results are not returned.
+   *
+   * @see CacheBuilder#withStaleWhileRevalidate(Duration)
+   */
+  public Duration getStaleWhileRevalidate() {
+    return staleWhileRevalidate;
+  }
+}
@@ -208,6 +208,24 @@ public interface CircuitBreaker<R> extends Policy<R> {
    */
   int getSuccessRate();
 
+  /**
+   * Returns the number of slow executions recorded in the current state when the state is CLOSED or HALF_OPEN. When the
+   * state is OPEN, returns the slow executions recorded during the previous CLOSED state. Returns {@code 0} if slow call
+   * thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  int getSlowCallCount();
+
+  /**
+   * The percentage rate of slow executions, from 0 to 100, in the current state when the state is CLOSED or HALF_OPEN.
+   * When the state is OPEN, returns the rate recorded during the previous CLOSED state. Returns {@code 0} if slow call
+   * thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  int getSlowCallRate();
+
   /**
    * Returns whether the circuit is closed.
    */
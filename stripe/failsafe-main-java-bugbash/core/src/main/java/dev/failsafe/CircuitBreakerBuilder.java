@@ -105,6 +105,21 @@ public class CircuitBreakerBuilder<R>
     return this;
   }
 
+  /**
+   * Configures the circuit breaker to record execution results using lock-free stats, so that recording results does
+   * not serialize callers that share the circuit breaker. This is useful for circuit breakers that are used by many
+   * threads concurrently. For time based thresholding, results are counted in buckets that are rotated via CAS and
+   * that use striped counters. For count based thresholding, results are stored in a ring of atomically claimed slots
+   * that are packed into bit arrays. Since results are recorded without locking, thresholding decisions may be based on
+   * stats that are momentarily inconsistent with concurrently recorded results.
+   *
+   * @see CircuitBreakerConfig#isConcurrentStats()
+   */
+  public CircuitBreakerBuilder<R> withConcurrentStats() {
+    config.concurrentStats = true;
+    return this;
+  }
+
   /**
    * Sets the {@code delay} to wait in OPEN state before transitioning to half-open.
    *
@@ -266,6 +281,36 @@ public class CircuitBreakerBuilder<R>
     Assert.isTrue(failureThresholdingPeriod.toMillis() >= 10, "failureThresholdingPeriod must be >= 10 ms");
   }
 
+  /**
+   * Configures slow call thresholding by setting the {@code slowCallThreshold} at or beyond which an execution is
+   * considered slow, and the percentage rate of slow executions, from 1 to 100, that must occur when in a CLOSED or
+   * HALF_OPEN state in order to open the circuit. This allows the circuit to be opened when executions are succeeding
+   * but are taking too long, such as when a dependency is degraded.
+   * <p>
+   * Slow executions are tracked separately from failures, using the same count or time based thresholding as failures,
+   * and the slow call rate is only considered once the thresholding capacity or failure execution threshold is met. In
+   * the HALF_OPEN state, the circuit is re-opened rather than closed if the slow call rate is exceeded when the success
+   * threshold is met.
+   * </p>
+   *
+   * @param slowCallThreshold The duration at or beyond which an execution is considered slow
+   * @param slowCallRateThreshold The percentage rate of slow executions, from 1 to 100, that must occur in order to
+   * open the circuit
+   * @throws NullPointerException if {@code slowCallThreshold} is null
+   * @throws IllegalArgumentException if {@code slowCallThreshold} <= 0, or {@code slowCallRateThreshold} < 1 or > 100
+   * @see CircuitBreakerConfig#getSlowCallThreshold()
+   * @see CircuitBreakerConfig#getSlowCallRateThreshold()
+   */
+  public CircuitBreakerBuilder<R> withSlowCallThreshold(Duration slowCallThreshold, int slowCallRateThreshold) {
+    Assert.notNull(slowCallThreshold, "slowCallThreshold");
+    Assert.isTrue(slowCallThreshold.compareTo(Duration.ZERO) > 0, "slowCallThreshold must be > 0");
+    Assert.isTrue(slowCallRateThreshold >= 1 && slowCallRateThreshold <= 100,
+      "slowCallRateThreshold must be between 1 and 100");
+    config.slowCallThreshold = slowCallThreshold;
+    config.slowCallRateThreshold = slowCallRateThreshold;
+    return this;
+  }
+
   /**
    * Configures count based success thresholding by setting the number of consecutive successful executions that must
    * occur when in a HALF_OPEN state in order to close the circuit, else the circuit is re-opened when a failure
@@ -42,6 +42,13 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
   int successThreshold;
   int successThresholdingCapacity;
 
+  // Slow call config
+  Duration slowCallThreshold;
+  int slowCallRateThreshold;
+
+  // Stats config
+  boolean concurrentStats;
+
   // Listeners
   EventListener<CircuitBreakerStateChangedEvent> openListener;
   EventListener<CircuitBreakerStateChangedEvent> halfOpenListener;
@@ -59,6 +66,9 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     failureThresholdingPeriod = config.failureThresholdingPeriod;
     successThreshold = config.successThreshold;
     successThresholdingCapacity = config.successThresholdingCapacity;
+    slowCallThreshold = config.slowCallThreshold;
+    slowCallRateThreshold = config.slowCallRateThreshold;
+    concurrentStats = config.concurrentStats;
     openListener = config.openListener;
     halfOpenListener = config.halfOpenListener;
     closeListener = config.closeListener;
@@ -158,6 +168,36 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     return successThresholdingCapacity;
   }
 
+  /**
+   * Returns the duration at or beyond which an execution is considered slow, else {@code null} if slow call
+   * thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  public Duration getSlowCallThreshold() {
+    return slowCallThreshold;
+  }
+
+  /**
+   * Returns the percentage rate of slow executions, from 1 to 100, that must occur when in a CLOSED or HALF_OPEN state
+   * in order to open the circuit, else {@code 0} if slow call thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  public int getSlowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
+  /**
+   * Returns whether execution results are recorded using lock-free stats that scale with concurrent callers. Returns
+   * {@code false} by default.
+   *
+   * @see CircuitBreakerBuilder#withConcurrentStats()
+   */
+  public boolean isConcurrentStats() {
+    return concurrentStats;
+  }
+
   /**
    * Returns the open event listener.
    *
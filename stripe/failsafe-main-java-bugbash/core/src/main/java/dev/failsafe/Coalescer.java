@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.AsyncRunnable;
+
+/**
+ * A policy that coalesces concurrent asynchronous executions for the same key into a single execution, sometimes
+ * called single-flight. While an execution is in flight, other executions for the same key wait for and complete with
+ * its result rather than running the policies and function that the Coalescer wraps. Once the execution completes,
+ * later executions start a new flight, so results are not cached.
+ * <p>
+ * Since policies do not see the arguments of the functions they execute, a Coalescer that is used directly coalesces all
+ * executions, and executions for different arguments are coalesced via {@link #forKey(Object) keyed views} of the
+ * Coalescer:
+ * </p>
+ * <pre>{@code
+ * Failsafe.with(coalescer.forKey(userId), retryPolicy).getAsync(() -> userService.load(userId));
+ * }</pre>
+ * <p>
+ * The shared execution runs separately from the execution that started it, so cancelling a waiting execution,
+ * including by an outer policy such as a {@link Timeout}, only removes it from the flight, and the shared execution is
+ * cancelled when all of its waiters have been cancelled. Synchronous executions and {@link
+ * FailsafeExecutor#getAsyncExecution(AsyncRunnable) async executions}, whose results are recorded by the caller, are
+ * not coalesced.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CoalescerConfig
+ * @see CoalescerBuilder
+ */
+public interface Coalescer<R> extends Policy<R> {
+  /**
+   * Returns a {@link CoalescerBuilder} that builds {@link Coalescer} instances.
+   */
+  static <R> CoalescerBuilder<R> builder() {
+    return new CoalescerBuilder<>();
+  }
+
+  /**
+   * Creates a new CoalescerBuilder that will be based on the {@code config}.
+   */
+  static <R> CoalescerBuilder<R> builder(CoalescerConfig<R> config) {
+    return new CoalescerBuilder<>(config);
+  }
+
+  /**
+   * Returns a {@link Coalescer}. Alias for {@code Coalescer.builder().build()}. To configure additional options on a
+   * Coalescer, use {@link #builder()} instead.
+   *
+   * @param <R> result type
+   * @see #builder()
+   */
+  static <R> Coalescer<R> create() {
+    return Coalescer.<R>builder().build();
+  }
+
+  /**
+   * Returns the {@link CoalescerConfig} that the Coalescer was built with.
+   */
+  @Override
+  CoalescerConfig<R> getConfig();
+
+  /**
+   * Returns a view of this Coalescer that coalesces executions for the {@code key}, sharing in-flight executions with
+   * this Coalescer. Keys must implement {@code equals} and {@code hashCode}.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  Coalescer<R> forKey(Object key);
+}
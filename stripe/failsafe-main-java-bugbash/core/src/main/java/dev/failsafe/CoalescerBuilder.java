@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.CoalescerImpl;
+
+/**
+ * Builds {@link Coalescer} instances.
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CoalescerConfig
+ */
+public class CoalescerBuilder<R> extends PolicyBuilder<CoalescerBuilder<R>, CoalescerConfig<R>, R> {
+  CoalescerBuilder() {
+    super(new CoalescerConfig<>());
+  }
+
+  CoalescerBuilder(CoalescerConfig<R> config) {
+    super(new CoalescerConfig<>(config));
+  }
+
+  /**
+   * Builds a new {@link Coalescer} using the builder's configuration.
+   */
+  public Coalescer<R> build() {
+    return new CoalescerImpl<>(new CoalescerConfig<>(config));
+  }
+}
@@ -19,7 +19,9 @@ import dev.failsafe.function.CheckedRunnable;
 import dev.failsafe.internal.util.Assert;
 import dev.failsafe.spi.ExecutionInternal;
 import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.Metrics;
 import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -38,6 +40,8 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   // -- Cross-attempt state --
 
   final List<PolicyExecutor<R>> policyExecutors;
+  // Where execution times are read from
+  final Ticker ticker;
   // When the first execution attempt was started
   private volatile Duration startTime;
   // Number of execution attempts
@@ -53,8 +57,8 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   private final ExecutionResult<R> previousResult;
   // The result of the current execution attempt;
   volatile ExecutionResult<R> result;
-  // When the most recent execution attempt was started
-  volatile Duration attemptStartTime;
+  // When the most recent execution attempt was started, in nanoseconds
+  volatile long attemptStartNanos;
   // The index of a PolicyExecutor that cancelled the execution. Integer.MIN_VALUE represents non-cancelled.
   volatile int cancelledIndex = Integer.MIN_VALUE;
   // The user-provided callback to be called when an execution is cancelled
@@ -67,24 +71,16 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   volatile boolean completed;
 
   /**
-   * Creates a new execution for the {@code policies}.
+   * Creates a new execution for the {@code policyExecutors} whose times are read from the {@code ticker}.
    */
-  ExecutionImpl(List<? extends Policy<R>> policies) {
-    policyExecutors = new ArrayList<>(policies.size());
+  ExecutionImpl(List<PolicyExecutor<R>> policyExecutors, Ticker ticker) {
+    this.policyExecutors = policyExecutors;
+    this.ticker = ticker;
     startTime = Duration.ZERO;
-    attemptStartTime = Duration.ZERO;
     attempts = new AtomicInteger();
     executions = new AtomicInteger();
     latest = new AtomicReference<>(this);
     previousResult = null;
-
-    // Create policy executors
-    ListIterator<? extends Policy<R>> policyIterator = policies.listIterator(policies.size());
-    for (int i = 0; policyIterator.hasPrevious(); i++) {
-      Policy<R> policy = Assert.notNull(policyIterator.previous(), "policies");
-      PolicyExecutor<R> policyExecutor = policy.toExecutor(i);
-      policyExecutors.add(policyExecutor);
-    }
   }
 
   /**
@@ -92,6 +88,7 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
    */
   ExecutionImpl(ExecutionImpl<R> execution) {
     policyExecutors = execution.policyExecutors;
+    ticker = execution.ticker;
     startTime = execution.startTime;
     attempts = execution.attempts;
     executions = execution.executions;
@@ -103,12 +100,31 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   /** Used for testing purposes only */
   ExecutionImpl(ExecutionResult<R> previousResult) {
     policyExecutors = null;
+    ticker = Ticker.defaultTicker();
     attempts = new AtomicInteger();
     executions = new AtomicInteger();
     latest = new AtomicReference<>(this);
     this.previousResult = previousResult;
   }
 
+  /**
+   * Returns policy executors for the {@code policies}, sorted innermost first, which record to the {@code metrics}.
+   *
+   * @throws NullPointerException if any policy is null
+   */
+  static <R> List<PolicyExecutor<R>> toPolicyExecutors(List<? extends Policy<R>> policies, Metrics metrics) {
+    List<PolicyExecutor<R>> policyExecutors = new ArrayList<>(policies.size());
+    ListIterator<? extends Policy<R>> policyIterator = policies.listIterator(policies.size());
+    for (int i = 0; policyIterator.hasPrevious(); i++) {
+      Policy<R> policy = Assert.notNull(policyIterator.previous(), "policies");
+      PolicyExecutor<R> policyExecutor = policy.toExecutor(i);
+      if (metrics != Metrics.NONE)
+        policyExecutor.setMetrics(metrics.forPolicy(policy));
+      policyExecutors.add(policyExecutor);
+    }
+    return policyExecutors;
+  }
+
   @Override
   public ExecutionResult<R> getResult() {
     return result;
@@ -122,9 +138,9 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   @Override
   public synchronized void preExecute() {
     if (!preExecuted) {
-      attemptStartTime = Duration.ofNanos(System.nanoTime());
+      attemptStartNanos = ticker.read();
       if (startTime == Duration.ZERO)
-        startTime = attemptStartTime;
+        startTime = Duration.ofNanos(attemptStartNanos);
       preExecuted = true;
     }
   }
@@ -220,12 +236,22 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
 
   @Override
   public Duration getElapsedTime() {
-    return Duration.ofNanos(System.nanoTime() - startTime.toNanos());
+    return Duration.ofNanos(getElapsedNanos());
+  }
+
+  @Override
+  public long getElapsedNanos() {
+    return ticker.read() - startTime.toNanos();
   }
 
   @Override
   public Duration getElapsedAttemptTime() {
-    return Duration.ofNanos(System.nanoTime() - attemptStartTime.toNanos());
+    return Duration.ofNanos(getElapsedAttemptNanos());
+  }
+
+  @Override
+  public long getElapsedAttemptNanos() {
+    return ticker.read() - attemptStartNanos;
   }
 
   @Override
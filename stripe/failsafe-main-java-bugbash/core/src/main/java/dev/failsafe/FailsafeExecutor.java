@@ -15,15 +15,17 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.event.EventDispatch;
 import dev.failsafe.event.EventListener;
 import dev.failsafe.event.ExecutionCompletedEvent;
 import dev.failsafe.function.*;
-import dev.failsafe.internal.EventHandler;
 import dev.failsafe.internal.util.Assert;
 import dev.failsafe.spi.AsyncExecutionInternal;
 import dev.failsafe.spi.ExecutionResult;
 import dev.failsafe.spi.FailsafeFuture;
+import dev.failsafe.spi.Metrics;
 import dev.failsafe.spi.Scheduler;
+import dev.failsafe.spi.Ticker;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,18 +51,26 @@ import static dev.failsafe.Functions.*;
  */
 public class FailsafeExecutor<R> {
   private Scheduler scheduler = Scheduler.DEFAULT;
+  private Metrics metrics = Metrics.NONE;
+  private Ticker ticker = Ticker.defaultTicker();
   private Executor executor;
   /** Policies sorted outermost first */
   final List<? extends Policy<R>> policies;
-  private volatile EventHandler<R> completeHandler;
-  private volatile EventHandler<R> failureHandler;
-  private volatile EventHandler<R> successHandler;
+  // Whether sync executions can reuse a chain, since none of the policies hold per-execution state
+  private final boolean reusableSyncChain;
+  // A chain that's reused by sync executions
+  volatile SyncExecutionImpl.Chain<R> syncChain;
+  private volatile EventDispatch eventDispatch = EventDispatch.sync();
+  private volatile EventListener<ExecutionCompletedEvent<R>> completeListener;
+  private volatile EventListener<ExecutionCompletedEvent<R>> failureListener;
+  private volatile EventListener<ExecutionCompletedEvent<R>> successListener;
 
   /**
    * @throws IllegalArgumentException if {@code policies} is empty
    */
   FailsafeExecutor(List<? extends Policy<R>> policies) {
     this.policies = policies;
+    reusableSyncChain = isStateless(policies);
   }
 
   /**
@@ -274,7 +284,7 @@ public class FailsafeExecutor<R> {
    * <p>Note: Any exceptions that are thrown from within the {@code listener} are ignored.</p>
    */
   public FailsafeExecutor<R> onComplete(EventListener<ExecutionCompletedEvent<R>> listener) {
-    completeHandler = EventHandler.ofExecutionCompleted(Assert.notNull(listener, "listener"));
+    completeListener = Assert.notNull(listener, "listener");
     return this;
   }
 
@@ -285,7 +295,7 @@ public class FailsafeExecutor<R> {
    * result for a failed execution, use a {@link Fallback}.</p>
    */
   public FailsafeExecutor<R> onFailure(EventListener<ExecutionCompletedEvent<R>> listener) {
-    failureHandler = EventHandler.ofExecutionCompleted(Assert.notNull(listener, "listener"));
+    failureListener = Assert.notNull(listener, "listener");
     return this;
   }
 
@@ -296,7 +306,7 @@ public class FailsafeExecutor<R> {
    * <p>Note: Any exceptions that are thrown from within the {@code listener} are ignored.</p>
    */
   public FailsafeExecutor<R> onSuccess(EventListener<ExecutionCompletedEvent<R>> listener) {
-    successHandler = EventHandler.ofExecutionCompleted(Assert.notNull(listener, "listener"));
+    successListener = Assert.notNull(listener, "listener");
     return this;
   }
 
@@ -366,16 +376,101 @@ public class FailsafeExecutor<R> {
     return this;
   }
 
+  /**
+   * Configures how events are dispatched to the listeners that are registered with this executor, such as via reusable
+   * events, or asynchronously so that slow listeners do not delay executions. Defaults to {@link EventDispatch#sync()}.
+   *
+   * @throws NullPointerException if {@code eventDispatch} is null
+   * @see EventDispatch
+   */
+  public FailsafeExecutor<R> with(EventDispatch eventDispatch) {
+    this.eventDispatch = Assert.notNull(eventDispatch, "eventDispatch");
+    return this;
+  }
+
+  /**
+   * Configures the {@code metrics} that executions of each policy are recorded to, such as {@link
+   * dev.failsafe.spi.StripedMetrics}. Unlike event listeners, metrics are recorded without allocating per execution.
+   *
+   * @throws NullPointerException if {@code metrics} is null
+   */
+  public FailsafeExecutor<R> withMetrics(Metrics metrics) {
+    this.metrics = Assert.notNull(metrics, "metrics");
+    return this;
+  }
+
+  /**
+   * Returns the metrics that executions are recorded to.
+   */
+  Metrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Configures the {@code ticker} that execution times, such as {@link ExecutionContext#getElapsedTime()} and {@link
+   * ExecutionContext#getElapsedAttemptTime()}, are read from. Defaults to {@link Ticker#defaultTicker()}. Policies read
+   * time from their own {@link PolicyBuilder#withTicker(Ticker) ticker}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   */
+  public FailsafeExecutor<R> with(Ticker ticker) {
+    this.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
+
+  /**
+   * Returns the ticker that execution times are read from.
+   */
+  Ticker getTicker() {
+    return ticker;
+  }
+
+  /**
+   * Returns the scheduler that asynchronous executions are performed with.
+   */
+  Scheduler getScheduler() {
+    return scheduler;
+  }
+
   /**
    * Calls the {@code innerSupplier} synchronously, handling results according to the configured policies.
    */
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private <T> T call(ContextualSupplier<T, T> innerSupplier) {
-    SyncExecutionImpl<T> execution = new SyncExecutionImpl(this, scheduler, null,
+    SyncExecutionImpl<T> execution = new SyncExecutionImpl(this, syncChain(), null,
       Functions.get(innerSupplier, executor));
     return execution.executeSync();
   }
 
+  /**
+   * Returns a chain for a sync execution, reusing the previous chain if the policies are stateless and the scheduler and
+   * metrics are unchanged.
+   */
+  private SyncExecutionImpl.Chain<R> syncChain() {
+    Scheduler scheduler = this.scheduler;
+    Metrics metrics = this.metrics;
+    if (!reusableSyncChain)
+      return new SyncExecutionImpl.Chain<>(policies, scheduler, metrics);
+    SyncExecutionImpl.Chain<R> chain = syncChain;
+    if (chain == null || chain.scheduler != scheduler || chain.metrics != metrics)
+      syncChain = chain = new SyncExecutionImpl.Chain<>(policies, scheduler, metrics);
+    return chain;
+  }
+
+  /**
+   * Returns whether the {@code policies} create policy executors that hold no per-execution state, so that their
+   * executors can be shared by concurrent executions. RetryPolicy and custom policies are assumed to be stateful.
+   */
+  private static boolean isStateless(List<? extends Policy<?>> policies) {
+    for (Policy<?> policy : policies) {
+      if (!(policy instanceof CircuitBreaker || policy instanceof Bulkhead || policy instanceof RateLimiter
+        || policy instanceof Timeout || policy instanceof Fallback || policy instanceof Hedge
+        || policy instanceof Cache || policy instanceof Coalescer))
+        return false;
+    }
+    return true;
+  }
+
   /**
    * Returns a Call that calls the {@code innerSupplier} synchronously, handling results according to the configured
    * policies.
@@ -383,7 +478,7 @@ public class FailsafeExecutor<R> {
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private <T> Call<T> callSync(ContextualSupplier<T, T> innerSupplier) {
     CallImpl<T> call = new CallImpl<>();
-    new SyncExecutionImpl(this, scheduler, call, Functions.get(innerSupplier, executor));
+    new SyncExecutionImpl(this, syncChain(), call, Functions.get(innerSupplier, executor));
     return call;
   }
 
@@ -400,20 +495,21 @@ public class FailsafeExecutor<R> {
     Function<FailsafeFuture<T>, Function<AsyncExecutionInternal<T>, CompletableFuture<ExecutionResult<T>>>> innerFn,
     boolean asyncExecution) {
 
-    FailsafeFuture<T> future = new FailsafeFuture(completionHandler);
-    AsyncExecutionImpl<T> execution = new AsyncExecutionImpl(policies, scheduler, future, asyncExecution,
-      innerFn.apply(future));
+    FailsafeFuture<T> future = new FailsafeFuture(completionHandler, policies.size());
+    AsyncExecutionImpl<T> execution = new AsyncExecutionImpl(policies, scheduler, metrics, ticker, future, asyncExecution,
+      innerFn);
     future.setExecution(execution);
     execution.executeAsync();
     return future;
   }
 
   final BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler = (result, context) -> {
-    if (successHandler != null && result.getSuccessAll())
-      successHandler.handle(result, context);
-    else if (failureHandler != null && !result.getSuccessAll())
-      failureHandler.handle(result, context);
-    if (completeHandler != null)
-      completeHandler.handle(result, context);
+    EventDispatch dispatch = eventDispatch;
+    if (successListener != null && result.getSuccessAll())
+      dispatch.dispatchCompleted(successListener, result.getResult(), result.getException(), context);
+    else if (failureListener != null && !result.getSuccessAll())
+      dispatch.dispatchCompleted(failureListener, result.getResult(), result.getException(), context);
+    if (completeListener != null)
+      dispatch.dispatchCompleted(completeListener, result.getResult(), result.getException(), context);
   };
 }
\ No newline at end of file
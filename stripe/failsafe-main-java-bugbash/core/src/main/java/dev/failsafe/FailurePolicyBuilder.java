@@ -17,6 +17,7 @@ package dev.failsafe;
 
 import dev.failsafe.function.CheckedBiPredicate;
 import dev.failsafe.function.CheckedPredicate;
+import dev.failsafe.internal.FailureClassifier;
 import dev.failsafe.internal.util.Assert;
 
 import java.util.Arrays;
@@ -175,16 +176,10 @@ public abstract class FailurePolicyBuilder<S, C extends FailurePolicyConfig<RESU
   }
 
   /**
-   * Returns a predicate that returns whether any of the {@code failures} are assignable from an execution failure.
+   * Returns a predicate that returns whether any of the {@code failures} are assignable from an execution failure. The
+   * result is cached per execution failure type.
    */
   static <RESULT> CheckedBiPredicate<RESULT, Throwable> throwablePredicateForMultipleThrowables(List<Class<? extends Throwable>> failures) {
-    return (executionResult, executionException) -> {
-      if (executionException == null)
-        return false;
-      for (Class<? extends Throwable> failureType : failures)
-        if (failureType.isAssignableFrom(executionException.getClass()))
-          return true;
-      return false;
-    };
+    return FailureClassifier.exceptionTypes(failures);
   }
 }
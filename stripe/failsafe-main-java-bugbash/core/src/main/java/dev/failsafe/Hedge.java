@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.AsyncRunnable;
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * A policy that races hedged attempts against a slow execution. If an execution attempt has not completed within a
+ * delay, a hedged attempt is started concurrently, up to a {@link HedgeBuilder#withMaxHedges(int) max} number of
+ * hedges. The first successful result wins, and the remaining attempts are cancelled and optionally {@link
+ * HedgeBuilder#withInterrupt() interrupted}. If all attempts fail, the last failure is returned. The delay is either
+ * fixed, or a {@link HedgeBuilder#withDelayPercentile(double) percentile} of recent attempt latencies.
+ * <p>
+ * Hedged attempts are started on the configured scheduler or the common pool, so hedging is only performed for
+ * asynchronous executions such as {@link FailsafeExecutor#getAsync}. Synchronous executions and {@link
+ * FailsafeExecutor#getAsyncExecution(AsyncRunnable) async executions}, whose threads are unknown to Failsafe, are
+ * performed as a single attempt whose latency is still tracked.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see HedgeConfig
+ * @see HedgeBuilder
+ */
+public interface Hedge<R> extends Policy<R> {
+  /**
+   * Returns a {@link HedgeBuilder} that builds {@link Hedge} instances that start a hedged attempt after the {@code
+   * delay}.
+   *
+   * @throws NullPointerException if {@code delay} is null
+   * @throws IllegalArgumentException if {@code delay} <= 0
+   */
+  static <R> HedgeBuilder<R> builder(Duration delay) {
+    Assert.notNull(delay, "delay");
+    Assert.isTrue(delay.toNanos() > 0, "delay must be > 0");
+    return new HedgeBuilder<>(delay);
+  }
+
+  /**
+   * Creates a new HedgeBuilder that will be based on the {@code config}.
+   */
+  static <R> HedgeBuilder<R> builder(HedgeConfig<R> config) {
+    return new HedgeBuilder<>(config);
+  }
+
+  /**
+   * Returns a {@link Hedge} that starts one hedged attempt after the {@code delay}. Alias for {@code
+   * Hedge.builder(delay).build()}. To configure additional options on a Hedge, use {@link #builder(Duration)} instead.
+   *
+   * @param <R> result type
+   * @throws NullPointerException if {@code delay} is null
+   * @throws IllegalArgumentException if {@code delay} <= 0
+   * @see #builder(Duration)
+   */
+  static <R> Hedge<R> of(Duration delay) {
+    return Hedge.<R>builder(delay).build();
+  }
+
+  /**
+   * Returns the {@link HedgeConfig} that the Hedge was built with.
+   */
+  @Override
+  HedgeConfig<R> getConfig();
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.HedgeImpl;
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link Hedge} instances.
+ * <ul>
+ *   <li>By default, an attempt that completes with any exception is considered a failure, and does not win the race
+ *   against other attempts unless it is the last attempt to complete. You can override this by specifying your own
+ *   {@code handle} conditions.</li>
+ * </ul>
+ * <p>
+ * Note:
+ * <ul>
+ *   <li>This class extends {@link FailurePolicyBuilder} which offers additional configuration.</li>
+ *   <li>This class is <i>not</i> threadsafe.</li>
+ * </ul>
+ * </p>
+ *
+ * @param <R> result type
+ * @see HedgeConfig
+ */
+public class HedgeBuilder<R> extends FailurePolicyBuilder<HedgeBuilder<R>, HedgeConfig<R>, R>
+  implements PolicyListeners<HedgeBuilder<R>, R> {
+
+  HedgeBuilder(Duration delay) {
+    super(new HedgeConfig<>(delay));
+  }
+
+  HedgeBuilder(HedgeConfig<R> config) {
+    super(new HedgeConfig<>(config));
+  }
+
+  /**
+   * Builds a new {@link Hedge} using the builder's configuration.
+   */
+  public Hedge<R> build() {
+    return new HedgeImpl<>(new HedgeConfig<>(config));
+  }
+
+  /**
+   * Configures the policy to start hedged attempts after the {@code percentile} of recently tracked attempt latencies,
+   * such as {@code 95} for the p95 latency, rather than after a fixed delay. The delay that the Hedge was built with is
+   * used until enough latencies have been tracked.
+   *
+   * @throws IllegalArgumentException if {@code percentile} is not > 0 and < 100
+   */
+  public HedgeBuilder<R> withDelayPercentile(double percentile) {
+    Assert.isTrue(percentile > 0 && percentile < 100, "percentile must be > 0 and < 100");
+    config.delayPercentile = percentile;
+    return this;
+  }
+
+  /**
+   * Configures the max number of hedged attempts that can be started for an execution, each after another delay.
+   * Defaults to {@code 1}.
+   *
+   * @throws IllegalArgumentException if {@code maxHedges} < 1
+   */
+  public HedgeBuilder<R> withMaxHedges(int maxHedges) {
+    Assert.isTrue(maxHedges >= 1, "maxHedges must be >= 1");
+    config.maxHedges = maxHedges;
+    return this;
+  }
+
+  /**
+   * Configures the policy to interrupt attempts that are cancelled when another attempt wins, by calling {@link
+   * java.util.concurrent.Future#cancel(boolean) Future.cancel(true)}. Executions can internally cooperate with
+   * interruption by checking {@link Thread#isInterrupted()} or by handling {@link InterruptedException} where
+   * available.
+   * <p>
+   * Note: Only configure interrupts if the code being executed is designed to be interrupted.
+   */
+  public HedgeBuilder<R> withInterrupt() {
+    config.canInterrupt = true;
+    return this;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import java.time.Duration;
+
+/**
+ * Configuration for a {@link Hedge}.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see HedgeBuilder
+ */
+public class HedgeConfig<R> extends FailurePolicyConfig<R> {
+  Duration delay;
+  double delayPercentile;
+  int maxHedges;
+  boolean canInterrupt;
+
+  HedgeConfig(Duration delay) {
+    this.delay = delay;
+    maxHedges = 1;
+  }
+
+  HedgeConfig(HedgeConfig<R> config) {
+    super(config);
+    delay = config.delay;
+    delayPercentile = config.delayPercentile;
+    maxHedges = config.maxHedges;
+    canInterrupt = config.canInterrupt;
+  }
+
+  /**
+   * Returns the delay after which a hedged attempt is started, or which is used until enough attempt latencies have
+   * been tracked when a {@link #getDelayPercentile() delay percentile} is configured.
+   *
+   * @see Hedge#builder(Duration)
+   */
+  public Duration getDelay() {
+    return delay;
+  }
+
+  /**
+   * Returns the percentile of recent attempt latencies after which a hedged attempt is started, else {@code 0} if a
+   * fixed delay is used.
+   *
+   * @see HedgeBuilder#withDelayPercentile(double)
+   */
+  public double getDelayPercentile() {
+    return delayPercentile;
+  }
+
+  /**
+   * Returns the max number of hedged attempts that can be started for an execution. Defaults to {@code 1}.
+   *
+   * @see HedgeBuilder#withMaxHedges(int)
+   */
+  public int getMaxHedges() {
+    return maxHedges;
+  }
+
+  /**
+   * Returns whether the policy can interrupt attempts that are cancelled when another attempt wins.
+   *
+   * @see HedgeBuilder#withInterrupt()
+   */
+  public boolean canInterrupt() {
+    return canInterrupt;
+  }
+}
@@ -15,9 +15,11 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.event.EventDispatch;
 import dev.failsafe.event.EventListener;
 import dev.failsafe.internal.util.Assert;
 import dev.failsafe.event.ExecutionCompletedEvent;
+import dev.failsafe.spi.Ticker;
 
 /**
  * Builds policies.
@@ -45,4 +47,30 @@ public abstract class PolicyBuilder<S, C extends PolicyConfig<R>, R> implements
     config.successListener = Assert.notNull(listener, "listener");
     return (S) this;
   }
+
+  /**
+   * Configures how events are dispatched to the policy's listeners, such as via reusable events, or asynchronously so
+   * that slow listeners do not delay executions. Defaults to {@link EventDispatch#sync()}.
+   *
+   * @throws NullPointerException if {@code eventDispatch} is null
+   * @see EventDispatch
+   */
+  public S withEventDispatch(EventDispatch eventDispatch) {
+    config.eventDispatch = Assert.notNull(eventDispatch, "eventDispatch");
+    return (S) this;
+  }
+
+  /**
+   * Configures the {@code ticker} that the policy reads time from when tracking time based state, such as thresholding
+   * periods, delays, permits, and expirations. A {@link Ticker#coarse() coarse ticker} avoids a system call per read,
+   * and a {@link Ticker#virtual() virtual ticker} allows the passage of time to be simulated. Defaults to {@link
+   * Ticker#defaultTicker()}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker
+   */
+  public S withTicker(Ticker ticker) {
+    config.ticker = Assert.notNull(ticker, "ticker");
+    return (S) this;
+  }
 }
@@ -15,8 +15,10 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.event.EventDispatch;
 import dev.failsafe.event.EventListener;
 import dev.failsafe.event.ExecutionCompletedEvent;
+import dev.failsafe.spi.Ticker;
 
 /**
  * Configuration for a {@link Policy}.
@@ -27,6 +29,8 @@ import dev.failsafe.event.ExecutionCompletedEvent;
 public abstract class PolicyConfig<R> {
   volatile EventListener<ExecutionCompletedEvent<R>> successListener;
   volatile EventListener<ExecutionCompletedEvent<R>> failureListener;
+  volatile EventDispatch eventDispatch = EventDispatch.sync();
+  volatile Ticker ticker = Ticker.defaultTicker();
 
   protected PolicyConfig() {
   }
@@ -34,6 +38,8 @@ public abstract class PolicyConfig<R> {
   protected PolicyConfig(PolicyConfig<R> config) {
     successListener = config.successListener;
     failureListener = config.failureListener;
+    eventDispatch = config.eventDispatch;
+    ticker = config.ticker;
   }
 
   /**
@@ -53,4 +59,23 @@ public abstract class PolicyConfig<R> {
   public EventListener<ExecutionCompletedEvent<R>> getFailureListener() {
     return failureListener;
   }
+
+  /**
+   * Returns how events are dispatched to the policy's listeners. Defaults to {@link EventDispatch#sync()}.
+   *
+   * @see PolicyBuilder#withEventDispatch(EventDispatch)
+   */
+  public EventDispatch getEventDispatch() {
+    return eventDispatch;
+  }
+
+  /**
+   * Returns the ticker that the policy reads time from when tracking time based state. Defaults to {@link
+   * Ticker#defaultTicker()}.
+   *
+   * @see PolicyBuilder#withTicker(Ticker)
+   */
+  public Ticker getTicker() {
+    return ticker;
+  }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.CircuitBreakerImpl;
+import dev.failsafe.internal.RateLimiterImpl;
+import dev.failsafe.internal.util.Assert;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves the state of registered {@link CircuitBreaker CircuitBreakers} and {@link RateLimiter RateLimiters} to a
+ * compact binary snapshot, and restores it, so that a restarted process does not forget what its policies had learned,
+ * such as that a dependency is failing:
+ * <pre>{@code
+ * PolicySnapshots snapshots = new PolicySnapshots()
+ *   .register("inventory-breaker", inventoryBreaker)
+ *   .register("inventory-limiter", inventoryLimiter);
+ * snapshots.restore(snapshotFile, Duration.ofMinutes(10));
+ * ...
+ * snapshots.save(snapshotFile);
+ * }</pre>
+ * <p>
+ * A circuit breaker's snapshot holds its state, the remaining delay if it's open, and its recorded results. A rate
+ * limiter's snapshot holds the permits that have been acquired ahead of the current time, along with its position in
+ * the current period. When a snapshot is restored, the time that elapsed since it was saved is taken into account:
+ * remaining delays are shortened, time based results that have aged out of the thresholding period are dropped, and
+ * permits for periods that have since elapsed are released. Policies should be restored before they are used.
+ * </p>
+ * <p>
+ * Policies are matched by name. Entries in a snapshot for names that are not registered, or for a registered policy of
+ * a different type or rate limiter kind, are ignored. Snapshot times are read from the wall clock, since they are
+ * compared across processes.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public final class PolicySnapshots {
+  private static final int MAGIC = 0x46534e50;
+  private static final byte VERSION = 1;
+  private static final int ENTRY_CHUNK_SIZE = 8192;
+  private static final byte CIRCUIT_BREAKER = 0;
+  private static final byte RATE_LIMITER = 1;
+
+  // Guarded by this
+  private final Map<String, Object> policies = new LinkedHashMap<>();
+
+  /**
+   * Registers the {@code circuitBreaker} under the {@code name}, replacing any policy registered under the name.
+   *
+   * @throws NullPointerException if {@code name} or {@code circuitBreaker} is null
+   * @throws IllegalArgumentException if {@code circuitBreaker} was not built by a {@link CircuitBreakerBuilder}
+   */
+  public PolicySnapshots register(String name, CircuitBreaker<?> circuitBreaker) {
+    return register(name, circuitBreaker, "circuitBreaker", CircuitBreakerImpl.class);
+  }
+
+  /**
+   * Registers the {@code rateLimiter} under the {@code name}, replacing any policy registered under the name.
+   *
+   * @throws NullPointerException if {@code name} or {@code rateLimiter} is null
+   * @throws IllegalArgumentException if {@code rateLimiter} was not built by a {@link RateLimiterBuilder}
+   */
+  public PolicySnapshots register(String name, RateLimiter<?> rateLimiter) {
+    return register(name, rateLimiter, "rateLimiter", RateLimiterImpl.class);
+  }
+
+  private synchronized PolicySnapshots register(String name, Object policy, String policyName, Class<?> implType) {
+    Assert.notNull(name, "name");
+    Assert.notNull(policy, policyName);
+    Assert.isTrue(implType.isInstance(policy), "%s must be built by Failsafe", policyName);
+    policies.put(name, policy);
+    return this;
+  }
+
+  /**
+   * Saves a snapshot of the registered policies to the {@code file}, replacing it atomically where supported so that a
+   * partially written snapshot is never restored.
+   *
+   * @throws NullPointerException if {@code file} is null
+   * @throws IOException if the snapshot could not be written
+   */
+  public void save(Path file) throws IOException {
+    Assert.notNull(file, "file");
+    Path dir = file.toAbsolutePath().getParent();
+    Path tempFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tempFile)) {
+        save(out);
+      }
+      try {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Writes a snapshot of the registered policies to the {@code out}, which is not closed.
+   *
+   * @throws NullPointerException if {@code out} is null
+   * @throws IOException if the snapshot could not be written
+   */
+  public synchronized void save(OutputStream out) throws IOException {
+    Assert.notNull(out, "out");
+    DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+    dataOut.writeInt(MAGIC);
+    dataOut.writeByte(VERSION);
+    dataOut.writeLong(System.currentTimeMillis());
+    dataOut.writeInt(policies.size());
+
+    ByteArrayOutputStream entry = new ByteArrayOutputStream();
+    DataOutputStream entryOut = new DataOutputStream(entry);
+    for (Map.Entry<String, Object> policy : policies.entrySet()) {
+      entry.reset();
+      byte type;
+      if (policy.getValue() instanceof CircuitBreakerImpl) {
+        type = CIRCUIT_BREAKER;
+        ((CircuitBreakerImpl<?>) policy.getValue()).writeSnapshot(entryOut);
+      } else {
+        type = RATE_LIMITER;
+        ((RateLimiterImpl<?>) policy.getValue()).writeSnapshot(entryOut);
+      }
+      dataOut.writeUTF(policy.getKey());
+      dataOut.writeByte(type);
+      dataOut.writeInt(entry.size());
+      entry.writeTo(dataOut);
+    }
+    dataOut.flush();
+  }
+
+  /**
+   * Restores the registered policies from the snapshot in the {@code file}, returning the number of policies that were
+   * restored. Returns {@code 0} if the file does not exist or the snapshot is older than the {@code maxAge}.
+   *
+   * @throws NullPointerException if {@code file} or {@code maxAge} is null
+   * @throws IOException if the snapshot could not be read or is not a valid snapshot
+   */
+  public int restore(Path file, Duration maxAge) throws IOException {
+    Assert.notNull(file, "file");
+    try (InputStream in = Files.newInputStream(file)) {
+      return restore(in, maxAge);
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Restores the registered policies from the snapshot in the {@code in}, which is not closed, returning the number of
+   * policies that were restored. Returns {@code 0} if the snapshot is older than the {@code maxAge}.
+   *
+   * @throws NullPointerException if {@code in} or {@code maxAge} is null
+   * @throws IOException if the snapshot could not be read or is not a valid snapshot
+   */
+  public int restore(InputStream in, Duration maxAge) throws IOException {
+    return restore(in, maxAge, System.currentTimeMillis());
+  }
+
+  /**
+   * Restores the snapshot in the {@code in} as of the {@code currentTimeMillis}.
+   */
+  synchronized int restore(InputStream in, Duration maxAge, long currentTimeMillis) throws IOException {
+    Assert.notNull(in, "in");
+    Assert.notNull(maxAge, "maxAge");
+    DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+    if (dataIn.readInt() != MAGIC)
+      throw new IOException("Not a policy snapshot");
+    byte version = dataIn.readByte();
+    if (version != VERSION)
+      throw new IOException("Unsupported policy snapshot version " + version);
+    long ageNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(currentTimeMillis - dataIn.readLong(), 0));
+    if (ageNanos > maxAge.toNanos())
+      return 0;
+
+    int restored = 0;
+    int entryCount = dataIn.readInt();
+    for (int i = 0; i < entryCount; i++) {
+      String name = dataIn.readUTF();
+      byte type = dataIn.readByte();
+      byte[] entry = readEntry(dataIn);
+
+      Object policy = policies.get(name);
+      DataInputStream entryIn = new DataInputStream(new ByteArrayInputStream(entry));
+      if (type == CIRCUIT_BREAKER && policy instanceof CircuitBreakerImpl) {
+        ((CircuitBreakerImpl<?>) policy).restoreSnapshot(entryIn, ageNanos);
+        restored++;
+      } else if (type == RATE_LIMITER && policy instanceof RateLimiterImpl) {
+        if (((RateLimiterImpl<?>) policy).restoreSnapshot(entryIn, ageNanos))
+          restored++;
+      }
+    }
+    return restored;
+  }
+
+  /**
+   * Reads a length prefixed entry from the {@code in}. The entry is read in chunks, so that a corrupt length fails once
+   * the {@code in} is exhausted rather than allocating the length up front.
+   *
+   * @throws IOException if the length is negative or exceeds the bytes remaining in the {@code in}
+   */
+  private static byte[] readEntry(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0)
+      throw new IOException("Invalid policy snapshot entry length " + length);
+    byte[] entry = new byte[Math.min(length, ENTRY_CHUNK_SIZE)];
+    int read = 0;
+    while (read < length) {
+      if (read == entry.length)
+        entry = Arrays.copyOf(entry, (int) Math.min(length, entry.length * 2L));
+      int count = in.read(entry, read, entry.length - read);
+      if (count < 0)
+        throw new IOException("Policy snapshot entry length " + length + " exceeds the remaining snapshot");
+      read += count;
+    }
+    return entry;
+  }
+}
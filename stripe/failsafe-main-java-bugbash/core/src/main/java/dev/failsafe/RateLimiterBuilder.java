@@ -17,7 +17,9 @@ package dev.failsafe;
 
 import dev.failsafe.internal.RateLimiterImpl;
 import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.QuotaCoordinator;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -35,11 +37,13 @@ public class RateLimiterBuilder<R> extends PolicyBuilder<RateLimiterBuilder<R>,
   RateLimiterBuilder(Duration executionRate) {
     super(new RateLimiterConfig<>(executionRate));
     config.maxWaitTime = Duration.ZERO;
+    config.shards = 1;
   }
 
   RateLimiterBuilder(long maxPermits, Duration period) {
     super(new RateLimiterConfig<>(maxPermits, period));
     config.maxWaitTime = Duration.ZERO;
+    config.shards = 1;
   }
 
   RateLimiterBuilder(RateLimiterConfig<R> config) {
@@ -67,4 +71,110 @@ public class RateLimiterBuilder<R> extends PolicyBuilder<RateLimiterBuilder<R>,
     config.maxWaitTime = Assert.notNull(maxWaitTime, "maxWaitTime");
     return this;
   }
+
+  /**
+   * Configures the rate limiter to split its permits across {@code shards} independent sub-limiters, so that threads
+   * acquiring permits concurrently do not contend with each other. Each thread acquires permits from a particular
+   * shard, and when that shard has no permits available, permits are borrowed from any other shard that has them.
+   *
+   * @throws IllegalArgumentException if {@code shards} < 1, or if the rate limiter is bursty and its max permits are
+   * less than {@code shards}
+   * @throws IllegalStateException if {@code shards} > 1 and the rate limiter is shared via {@link
+   * #withSharedFile(Path)} or coordinated via {@link #withCoordinator(QuotaCoordinator, String, long)}
+   * @see #withShards(int, int)
+   * @see RateLimiterConfig#getShards()
+   */
+  public RateLimiterBuilder<R> withShards(int shards) {
+    return withShards(shards, shards - 1);
+  }
+
+  /**
+   * Configures the rate limiter to split its permits across {@code shards} independent sub-limiters, so that threads
+   * acquiring permits concurrently do not contend with each other. Each thread acquires permits from a particular
+   * shard, and when that shard has no permits available, permits are borrowed from up to {@code shardBorrowLimit}
+   * neighbouring shards. When no neighbouring shard has permits available, the thread waits for permits from its own
+   * shard.
+   * <p>
+   * Sharding trades exact fairness for throughput. The aggregate rate never exceeds the configured rate, but a thread
+   * may be rejected or made to wait while a shard beyond its {@code shardBorrowLimit} still has permits available,
+   * causing the aggregate rate to fall short of the configured rate. A {@code shardBorrowLimit} of {@code shards - 1}
+   * bounds this error to executions that are waiting for permits, while lower limits bound the cost of borrowing at the
+   * expense of a larger error. For smooth rate limiters, up to {@code shards} executions may be permitted at the same
+   * time, rather than one execution per interval.
+   * </p>
+   *
+   * @throws IllegalArgumentException if {@code shards} < 1, if {@code shardBorrowLimit} < 0 or >= {@code shards}, or
+   * if the rate limiter is bursty and its max permits are less than {@code shards}
+   * @throws IllegalStateException if {@code shards} > 1 and the rate limiter is shared via {@link
+   * #withSharedFile(Path)} or coordinated via {@link #withCoordinator(QuotaCoordinator, String, long)}
+   * @see RateLimiterConfig#getShards()
+   * @see RateLimiterConfig#getShardBorrowLimit()
+   */
+  public RateLimiterBuilder<R> withShards(int shards, int shardBorrowLimit) {
+    Assert.isTrue(shards >= 1, "shards must be >= 1");
+    Assert.isTrue(shardBorrowLimit >= 0, "shardBorrowLimit must be >= 0");
+    Assert.isTrue(shardBorrowLimit < shards, "shardBorrowLimit must be < shards");
+    Assert.isTrue(config.maxRate != null || config.maxPermits >= shards, "maxPermits must be >= shards");
+    Assert.state(shards == 1 || config.sharedFile == null, "shared rate limiters cannot be sharded");
+    Assert.state(shards == 1 || config.coordinator == null, "coordinated rate limiters cannot be sharded");
+    config.shards = shards;
+    config.shardBorrowLimit = shardBorrowLimit;
+    return this;
+  }
+
+  /**
+   * Configures the rate limiter to share its permits with every rate limiter on the same host that uses the same
+   * {@code sharedFile}, including rate limiters in other processes, so that co-located processes enforce one limit
+   * rather than splitting it between them. The rate limiter's state is kept in the file, which is memory-mapped and
+   * created if it does not exist, and which must not be on a network file system.
+   * <p>
+   * Every rate limiter that uses the file must be configured with the same rate. Since the file outlives processes,
+   * permits that were acquired before a restart remain acquired after it. Acquiring permits locks a region of the
+   * file, which costs a system call, so shared rate limiters are slower than unshared ones.
+   * </p>
+   *
+   * @throws NullPointerException if {@code sharedFile} is null
+   * @throws IllegalStateException if the rate limiter is sharded via {@link #withShards(int)} or coordinated via {@link
+   * #withCoordinator(QuotaCoordinator, String, long)}
+   * @see RateLimiterConfig#getSharedFile()
+   */
+  public RateLimiterBuilder<R> withSharedFile(Path sharedFile) {
+    Assert.notNull(sharedFile, "sharedFile");
+    Assert.state(config.shards == 1, "sharded rate limiters cannot be shared");
+    Assert.state(config.coordinator == null, "coordinated rate limiters cannot be shared");
+    config.sharedFile = sharedFile;
+    return this;
+  }
+
+  /**
+   * Configures the rate limiter to enforce its rate across a cluster, together with every rate limiter that leases
+   * permits from the same {@code coordinator} and {@code key}. The rate limiter leases {@code leasePermits} at a time
+   * from the coordinator, and hands them out locally at no more than its own rate. Leases are renewed in the
+   * background before the leased permits run out, so acquiring permits never waits on the coordinator.
+   * <p>
+   * Permits cannot be acquired until the first lease completes. Acquisitions that exceed the leased permits wait for
+   * the time that the rate takes to produce the shortfall, which is leased along with the next block. Larger {@code
+   * leasePermits} reduce the number of leases, at the expense of a larger error, since up to {@code leasePermits} per
+   * rate limiter may be used in excess of the rate.
+   * </p>
+   *
+   * @throws NullPointerException if {@code coordinator} or {@code key} are null
+   * @throws IllegalArgumentException if {@code leasePermits} < 1
+   * @throws IllegalStateException if the rate limiter is sharded via {@link #withShards(int)} or shared via {@link
+   * #withSharedFile(Path)}
+   * @see QuotaCoordinator#inProcess()
+   * @see QuotaCoordinator#connect(java.net.InetSocketAddress)
+   * @see RateLimiterConfig#getCoordinator()
+   */
+  public RateLimiterBuilder<R> withCoordinator(QuotaCoordinator coordinator, String key, long leasePermits) {
+    Assert.notNull(coordinator, "coordinator");
+    Assert.notNull(key, "key");
+    Assert.isTrue(leasePermits >= 1, "leasePermits must be >= 1");
+    Assert.state(config.shards == 1, "sharded rate limiters cannot be coordinated");
+    Assert.state(config.sharedFile == null, "shared rate limiters cannot be coordinated");
+    config.coordinator = coordinator;
+    config.coordinatorKey = key;
+    config.leasePermits = leasePermits;
+    return this;
+  }
 }
@@ -15,6 +15,9 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.spi.QuotaCoordinator;
+
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -34,6 +37,18 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
   // Common
   Duration maxWaitTime;
 
+  // Sharding
+  int shards;
+  int shardBorrowLimit;
+
+  // Sharing
+  Path sharedFile;
+
+  // Coordination
+  QuotaCoordinator coordinator;
+  String coordinatorKey;
+  long leasePermits;
+
   RateLimiterConfig(Duration maxRate) {
     this.maxRate = maxRate;
   }
@@ -49,6 +64,12 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
     maxPermits = config.maxPermits;
     period = config.period;
     maxWaitTime = config.maxWaitTime;
+    shards = config.shards;
+    shardBorrowLimit = config.shardBorrowLimit;
+    sharedFile = config.sharedFile;
+    coordinator = config.coordinator;
+    coordinatorKey = config.coordinatorKey;
+    leasePermits = config.leasePermits;
   }
 
   /**
@@ -95,4 +116,66 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
   public Duration getMaxWaitTime() {
     return maxWaitTime;
   }
+
+  /**
+   * Returns the number of shards that the rate limiter's permits are split across. Returns {@code 1} by default, in
+   * which case the rate limiter is not sharded.
+   *
+   * @see RateLimiterBuilder#withShards(int)
+   * @see RateLimiterBuilder#withShards(int, int)
+   */
+  public int getShards() {
+    return shards;
+  }
+
+  /**
+   * For sharded rate limiters, returns the max number of neighbouring shards that permits are borrowed from when a
+   * thread's own shard has none available.
+   *
+   * @see RateLimiterBuilder#withShards(int)
+   * @see RateLimiterBuilder#withShards(int, int)
+   */
+  public int getShardBorrowLimit() {
+    return shardBorrowLimit;
+  }
+
+  /**
+   * Returns the memory-mapped file that the rate limiter's permits are shared through with other rate limiters on the
+   * same host, else {@code null} if the rate limiter's permits are not shared.
+   *
+   * @see RateLimiterBuilder#withSharedFile(Path)
+   */
+  public Path getSharedFile() {
+    return sharedFile;
+  }
+
+  /**
+   * Returns the coordinator that the rate limiter leases permits from, in order to enforce its rate across a cluster,
+   * else {@code null} if the rate limiter is not coordinated.
+   *
+   * @see RateLimiterBuilder#withCoordinator(QuotaCoordinator, String, long)
+   */
+  public QuotaCoordinator getCoordinator() {
+    return coordinator;
+  }
+
+  /**
+   * For coordinated rate limiters, returns the key that identifies the rate limit that permits are leased from, else
+   * {@code null} if the rate limiter is not coordinated.
+   *
+   * @see RateLimiterBuilder#withCoordinator(QuotaCoordinator, String, long)
+   */
+  public String getCoordinatorKey() {
+    return coordinatorKey;
+  }
+
+  /**
+   * For coordinated rate limiters, returns the number of permits that are leased from the coordinator at a time, else
+   * {@code 0} if the rate limiter is not coordinated.
+   *
+   * @see RateLimiterBuilder#withCoordinator(QuotaCoordinator, String, long)
+   */
+  public long getLeasePermits() {
+    return leasePermits;
+  }
 }
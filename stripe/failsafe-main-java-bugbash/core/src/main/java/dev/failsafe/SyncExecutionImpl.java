@@ -16,6 +16,8 @@
 package dev.failsafe;
 
 import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.Metrics;
+import dev.failsafe.spi.Ticker;
 import dev.failsafe.spi.PolicyExecutor;
 import dev.failsafe.spi.Scheduler;
 import dev.failsafe.spi.SyncExecutionInternal;
@@ -39,8 +41,10 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
   private final FailsafeExecutor<R> executor;
   // An optional Failsafe call
   private final CallImpl<R> call;
+  // The innermost function that performs the user's execution
+  private final Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn;
   // The outermost function that executions begin with
-  private Function<SyncExecutionInternal<R>, ExecutionResult<R>> outerFn;
+  private final Function<SyncExecutionInternal<R>, ExecutionResult<R>> outerFn;
   // The interruptable execution thread
   private final Thread executionThread;
   // Whether the execution is currently interruptable
@@ -57,9 +61,11 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
    * Create a standalone sync execution for the {@code policies}.
    */
   SyncExecutionImpl(List<? extends Policy<R>> policies) {
-    super(policies);
+    super(toPolicyExecutors(policies, Metrics.NONE), Ticker.defaultTicker());
     executor = null;
     call = null;
+    innerFn = null;
+    outerFn = null;
     interruptable = new AtomicBoolean();
     interrupted = new AtomicBoolean();
     executionThread = Thread.currentThread();
@@ -71,18 +77,24 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
    */
   SyncExecutionImpl(FailsafeExecutor<R> executor, Scheduler scheduler, CallImpl<R> call,
     Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn) {
-    super(executor.policies);
+    this(executor, new Chain<>(executor.policies, scheduler, executor.getMetrics()), call, innerFn);
+  }
+
+  /**
+   * Create a sync execution for the {@code executor} that begins with the {@code chain}.
+   */
+  SyncExecutionImpl(FailsafeExecutor<R> executor, Chain<R> chain, CallImpl<R> call,
+    Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn) {
+    super(chain.policyExecutors, executor.getTicker());
     this.executor = executor;
     this.call = call;
+    this.innerFn = innerFn;
+    outerFn = chain.outerFn;
     interruptable = new AtomicBoolean();
     interrupted = new AtomicBoolean();
     executionThread = Thread.currentThread();
     if (call != null)
       call.setExecution(this);
-
-    outerFn = innerFn;
-    for (PolicyExecutor<R> policyExecutor : policyExecutors)
-      outerFn = policyExecutor.apply(outerFn, scheduler);
   }
 
   /**
@@ -92,6 +104,8 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
     super(execution);
     executor = execution.executor;
     call = execution.call;
+    innerFn = execution.innerFn;
+    outerFn = execution.outerFn;
     interruptable = execution.interruptable;
     interrupted = execution.interrupted;
     executionThread = execution.executionThread;
@@ -203,4 +217,29 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
     }
     return result.getResult();
   }
+
+  /**
+   * Policy executors and the function composed around them, which begin with the innermost function of whatever
+   * execution they're applied to. A chain can be reused by multiple executions when its policy executors do not hold
+   * per-execution state.
+   *
+   * @param <R> result type
+   */
+  static final class Chain<R> {
+    final Scheduler scheduler;
+    final Metrics metrics;
+    final List<PolicyExecutor<R>> policyExecutors;
+    final Function<SyncExecutionInternal<R>, ExecutionResult<R>> outerFn;
+
+    Chain(List<? extends Policy<R>> policies, Scheduler scheduler, Metrics metrics) {
+      this.scheduler = scheduler;
+      this.metrics = metrics;
+      policyExecutors = toPolicyExecutors(policies, metrics);
+      Function<SyncExecutionInternal<R>, ExecutionResult<R>> fn = execution -> ((SyncExecutionImpl<R>) execution).innerFn
+        .apply(execution);
+      for (PolicyExecutor<R> policyExecutor : policyExecutors)
+        fn = policyExecutor.apply(fn, scheduler);
+      outerFn = fn;
+    }
+  }
 }
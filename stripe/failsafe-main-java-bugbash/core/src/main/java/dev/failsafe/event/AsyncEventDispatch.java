@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.event;
+
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.spi.ExecutionInternal;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An EventDispatch that queues events in a bounded ring buffer of preallocated slots, which is drained by a dedicated
+ * thread. Producers claim slots with a CAS on the tail sequence and publish them via each slot's sequence, so that
+ * dispatching neither locks nor allocates. The execution's times and counts are captured when an event is queued, so
+ * that delivery delays are not reflected in events.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class AsyncEventDispatch extends EventDispatch {
+  private static final int COMPLETED = 0;
+  private static final int ATTEMPTED = 1;
+  private static final int SCHEDULED = 2;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final Slot[] slots;
+  private final int mask;
+  private final OverflowPolicy overflowPolicy;
+  private final AtomicLong tail = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private final Thread drainer;
+  // Only accessed by the drainer thread
+  private final ReusableEvents events = new ReusableEvents();
+  private final CapturedExecutionContext capturedContext = new CapturedExecutionContext();
+  private long head;
+  // Whether the drainer is parked or about to park
+  private volatile boolean idle;
+  private volatile boolean closed;
+
+  AsyncEventDispatch(int capacity, OverflowPolicy overflowPolicy) {
+    capacity = capacity > 1 << 30 ? 1 << 30 : Integer.highestOneBit(capacity * 2 - 1);
+    slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++)
+      slots[i] = new Slot(i);
+    mask = capacity - 1;
+    this.overflowPolicy = overflowPolicy;
+    drainer = new Thread(this::drain, "failsafe-event-dispatch");
+    drainer.setDaemon(true);
+    drainer.start();
+  }
+
+  @Override
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(drainer);
+    if (Thread.currentThread() != drainer) {
+      try {
+        drainer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public <R> void dispatchCompleted(EventListener<ExecutionCompletedEvent<R>> listener, R result,
+    Throwable exception, ExecutionContext<R> context) {
+    if (!offer(COMPLETED, listener, result, exception, 0, context))
+      reusable().dispatchCompleted(listener, result, exception, context);
+  }
+
+  @Override
+  public <R> void dispatchAttempted(EventListener<ExecutionAttemptedEvent<R>> listener, R result,
+    Throwable exception, ExecutionContext<R> context) {
+    if (!offer(ATTEMPTED, listener, result, exception, 0, context))
+      reusable().dispatchAttempted(listener, result, exception, context);
+  }
+
+  @Override
+  public <R> void dispatchScheduled(EventListener<ExecutionScheduledEvent<R>> listener, R result,
+    Throwable exception, long delayNanos, ExecutionContext<R> context) {
+    if (!offer(SCHEDULED, listener, result, exception, delayNanos, context))
+      reusable().dispatchScheduled(listener, result, exception, delayNanos, context);
+  }
+
+  /**
+   * Queues an event, returning {@code false} if the event should instead be dispatched by the caller, which occurs
+   * when the dispatch is closed, or when the caller is a listener on the drainer thread, which cannot wait for itself.
+   * Events that are dropped are considered handled.
+   */
+  private boolean offer(int type, EventListener<?> listener, Object result, Throwable exception, long delayNanos,
+    ExecutionContext<?> context) {
+    if (Thread.currentThread() == drainer)
+      return false;
+
+    while (true) {
+      if (closed)
+        return false;
+      long position = tail.get();
+      Slot slot = slots[(int) position & mask];
+      long difference = slot.sequence - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slot.type = type;
+          slot.listener = listener;
+          slot.result = result;
+          slot.exception = exception;
+          slot.delayNanos = delayNanos;
+          slot.context = context;
+          if (context != null)
+            capture(slot, context);
+          // Publish the slot to the drainer
+          slot.sequence = position + 1;
+          if (idle)
+            LockSupport.unpark(drainer);
+          return true;
+        }
+      } else if (difference < 0) {
+        // Full
+        if (overflowPolicy == OverflowPolicy.DROP) {
+          dropped.increment();
+          return true;
+        }
+        if (idle)
+          LockSupport.unpark(drainer);
+        LockSupport.parkNanos(FULL_PARK_NANOS);
+      }
+    }
+  }
+
+  private static void capture(Slot slot, ExecutionContext<?> context) {
+    if (context instanceof ExecutionInternal) {
+      ExecutionInternal<?> execution = (ExecutionInternal<?>) context;
+      slot.elapsedNanos = execution.getElapsedNanos();
+      slot.elapsedAttemptNanos = execution.getElapsedAttemptNanos();
+    } else {
+      slot.elapsedNanos = context.getElapsedTime().toNanos();
+      slot.elapsedAttemptNanos = context.getElapsedAttemptTime().toNanos();
+    }
+    slot.startTime = context.getStartTime();
+    slot.attemptCount = context.getAttemptCount();
+    slot.executionCount = context.getExecutionCount();
+    slot.firstAttempt = context.isFirstAttempt();
+    slot.retry = context.isRetry();
+  }
+
+  private void drain() {
+    while (true) {
+      Slot slot = slots[(int) head & mask];
+      if (slot.sequence == head + 1) {
+        int type = slot.type;
+        EventListener listener = slot.listener;
+        Object result = slot.result;
+        Throwable exception = slot.exception;
+        long delayNanos = slot.delayNanos;
+        ExecutionContext context = null;
+        if (slot.context != null) {
+          capturedContext.reset(slot.context, slot.startTime, slot.elapsedNanos, slot.elapsedAttemptNanos,
+            slot.attemptCount, slot.executionCount, slot.firstAttempt, slot.retry);
+          context = capturedContext;
+        }
+        slot.listener = null;
+        slot.result = null;
+        slot.exception = null;
+        slot.context = null;
+        slot.startTime = null;
+        // Release the slot to producers before delivering, so that a slow listener holds no slot
+        slot.sequence = head + slots.length;
+        head++;
+
+        if (type == COMPLETED)
+          events.dispatchCompleted(listener, result, exception, context);
+        else if (type == ATTEMPTED)
+          events.dispatchAttempted(listener, result, exception, context);
+        else
+          events.dispatchScheduled(listener, result, exception, delayNanos, context);
+        if (context != null)
+          capturedContext.reset(null, null, 0, 0, 0, 0, false, false);
+      } else if (closed && head == tail.get()) {
+        return;
+      } else {
+        // Recheck for events after advertising that we're idle, since producers only unpark an idle drainer
+        idle = true;
+        if (slot.sequence != head + 1 && !closed)
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        idle = false;
+      }
+    }
+  }
+
+  static final class Slot {
+    // The position that the slot may next be claimed at, else the claimed position + 1 once the slot is published
+    volatile long sequence;
+    int type;
+    EventListener<?> listener;
+    Object result;
+    Throwable exception;
+    long delayNanos;
+    ExecutionContext<?> context;
+    // Captured from the context when the event was queued
+    Duration startTime;
+    long elapsedNanos;
+    long elapsedAttemptNanos;
+    int attemptCount;
+    int executionCount;
+    boolean firstAttempt;
+    boolean retry;
+
+    Slot(long sequence) {
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.event;
+
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.function.CheckedRunnable;
+
+import java.time.Duration;
+
+/**
+ * An ExecutionContext whose times and counts were captured when an event was queued, so that a queued event describes
+ * the execution as it was when the event occurred rather than when it is delivered. Other methods delegate to the live
+ * context. Instances are reset and reused by a single thread.
+ */
+final class CapturedExecutionContext implements ExecutionContext<Object> {
+  private ExecutionContext<Object> context;
+  private Duration startTime;
+  private long elapsedNanos;
+  private long elapsedAttemptNanos;
+  private int attemptCount;
+  private int executionCount;
+  private boolean firstAttempt;
+  private boolean retry;
+
+  @SuppressWarnings("unchecked")
+  void reset(ExecutionContext<?> context, Duration startTime, long elapsedNanos, long elapsedAttemptNanos,
+    int attemptCount, int executionCount, boolean firstAttempt, boolean retry) {
+    this.context = (ExecutionContext<Object>) context;
+    this.startTime = startTime;
+    this.elapsedNanos = elapsedNanos;
+    this.elapsedAttemptNanos = elapsedAttemptNanos;
+    this.attemptCount = attemptCount;
+    this.executionCount = executionCount;
+    this.firstAttempt = firstAttempt;
+    this.retry = retry;
+  }
+
+  @Override
+  public void onCancel(CheckedRunnable cancelCallback) {
+    context.onCancel(cancelCallback);
+  }
+
+  @Override
+  public Duration getElapsedTime() {
+    return Duration.ofNanos(elapsedNanos);
+  }
+
+  @Override
+  public Duration getElapsedAttemptTime() {
+    return Duration.ofNanos(elapsedAttemptNanos);
+  }
+
+  @Override
+  public int getAttemptCount() {
+    return attemptCount;
+  }
+
+  @Override
+  public int getExecutionCount() {
+    return executionCount;
+  }
+
+  @Override
+  public <T extends Throwable> T getLastException() {
+    return context.getLastException();
+  }
+
+  @Override
+  @Deprecated
+  public <T extends Throwable> T getLastFailure() {
+    return context.getLastException();
+  }
+
+  @Override
+  public Object getLastResult() {
+    return context.getLastResult();
+  }
+
+  @Override
+  public Object getLastResult(Object defaultValue) {
+    return context.getLastResult(defaultValue);
+  }
+
+  @Override
+  public Duration getStartTime() {
+    return startTime;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return context.isCancelled();
+  }
+
+  @Override
+  public boolean isFirstAttempt() {
+    return firstAttempt;
+  }
+
+  @Override
+  public boolean isRetry() {
+    return retry;
+  }
+}
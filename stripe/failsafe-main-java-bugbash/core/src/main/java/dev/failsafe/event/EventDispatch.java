@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.event;
+
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Determines how execution events are delivered to {@link EventListener EventListeners}. Dispatch is configured for a
+ * policy's listeners via {@link dev.failsafe.PolicyBuilder#withEventDispatch(EventDispatch)}, and for a
+ * FailsafeExecutor's listeners via {@link dev.failsafe.FailsafeExecutor#with(EventDispatch)}. Three forms of dispatch
+ * are available:
+ * <ul>
+ *   <li>{@link #sync()}, the default, creates a new event for each listener call, on the thread that produced the
+ *   event</li>
+ *   <li>{@link #reusable()} passes a reusable event to each listener call, on the thread that produced the event</li>
+ *   <li>{@link #async(int, OverflowPolicy)} queues events in a bounded ring buffer, which is drained by a dedicated
+ *   thread that passes reusable events to listeners</li>
+ * </ul>
+ * <p>
+ * A reusable event is only valid for the duration of the listener call that it's passed to, and must not be retained
+ * or accessed from other threads. Since the {@link ExecutionContext} that an event reads from is live, values such as
+ * {@link ExecutionEvent#getElapsedTime()} reflect when they are read, which for async dispatch may be after the event
+ * occurred.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public abstract class EventDispatch implements AutoCloseable {
+  private static final EventDispatch SYNC = new Sync();
+  private static final EventDispatch REUSABLE = new Reusable();
+
+  /**
+   * Determines what happens when an event is dispatched to a full {@link #async(int, OverflowPolicy) async} ring
+   * buffer.
+   */
+  public enum OverflowPolicy {
+    /** Drops the event, which is counted by {@link #getDroppedCount()}. */
+    DROP,
+    /** Blocks the thread that produced the event until the ring buffer has room. */
+    BLOCK
+  }
+
+  EventDispatch() {
+  }
+
+  /**
+   * Returns a dispatch that creates a new event for each listener call, on the thread that produced the event. This is
+   * the default.
+   */
+  public static EventDispatch sync() {
+    return SYNC;
+  }
+
+  /**
+   * Returns a dispatch that passes a reusable event to each listener call, on the thread that produced the event, so
+   * that dispatching does not allocate.
+   */
+  public static EventDispatch reusable() {
+    return REUSABLE;
+  }
+
+  /**
+   * Returns a dispatch that queues events in a ring buffer with room for {@code capacity} events, which is drained by
+   * a dedicated daemon thread that passes reusable events to listeners, so that slow listeners do not delay executions.
+   * Events that are dispatched to a full ring buffer are handled according to the {@code overflowPolicy}. The returned
+   * dispatch should be shared rather than created per execution, and can be {@link #close() closed} to stop its
+   * thread.
+   *
+   * @param capacity the capacity of the ring buffer, which is rounded up to a power of two
+   * @throws NullPointerException if {@code overflowPolicy} is null
+   * @throws IllegalArgumentException if {@code capacity} < 1
+   */
+  public static EventDispatch async(int capacity, OverflowPolicy overflowPolicy) {
+    Assert.isTrue(capacity >= 1, "capacity must be >= 1");
+    return new AsyncEventDispatch(capacity, Assert.notNull(overflowPolicy, "overflowPolicy"));
+  }
+
+  /**
+   * Returns the number of events that were dropped because the ring buffer was full. Always {@code 0} for dispatches
+   * that are not {@link #async(int, OverflowPolicy) async}.
+   */
+  public long getDroppedCount() {
+    return 0;
+  }
+
+  /**
+   * Delivers any queued events and stops an {@link #async(int, OverflowPolicy) async} dispatch's thread, after which
+   * events are dispatched on the thread that produced them. Does nothing for other dispatches.
+   */
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Dispatches an {@link ExecutionCompletedEvent} to the {@code listener}. Called by Failsafe.
+   */
+  public abstract <R> void dispatchCompleted(EventListener<ExecutionCompletedEvent<R>> listener, R result,
+    Throwable exception, ExecutionContext<R> context);
+
+  /**
+   * Dispatches an {@link ExecutionAttemptedEvent} to the {@code listener}. Called by Failsafe.
+   */
+  public abstract <R> void dispatchAttempted(EventListener<ExecutionAttemptedEvent<R>> listener, R result,
+    Throwable exception, ExecutionContext<R> context);
+
+  /**
+   * Dispatches an {@link ExecutionScheduledEvent} to the {@code listener}. Called by Failsafe.
+   */
+  public abstract <R> void dispatchScheduled(EventListener<ExecutionScheduledEvent<R>> listener, R result,
+    Throwable exception, long delayNanos, ExecutionContext<R> context);
+
+  static final class Sync extends EventDispatch {
+    @Override
+    public <R> void dispatchCompleted(EventListener<ExecutionCompletedEvent<R>> listener, R result,
+      Throwable exception, ExecutionContext<R> context) {
+      listener.acceptUnchecked(new ExecutionCompletedEvent<>(result, exception, context));
+    }
+
+    @Override
+    public <R> void dispatchAttempted(EventListener<ExecutionAttemptedEvent<R>> listener, R result,
+      Throwable exception, ExecutionContext<R> context) {
+      listener.acceptUnchecked(new ExecutionAttemptedEvent<>(result, exception, context));
+    }
+
+    @Override
+    public <R> void dispatchScheduled(EventListener<ExecutionScheduledEvent<R>> listener, R result,
+      Throwable exception, long delayNanos, ExecutionContext<R> context) {
+      listener.acceptUnchecked(
+        new ExecutionScheduledEvent<>(result, exception, Duration.ofNanos(delayNanos), context));
+    }
+  }
+
+  static final class Reusable extends EventDispatch {
+    private final ThreadLocal<ReusableEvents> events = ThreadLocal.withInitial(ReusableEvents::new);
+
+    @Override
+    public <R> void dispatchCompleted(EventListener<ExecutionCompletedEvent<R>> listener, R result,
+      Throwable exception, ExecutionContext<R> context) {
+      events.get().dispatchCompleted(listener, result, exception, context);
+    }
+
+    @Override
+    public <R> void dispatchAttempted(EventListener<ExecutionAttemptedEvent<R>> listener, R result,
+      Throwable exception, ExecutionContext<R> context) {
+      events.get().dispatchAttempted(listener, result, exception, context);
+    }
+
+    @Override
+    public <R> void dispatchScheduled(EventListener<ExecutionScheduledEvent<R>> listener, R result,
+      Throwable exception, long delayNanos, ExecutionContext<R> context) {
+      events.get().dispatchScheduled(listener, result, exception, delayNanos, context);
+    }
+  }
+
+  /**
+   * Reusable events for a single thread. Events are cleared after each listener call so that they do not retain
+   * results, and new events are created for listener calls that are nested within another listener call.
+   */
+  @SuppressWarnings("unchecked")
+  static final class ReusableEvents {
+    private final ExecutionCompletedEvent<?> completed = new ExecutionCompletedEvent<>(null, null, null);
+    private final ExecutionAttemptedEvent<?> attempted = new ExecutionAttemptedEvent<>(null, null, null);
+    private final ExecutionScheduledEvent<?> scheduled = new ExecutionScheduledEvent<>(null, null, null, null);
+    private boolean dispatching;
+
+    <R> void dispatchCompleted(EventListener<ExecutionCompletedEvent<R>> listener, R result, Throwable exception,
+      ExecutionContext<R> context) {
+      if (dispatching) {
+        SYNC.dispatchCompleted(listener, result, exception, context);
+        return;
+      }
+
+      ExecutionCompletedEvent<R> event = (ExecutionCompletedEvent<R>) completed;
+      event.reset(result, exception, context);
+      dispatching = true;
+      try {
+        listener.acceptUnchecked(event);
+      } finally {
+        dispatching = false;
+        event.reset(null, null, null);
+      }
+    }
+
+    <R> void dispatchAttempted(EventListener<ExecutionAttemptedEvent<R>> listener, R result, Throwable exception,
+      ExecutionContext<R> context) {
+      if (dispatching) {
+        SYNC.dispatchAttempted(listener, result, exception, context);
+        return;
+      }
+
+      ExecutionAttemptedEvent<R> event = (ExecutionAttemptedEvent<R>) attempted;
+      event.reset(result, exception, context);
+      dispatching = true;
+      try {
+        listener.acceptUnchecked(event);
+      } finally {
+        dispatching = false;
+        event.reset(null, null, null);
+      }
+    }
+
+    <R> void dispatchScheduled(EventListener<ExecutionScheduledEvent<R>> listener, R result, Throwable exception,
+      long delayNanos, ExecutionContext<R> context) {
+      if (dispatching) {
+        SYNC.dispatchScheduled(listener, result, exception, delayNanos, context);
+        return;
+      }
+
+      ExecutionScheduledEvent<R> event = (ExecutionScheduledEvent<R>) scheduled;
+      event.reset(result, exception, delayNanos, context);
+      dispatching = true;
+      try {
+        listener.acceptUnchecked(event);
+      } finally {
+        dispatching = false;
+        event.reset(null, null, 0, null);
+      }
+    }
+  }
+}
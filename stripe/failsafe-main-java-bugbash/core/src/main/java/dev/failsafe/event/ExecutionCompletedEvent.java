@@ -24,8 +24,8 @@ import dev.failsafe.ExecutionContext;
  * @author Jonathan Halterman
  */
 public class ExecutionCompletedEvent<R> extends ExecutionEvent {
-  private final R result;
-  private final Throwable exception;
+  private R result;
+  private Throwable exception;
 
   public ExecutionCompletedEvent(R result, Throwable exception, ExecutionContext<R> context) {
     super(context);
@@ -33,6 +33,15 @@ public class ExecutionCompletedEvent<R> extends ExecutionEvent {
     this.exception = exception;
   }
 
+  /**
+   * Resets a reusable event.
+   */
+  void reset(R result, Throwable exception, ExecutionContext<R> context) {
+    this.result = result;
+    this.exception = exception;
+    setContext(context);
+  }
+
   /**
    * Returns the failure that preceded the event, else {@code null} if there was none.
    */
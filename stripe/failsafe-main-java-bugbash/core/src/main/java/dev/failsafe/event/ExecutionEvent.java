@@ -26,12 +26,17 @@ import java.time.Duration;
  * @author Jonathan Halterman
  */
 public abstract class ExecutionEvent {
-  private final ExecutionContext<?> context;
+  // Not final so that reusable events can be reset by an EventDispatch
+  private ExecutionContext<?> context;
 
   ExecutionEvent(ExecutionContext<?> context) {
     this.context = context;
   }
 
+  void setContext(ExecutionContext<?> context) {
+    this.context = context;
+  }
+
   /**
    * Returns the elapsed time since initial execution began.
    */
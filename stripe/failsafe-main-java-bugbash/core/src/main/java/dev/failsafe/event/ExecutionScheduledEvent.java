@@ -31,9 +31,11 @@ import java.time.Duration;
  * @author Jonathan Halterman
  */
 public class ExecutionScheduledEvent<R> extends ExecutionEvent {
-  private final R result;
-  private final Throwable exception;
-  private final Duration delay;
+  private R result;
+  private Throwable exception;
+  private Duration delay;
+  // The delay of a reusable event, which is converted to a Duration only if requested
+  private long delayNanos;
 
   public ExecutionScheduledEvent(R result, Throwable exception, Duration delay, ExecutionContext<R> context) {
     super(context);
@@ -42,6 +44,17 @@ public class ExecutionScheduledEvent<R> extends ExecutionEvent {
     this.delay = delay;
   }
 
+  /**
+   * Resets a reusable event.
+   */
+  void reset(R result, Throwable exception, long delayNanos, ExecutionContext<R> context) {
+    this.result = result;
+    this.exception = exception;
+    this.delay = null;
+    this.delayNanos = delayNanos;
+    setContext(context);
+  }
+
   /**
    * Returns the failure that preceded the event, else {@code null} if there was none.
    */
@@ -68,11 +81,11 @@ public class ExecutionScheduledEvent<R> extends ExecutionEvent {
    * Returns the delay before the next execution attempt.
    */
   public Duration getDelay() {
-    return delay;
+    return delay == null ? Duration.ofNanos(delayNanos) : delay;
   }
 
   @Override
   public String toString() {
-    return "ExecutionScheduledEvent[" + "result=" + result + ", exception=" + exception + ", delay=" + delay + ']';
+    return "ExecutionScheduledEvent[" + "result=" + result + ", exception=" + exception + ", delay=" + getDelay() + ']';
   }
 }
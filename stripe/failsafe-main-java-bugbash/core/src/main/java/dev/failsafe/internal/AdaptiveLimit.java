@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Bulkhead.LimitAlgorithm;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrency limit that adapts to the latencies and failures of executions. Samples are recorded by one thread at a
+ * time, which claims recording via a CAS, so that releasing permits never blocks. Successful samples that complete
+ * while another sample is being recorded are skipped, which may slow the growth of the limit under contention. Failed
+ * samples are never skipped: they're deferred and recorded by whichever thread next claims recording, so that the
+ * limit always backs off for failures. The limit itself is read without locking by permit acquisitions.
+ */
+abstract class AdaptiveLimit {
+  final int maxLimit;
+
+  private final AtomicBoolean recording = new AtomicBoolean();
+  private final AtomicInteger deferredFailures = new AtomicInteger();
+  private final AtomicLong deferredFailureNanos = new AtomicLong();
+
+  // Mutable state that is only accessed while recording
+  double limit;
+
+  AdaptiveLimit(int initialLimit, int maxLimit) {
+    this.limit = initialLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  static AdaptiveLimit of(LimitAlgorithm algorithm, int initialLimit, int maxLimit) {
+    switch (algorithm) {
+      case AIMD:
+        return new Aimd(initialLimit, maxLimit);
+      case VEGAS:
+        return new Vegas(initialLimit, maxLimit);
+      default:
+        return new Gradient(initialLimit, maxLimit);
+    }
+  }
+
+  /**
+   * Claims recording for the current thread, returning {@code false} if another thread is recording. When claimed,
+   * {@link #finishRecording()} must be called after recording.
+   */
+  boolean tryStartRecording() {
+    return !recording.get() && recording.compareAndSet(false, true);
+  }
+
+  void finishRecording() {
+    recording.set(false);
+  }
+
+  /**
+   * Defers a failed sample with the {@code latencyNanos}, to be recorded by {@link #recordDeferredFailures(int)}.
+   */
+  void deferFailure(long latencyNanos) {
+    deferredFailureNanos.addAndGet(latencyNanos);
+    deferredFailures.incrementAndGet();
+  }
+
+  boolean hasDeferredFailures() {
+    return deferredFailures.get() > 0;
+  }
+
+  /**
+   * Records any deferred failures while {@code inFlight} executions are running, and returns the new limit. Deferred
+   * failures are recorded with their average latency, which is approximate when failures are deferred concurrently.
+   * Must be called while recording is claimed.
+   */
+  int recordDeferredFailures(int inFlight) {
+    int failures = deferredFailures.getAndSet(0);
+    if (failures == 0)
+      return (int) limit;
+    long latencyNanos = deferredFailureNanos.getAndSet(0) / failures;
+    for (int i = 0; i < failures; i++)
+      record(latencyNanos, inFlight, true);
+    return (int) limit;
+  }
+
+  /**
+   * Records the {@code latencyNanos} of an execution that completed while {@code inFlight} executions were running,
+   * including itself, and returns the new limit. Must be called while recording is claimed.
+   *
+   * @param failed whether the execution failed
+   */
+  int record(long latencyNanos, int inFlight, boolean failed) {
+    limit = Math.max(1, Math.min(maxLimit, update(Math.max(1, latencyNanos), inFlight, failed)));
+    return (int) limit;
+  }
+
+  /**
+   * Returns the new limit, which is bounded by the caller.
+   */
+  abstract double update(long latencyNanos, int inFlight, boolean failed);
+
+  /**
+   * Returns whether the bulkhead is far enough from its limit that latencies do not reflect the limit.
+   */
+  boolean isAppLimited(int inFlight) {
+    return inFlight * 2 < limit;
+  }
+
+  /**
+   * Additive increase, multiplicative decrease.
+   */
+  static final class Aimd extends AdaptiveLimit {
+    static final double BACKOFF_RATIO = 0.9;
+
+    Aimd(int initialLimit, int maxLimit) {
+      super(initialLimit, maxLimit);
+    }
+
+    @Override
+    double update(long latencyNanos, int inFlight, boolean failed) {
+      if (failed)
+        return limit * BACKOFF_RATIO;
+      return isAppLimited(inFlight) ? limit : limit + 1;
+    }
+  }
+
+  /**
+   * TCP Vegas style queue estimation, where the queue size is estimated from the ratio of the minimum latency to the
+   * current latency. The minimum latency is periodically reset so that it can follow a slower downstream.
+   */
+  static final class Vegas extends AdaptiveLimit {
+    static final int PROBE_MULTIPLIER = 30;
+    long minLatencyNanos;
+    long samplesSinceProbe;
+
+    Vegas(int initialLimit, int maxLimit) {
+      super(initialLimit, maxLimit);
+    }
+
+    @Override
+    double update(long latencyNanos, int inFlight, boolean failed) {
+      if (++samplesSinceProbe >= PROBE_MULTIPLIER * limit) {
+        samplesSinceProbe = 0;
+        minLatencyNanos = 0;
+      }
+      if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos) {
+        minLatencyNanos = latencyNanos;
+        return limit;
+      }
+
+      double log = Math.max(1, Math.log10(limit));
+      if (failed)
+        return limit - log;
+      if (isAppLimited(inFlight))
+        return limit;
+
+      double queueSize = Math.ceil(limit * (1 - (double) minLatencyNanos / latencyNanos));
+      if (queueSize <= log)
+        return limit + 6 * log;
+      if (queueSize < 3 * log)
+        return limit + log;
+      if (queueSize > 6 * log)
+        return limit - log;
+      return limit;
+    }
+  }
+
+  /**
+   * Gradient based limiting, where the limit is scaled by the ratio of the long term average latency to the current
+   * latency, tolerating some increase in latency, and smoothed over time.
+   */
+  static final class Gradient extends AdaptiveLimit {
+    static final double TOLERANCE = 1.5;
+    static final double SMOOTHING = 0.2;
+    static final int WARMUP_SAMPLES = 10;
+    static final double LONG_WINDOW_FACTOR = 2.0 / (600 + 1);
+    double longLatencyNanos;
+    int samples;
+
+    Gradient(int initialLimit, int maxLimit) {
+      super(initialLimit, maxLimit);
+    }
+
+    @Override
+    double update(long latencyNanos, int inFlight, boolean failed) {
+      // Average the first samples, then take an exponential moving average
+      if (samples < WARMUP_SAMPLES)
+        longLatencyNanos = (longLatencyNanos * samples + latencyNanos) / ++samples;
+      else
+        longLatencyNanos += (latencyNanos - longLatencyNanos) * LONG_WINDOW_FACTOR;
+
+      // Recover quickly from a long term average that is inflated by a prior overload
+      if (longLatencyNanos / latencyNanos > 2)
+        longLatencyNanos *= 0.95;
+
+      if (!failed && isAppLimited(inFlight))
+        return limit;
+
+      double gradient = failed ? 0.5 : Math.max(0.5, Math.min(1.0, TOLERANCE * longLatencyNanos / latencyNanos));
+      double newLimit = limit * gradient + Math.sqrt(limit);
+      return limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+  }
+}
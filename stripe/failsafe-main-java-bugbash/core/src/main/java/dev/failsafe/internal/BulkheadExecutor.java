@@ -17,11 +17,7 @@ package dev.failsafe.internal;
 
 import dev.failsafe.Bulkhead;
 import dev.failsafe.BulkheadFullException;
-import dev.failsafe.ExecutionContext;
-import dev.failsafe.spi.ExecutionResult;
-import dev.failsafe.spi.FailsafeFuture;
-import dev.failsafe.spi.PolicyExecutor;
-import dev.failsafe.spi.Scheduler;
+import dev.failsafe.spi.*;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -46,10 +42,19 @@ public class BulkheadExecutor<R> extends PolicyExecutor<R> {
 
   @Override
   protected ExecutionResult<R> preExecute() {
+    if (bulkhead.tryAcquirePermit())
+      return null;
+
+    PolicyMetrics metrics = getMetrics();
+    long waitStartTime = metrics == PolicyMetrics.NONE ? 0 : System.nanoTime();
     try {
-      return bulkhead.tryAcquirePermit(maxWaitTime) ?
-        null :
-        ExecutionResult.exception(new BulkheadFullException(bulkhead));
+      if (bulkhead.tryAcquirePermit(maxWaitTime)) {
+        if (metrics != PolicyMetrics.NONE)
+          metrics.recordWait(System.nanoTime() - waitStartTime);
+        return null;
+      }
+      metrics.recordRejection();
+      return ExecutionResult.exception(new BulkheadFullException(bulkhead));
     } catch (InterruptedException e) {
       // Set interrupt flag
       Thread.currentThread().interrupt();
@@ -61,16 +66,25 @@ public class BulkheadExecutor<R> extends PolicyExecutor<R> {
   protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(Scheduler scheduler, FailsafeFuture<R> future) {
     CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
     CompletableFuture<Void> acquireFuture = bulkhead.acquirePermitAsync();
+    PolicyMetrics metrics = getMetrics();
+    long waitStartTime = metrics == PolicyMetrics.NONE || acquireFuture.isDone() ? 0 : System.nanoTime();
     acquireFuture.whenComplete((result, error) -> {
-      // Signal for execution to proceed
-      promise.complete(ExecutionResult.none());
+      // Signal for execution to proceed, else release the permit if the promise was already completed by a timeout or
+      // cancellation
+      if (error == null) {
+        if (!promise.complete(ExecutionResult.none()))
+          bulkhead.releasePermit();
+        else if (waitStartTime != 0)
+          metrics.recordWait(System.nanoTime() - waitStartTime);
+      }
     });
 
     if (!promise.isDone()) {
       try {
         // Schedule bulkhead permit timeout
         Future<?> timeoutFuture = scheduler.schedule(() -> {
-          promise.complete(ExecutionResult.exception(new BulkheadFullException(bulkhead)));
+          if (promise.complete(ExecutionResult.exception(new BulkheadFullException(bulkhead))))
+            metrics.recordRejection();
           acquireFuture.cancel(true);
           return null;
         }, maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
@@ -91,13 +105,26 @@ public class BulkheadExecutor<R> extends PolicyExecutor<R> {
   }
 
   @Override
-  public void onSuccess(ExecutionResult<R> result) {
-    bulkhead.releasePermit();
+  public ExecutionResult<R> postExecute(ExecutionInternal<R> execution, ExecutionResult<R> result) {
+    releasePermit(execution, result);
+    return super.postExecute(execution, result);
   }
 
   @Override
-  protected ExecutionResult<R> onFailure(ExecutionContext<R> context, ExecutionResult<R> result) {
-    bulkhead.releasePermit();
-    return result;
+  protected synchronized CompletableFuture<ExecutionResult<R>> postExecuteAsync(AsyncExecutionInternal<R> execution,
+    ExecutionResult<R> result, Scheduler scheduler, FailsafeFuture<R> future) {
+    if (!execution.isAsyncExecution() || !execution.isPostExecuted(getPolicyIndex()))
+      releasePermit(execution, result);
+    return super.postExecuteAsync(execution, result, scheduler, future);
+  }
+
+  /**
+   * Releases the execution's permit, recording the latency of its attempt when an adaptive limit is configured.
+   */
+  private void releasePermit(ExecutionInternal<R> execution, ExecutionResult<R> result) {
+    if (bulkhead.isAdaptive())
+      bulkhead.releasePermit(execution.getElapsedAttemptNanos(), isFailure(result));
+    else
+      bulkhead.releasePermit();
   }
 }
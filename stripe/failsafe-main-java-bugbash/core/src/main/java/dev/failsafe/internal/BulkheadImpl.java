@@ -17,31 +17,49 @@ package dev.failsafe.internal;
 
 import dev.failsafe.Bulkhead;
 import dev.failsafe.BulkheadConfig;
-import dev.failsafe.internal.util.FutureLinkedList;
 import dev.failsafe.spi.PolicyExecutor;
 
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A Bulkhead implementation that supports sync and async waiting.
+ * <p>
+ * Permits are tracked by an atomic counter of in-flight executions, and waiters are kept in a lock-free queue. A waiter
+ * that is cancelled or times out stays queued and is skipped when permits are handed to waiters, so abandoning a
+ * waiter is O(1). So that abandoned waiters do not accumulate while permits are held, the queue is purged of them once
+ * the number abandoned since the last purge reaches the number of waiters that survived it, which keeps purging O(1)
+ * amortized per waiter. When an adaptive limit is configured,
+ * the limit is updated as permits are released, and executions beyond a decreased limit drain as their permits are
+ * released.
+ * </p>
  *
  * @param <R> result type
  * @author Jonathan Halterman
  */
 public class BulkheadImpl<R> implements Bulkhead<R> {
   private static final CompletableFuture<Void> NULL_FUTURE = CompletableFuture.completedFuture(null);
+  private static final int MIN_PURGE_THRESHOLD = 16;
   private final BulkheadConfig<R> config;
-  private final int maxPermits;
+  final AdaptiveLimit adaptiveLimit;
 
   // Mutable state
-  private int permits;
-  private final FutureLinkedList futures = new FutureLinkedList();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+  private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+  // The number of waiters that were abandoned since the queue was last purged
+  private final AtomicInteger abandonedWaiters = new AtomicInteger();
+  private volatile int purgeThreshold = MIN_PURGE_THRESHOLD;
 
   public BulkheadImpl(BulkheadConfig<R> config) {
     this.config = config;
-    maxPermits = config.getMaxConcurrency();
-    permits = maxPermits;
+    adaptiveLimit = config.getLimitAlgorithm() == null ?
+      null :
+      AdaptiveLimit.of(config.getLimitAlgorithm(), config.getInitialConcurrency(), config.getMaxConcurrency());
+    limit = config.getInitialConcurrency();
   }
 
   @Override
@@ -49,20 +67,29 @@ public class BulkheadImpl<R> implements Bulkhead<R> {
     return config;
   }
 
+  @Override
+  public int getConcurrencyLimit() {
+    return limit;
+  }
+
   @Override
   public void acquirePermit() throws InterruptedException {
+    CompletableFuture<Void> future = acquirePermitAsync();
     try {
-      acquirePermitAsync().get();
+      future.get();
     } catch (CancellationException | ExecutionException ignore) {
       // Not possible since the future will always be completed with null
+    } catch (InterruptedException e) {
+      abandon(future);
+      throw e;
     }
   }
 
   @Override
-  public synchronized boolean tryAcquirePermit() {
-    if (permits > 0) {
-      permits -= 1;
-      return true;
+  public boolean tryAcquirePermit() {
+    for (int running = inFlight.get(); running < limit; running = inFlight.get()) {
+      if (inFlight.compareAndSet(running, running + 1))
+        return true;
     }
     return false;
   }
@@ -76,34 +103,155 @@ public class BulkheadImpl<R> implements Bulkhead<R> {
     try {
       future.get(maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
       return true;
-    } catch (CancellationException | ExecutionException | TimeoutException e) {
+    } catch (CancellationException | ExecutionException e) {
       return false;
+    } catch (TimeoutException e) {
+      // A permit may have been handed to the waiter after it timed out
+      return !future.cancel(false);
+    } catch (InterruptedException e) {
+      abandon(future);
+      throw e;
     }
   }
 
   /**
    * Returns a CompletableFuture that is completed when a permit is acquired. Externally completing this future will
-   * remove the waiter from the bulkhead's internal queue.
+   * cause the waiter to be skipped when permits are released, and completing it exceptionally, such as by cancelling
+   * it, counts it towards the next purge of abandoned waiters.
    */
-  synchronized CompletableFuture<Void> acquirePermitAsync() {
-    if (permits > 0) {
-      permits -= 1;
+  CompletableFuture<Void> acquirePermitAsync() {
+    if (tryAcquirePermit())
       return NULL_FUTURE;
-    } else {
-      return futures.add();
-    }
+
+    CompletableFuture<Void> future = new Waiter();
+    waiters.offer(future);
+
+    // Handle any permits that were released before the waiter was queued
+    handOffPermits();
+    return future;
   }
 
   @Override
-  public synchronized void releasePermit() {
-    if (permits < maxPermits) {
-      permits += 1;
-      CompletableFuture<Void> future = futures.pollFirst();
-      if (future != null)
-        future.complete(null);
+  public void releasePermit() {
+    for (int running = inFlight.get(); running > 0; running = inFlight.get()) {
+      if (inFlight.compareAndSet(running, running - 1)) {
+        handOffPermits();
+        return;
+      }
     }
   }
 
+  /**
+   * Releases a permit for an execution that took {@code latencyNanos}, adapting the limit if an adaptive limit is
+   * configured. Successes are skipped if another thread is currently adapting the limit, but failures are always
+   * recorded.
+   *
+   * @param failed whether the execution failed
+   */
+  void releasePermit(long latencyNanos, boolean failed) {
+    if (adaptiveLimit != null) {
+      if (failed)
+        adaptiveLimit.deferFailure(latencyNanos);
+      boolean recordSuccess = !failed;
+
+      // Publish limits while recording so they're published in order
+      while (adaptiveLimit.tryStartRecording()) {
+        try {
+          if (recordSuccess) {
+            limit = adaptiveLimit.record(latencyNanos, inFlight.get(), false);
+            recordSuccess = false;
+          }
+          limit = adaptiveLimit.recordDeferredFailures(inFlight.get());
+        } finally {
+          adaptiveLimit.finishRecording();
+        }
+
+        // Recheck for failures that were deferred by threads that could not claim recording from us
+        if (!adaptiveLimit.hasDeferredFailures())
+          break;
+      }
+    }
+    releasePermit();
+  }
+
+  /**
+   * Returns the number of queued waiters.
+   */
+  int getWaiterCount() {
+    return waiters.size();
+  }
+
+  /**
+   * Returns whether an adaptive limit is configured.
+   */
+  boolean isAdaptive() {
+    return adaptiveLimit != null;
+  }
+
+  /**
+   * Hands available permits to queued waiters, skipping waiters that were already completed.
+   */
+  private void handOffPermits() {
+    while (!waiters.isEmpty() && tryAcquirePermit()) {
+      CompletableFuture<Void> waiter;
+      do {
+        waiter = waiters.poll();
+      } while (waiter != null && !waiter.complete(null));
+
+      // Return the permit if there was no waiter to hand it to, then check for new waiters
+      if (waiter == null)
+        inFlight.decrementAndGet();
+    }
+  }
+
+  /**
+   * Purges completed waiters from the queue once enough waiters have been abandoned since the last purge. The purge
+   * threshold is the number of waiters that survived the last purge, so that the cost of each purge is covered by the
+   * waiters that were queued or abandoned since the previous one.
+   */
+  private void waiterAbandoned() {
+    int abandoned = abandonedWaiters.incrementAndGet();
+    if (abandoned >= purgeThreshold && abandonedWaiters.compareAndSet(abandoned, 0)) {
+      int survivors = 0;
+      for (Iterator<CompletableFuture<Void>> it = waiters.iterator(); it.hasNext(); ) {
+        if (it.next().isDone())
+          it.remove();
+        else
+          survivors++;
+      }
+      purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, survivors);
+    }
+  }
+
+  /**
+   * A waiter that records when it's abandoned, by being cancelled or completed exceptionally.
+   */
+  private final class Waiter extends CompletableFuture<Void> {
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled)
+        waiterAbandoned();
+      return cancelled;
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable ex) {
+      boolean completed = super.completeExceptionally(ex);
+      if (completed)
+        waiterAbandoned();
+      return completed;
+    }
+  }
+
+  /**
+   * Cancels the {@code future}, releasing its permit if one was already handed to it.
+   */
+  private void abandon(CompletableFuture<Void> future) {
+    if (future != NULL_FUTURE && !future.cancel(false))
+      releasePermit();
+  }
+
   @Override
   public PolicyExecutor<R> toExecutor(int policyIndex) {
     return new BulkheadExecutor<>(this, policyIndex);
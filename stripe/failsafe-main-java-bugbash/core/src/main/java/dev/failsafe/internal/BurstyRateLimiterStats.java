@@ -17,6 +17,9 @@ package dev.failsafe.internal;
 
 import dev.failsafe.RateLimiterConfig;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
 
 /**
@@ -24,6 +27,13 @@ import java.time.Duration;
  * tracks the current period and available permits, which can go into a deficit. A deficit of available permits will
  * cause wait times for callers that can be several periods long, depending on the size of the deficit and the number of
  * requested permits.
+ * <p>
+ * The current period and available permits are represented by a single permit watermark, which is updated via CAS.
+ * Permits are numbered consecutively across periods, so that the permits for period {@code p} are numbered from {@code
+ * p * periodPermits} to {@code (p + 1) * periodPermits - 1}, and the watermark is the number of the next permit to be
+ * acquired. A watermark that is behind the current period means that all of the current period's permits are
+ * available, and a watermark that is ahead of the current period represents a deficit.
+ * </p>
  */
 class BurstyRateLimiterStats extends RateLimiterStats {
   /* The permits per period */
@@ -31,65 +41,97 @@ class BurstyRateLimiterStats extends RateLimiterStats {
   /* The nanos per period */
   private final long periodNanos;
 
-  /* Available permits. Can be negative during a deficit. */
-  private long availablePermits;
-  private long currentPeriod;
+  /* The number of the next permit to be acquired */
+  private final PermitState permitWatermark;
 
   BurstyRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    this(config.getMaxPermits(), config.getPeriod().toNanos(), stopwatch);
+  }
+
+  BurstyRateLimiterStats(long periodPermits, long periodNanos, Stopwatch stopwatch) {
+    this(periodPermits, periodNanos, stopwatch, new AtomicPermitState());
+  }
+
+  BurstyRateLimiterStats(long periodPermits, long periodNanos, Stopwatch stopwatch, PermitState permitWatermark) {
     super(stopwatch);
-    periodPermits = config.getMaxPermits();
-    periodNanos = config.getPeriod().toNanos();
-    availablePermits = periodPermits;
+    this.periodPermits = periodPermits;
+    this.periodNanos = periodNanos;
+    this.permitWatermark = permitWatermark;
   }
 
   @Override
-  public synchronized long acquirePermits(long requestedPermits, Duration maxWaitTime) {
+  public long acquirePermits(long requestedPermits, Duration maxWaitTime) {
     long currentNanos = stopwatch.elapsedNanos();
-    long newCurrentPeriod = currentNanos / periodNanos;
-
-    // Update current period and available permits
-    if (currentPeriod < newCurrentPeriod) {
-      long elapsedPeriods = newCurrentPeriod - currentPeriod;
-      long elapsedPermits = elapsedPeriods * periodPermits;
-      currentPeriod = newCurrentPeriod;
-      availablePermits = availablePermits < 0 ? availablePermits + elapsedPermits : periodPermits;
-    }
+    long currentPeriod = currentNanos / periodNanos;
+    long currentPeriodFirstPermit = currentPeriod * periodPermits;
 
-    long waitNanos = 0;
-    if (requestedPermits > availablePermits) {
-      long nextPeriodNanos = (currentPeriod + 1) * periodNanos;
-      long nanosToNextPeriod = nextPeriodNanos - currentNanos;
-      long permitDeficit = requestedPermits - availablePermits;
-      long additionalPeriods = permitDeficit / periodPermits;
-      long additionalUnits = permitDeficit % periodPermits;
+    while (true) {
+      long watermark = permitWatermark.get();
+      long newWatermark = Math.max(watermark, currentPeriodFirstPermit) + requestedPermits;
 
-      // Do not wait for an additional period if we're not using any permits from it
-      if (additionalUnits == 0)
-        additionalPeriods -= 1;
+      // The nanos to wait until the beginning of the period that the last requested permit belongs to
+      long waitNanos = 0;
+      long lastPermitPeriod = (newWatermark - 1) / periodPermits;
+      if (lastPermitPeriod > currentPeriod) {
+        waitNanos = lastPermitPeriod * periodNanos - currentNanos;
 
-      // The nanos to wait until the beginning of the next period that will have free permits
-      waitNanos = nanosToNextPeriod + (additionalPeriods * periodNanos);
+        if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+          return -1;
+      }
 
-      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
-        return -1;
+      if (permitWatermark.compareAndSet(watermark, newWatermark))
+        return waitNanos;
     }
+  }
 
-    availablePermits -= requestedPermits;
-    return waitNanos;
+  /**
+   * Returns the permits that are available in the current period, which are negative when there is a deficit.
+   */
+  long getAvailablePermits() {
+    long currentPeriod = getCurrentPeriod();
+    long watermark = Math.max(permitWatermark.get(), currentPeriod * periodPermits);
+    return (currentPeriod + 1) * periodPermits - watermark;
   }
 
-  synchronized long getAvailablePermits() {
-    return availablePermits;
+  long getCurrentPeriod() {
+    return stopwatch.elapsedNanos() / periodNanos;
   }
 
-  synchronized long getCurrentPeriod() {
-    return currentPeriod;
+  /**
+   * Writes how far into the current period the stats are, and the permits that have been acquired from the current
+   * period onwards.
+   */
+  @Override
+  void writeTo(DataOutput out) throws IOException {
+    long currentNanos = stopwatch.elapsedNanos();
+    long currentPeriodFirstPermit = currentNanos / periodNanos * periodPermits;
+    out.writeByte(BURSTY);
+    out.writeLong(currentNanos % periodNanos);
+    out.writeLong(Math.max(permitWatermark.get() - currentPeriodFirstPermit, 0));
+  }
+
+  /**
+   * Restores the acquired permits that remain after the periods that elapsed since the snapshot, aligning the stats'
+   * periods with those of the snapshot.
+   */
+  @Override
+  boolean readFrom(DataInput in, long ageNanos) throws IOException {
+    if (in.readByte() != BURSTY)
+      return false;
+    long periodOffsetNanos = in.readLong() + ageNanos;
+    long acquiredPermits = in.readLong();
+    long elapsedPeriods = periodOffsetNanos / periodNanos;
+    long remainingPermits = elapsedPeriods > acquiredPermits / periodPermits ?
+      0 :
+      acquiredPermits - elapsedPeriods * periodPermits;
+    stopwatch.setElapsedNanos(periodOffsetNanos % periodNanos);
+    permitWatermark.set(remainingPermits);
+    return true;
   }
 
   @Override
-  synchronized void reset() {
+  void reset() {
     stopwatch.reset();
-    availablePermits = periodPermits;
-    currentPeriod = 0;
+    permitWatermark.set(0);
   }
-}
\ No newline at end of file
+}
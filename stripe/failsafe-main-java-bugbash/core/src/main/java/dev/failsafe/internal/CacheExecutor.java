@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Cache;
+import dev.failsafe.spi.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A PolicyExecutor that handles executions according to a {@link Cache}, short-circuiting executions with cached
+ * results and caching successful results.
+ *
+ * @param <R> result type
+ */
+public class CacheExecutor<R> extends PolicyExecutor<R> {
+  private final CacheImpl<R> cache;
+  private final Ticker ticker;
+
+  public CacheExecutor(CacheImpl<R> cache, int policyIndex) {
+    super(cache, policyIndex);
+    this.cache = cache;
+    ticker = cache.getConfig().getTicker();
+  }
+
+  @Override
+  protected ExecutionResult<R> preExecute() {
+    long now = ticker.read();
+    CacheStore.Entry<R> entry = cache.get(now);
+    return entry == null || entry.isExpired(now) ? null : ExecutionResult.success(entry.value);
+  }
+
+  /**
+   * Performs an async execution, returning an expired result that is within its stale time while revalidating it in
+   * the background, if configured.
+   */
+  @Override
+  public Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> applyAsync(
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> executeFn = super.applyAsync(innerFn,
+      scheduler, future);
+    if (!cache.isStaleWhileRevalidate())
+      return executeFn;
+
+    return execution -> {
+      if (!execution.isAsyncExecution() && !execution.isRecorded()) {
+        long now = ticker.read();
+        CacheStore.Entry<R> entry = cache.get(now);
+        if (entry != null && entry.isExpired(now)) {
+          if (entry.tryRevalidate())
+            revalidate(entry, execution);
+
+          // Still need to preExecute when short-circuiting an execution with an alternative result
+          execution.preExecute();
+          return CompletableFuture.completedFuture(ExecutionResult.success(entry.value));
+        }
+      }
+
+      return executeFn.apply(execution);
+    };
+  }
+
+  /**
+   * Performs the inner policies and function in the background, on their own execution and future, caching the result
+   * if successful. Since the {@code execution}'s future is completed with the stale result, the inner policies could
+   * not otherwise retry or time out.
+   */
+  private void revalidate(CacheStore.Entry<R> entry, AsyncExecutionInternal<R> execution) {
+    try {
+      execution.executeInner(this, (result, context) -> {
+        if (isFailure(result))
+          entry.revalidationFailed();
+        else
+          postExecute((ExecutionInternal<R>) context, result);
+      });
+    } catch (Throwable t) {
+      entry.revalidationFailed();
+    }
+  }
+
+  @Override
+  protected void onSuccess(ExecutionResult<R> result) {
+    if (!result.isNonResult())
+      cache.put(result.getResult(), ticker.read());
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Cache;
+import dev.failsafe.CacheBuilder;
+import dev.failsafe.CacheConfig;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.PolicyExecutor;
+
+/**
+ * A {@link Cache} implementation, where keyed views share the store of the Cache they were created from.
+ *
+ * @param <R> result type
+ * @see CacheBuilder
+ */
+public class CacheImpl<R> implements Cache<R> {
+  private static final Object UNKEYED = new Object();
+  private final CacheConfig<R> config;
+  private final CacheStore<R> store;
+  private final Object key;
+
+  public CacheImpl(CacheConfig<R> config) {
+    this(config, new CacheStore<>(config.getMaxSize(), config.getEvictionPolicy(), config.getTtl().toNanos(),
+      config.getStaleWhileRevalidate().toNanos()), UNKEYED);
+  }
+
+  private CacheImpl(CacheConfig<R> config, CacheStore<R> store, Object key) {
+    this.config = config;
+    this.store = store;
+    this.key = key;
+  }
+
+  @Override
+  public CacheConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public Cache<R> forKey(Object key) {
+    return new CacheImpl<>(config, store, Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public void invalidate() {
+    store.invalidate(key);
+  }
+
+  @Override
+  public void invalidateAll() {
+    store.invalidateAll();
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  /**
+   * Returns the entry for this Cache's key, which may be expired but within its stale time, else {@code null}.
+   */
+  CacheStore.Entry<R> get(long nowNanos) {
+    return store.get(key, nowNanos);
+  }
+
+  void put(R value, long nowNanos) {
+    store.put(key, value, nowNanos);
+  }
+
+  boolean isStaleWhileRevalidate() {
+    return !config.getStaleWhileRevalidate().isZero();
+  }
+
+  @Override
+  public PolicyExecutor<R> toExecutor(int policyIndex) {
+    return new CacheExecutor<>(this, policyIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "Cache[key=" + (key == UNKEYED ? "none" : key) + ", maxSize=" + config.getMaxSize() + ", ttl="
+      + config.getTtl() + ']';
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Cache.EvictionPolicy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A size bounded store of cached results that expire after a time to live.
+ * <p>
+ * Entries are kept in LRU order in a main segment. With {@link EvictionPolicy#TINY_LFU}, new entries first enter a
+ * small LRU window segment, and an entry leaving the window replaces the main segment's LRU entry only if its estimated
+ * access frequency is higher, else it is evicted. Access frequencies are estimated by a count-min sketch of small
+ * counters that are halved periodically so that frequencies age.
+ * </p>
+ * <p>
+ * Since every access reorders entries, the store is guarded by a single lock.
+ * </p>
+ *
+ * @param <R> result type
+ */
+final class CacheStore<R> {
+  private final long ttlNanos;
+  private final long staleNanos;
+  private final int windowCapacity;
+  private final int mainCapacity;
+  private final FrequencySketch sketch;
+
+  // Mutable state guarded by "this"
+  private final Map<Object, Entry<R>> entries = new HashMap<>();
+  private final Segment<R> window = new Segment<>();
+  private final Segment<R> main = new Segment<>();
+
+  CacheStore(int maxSize, EvictionPolicy evictionPolicy, long ttlNanos, long staleNanos) {
+    this.ttlNanos = ttlNanos;
+    this.staleNanos = staleNanos;
+    if (evictionPolicy == EvictionPolicy.TINY_LFU && maxSize > 1) {
+      windowCapacity = Math.max(1, maxSize / 100);
+      sketch = new FrequencySketch(maxSize);
+    } else {
+      windowCapacity = 0;
+      sketch = null;
+    }
+    mainCapacity = maxSize - windowCapacity;
+  }
+
+  /**
+   * Returns the entry for the {@code key}, else {@code null} if there is no entry or it is past its stale time.
+   */
+  synchronized Entry<R> get(Object key, long nowNanos) {
+    if (sketch != null)
+      sketch.increment(key);
+    Entry<R> entry = entries.get(key);
+    if (entry == null)
+      return null;
+    if (nowNanos - entry.staleAtNanos >= 0) {
+      remove(entry);
+      return null;
+    }
+    segmentOf(entry).moveToHead(entry);
+    return entry;
+  }
+
+  /**
+   * Caches the {@code value} for the {@code key}, replacing any existing entry.
+   */
+  synchronized void put(Object key, R value, long nowNanos) {
+    Entry<R> entry = new Entry<>(key, value, nowNanos + ttlNanos, nowNanos + ttlNanos + staleNanos);
+    Entry<R> existing = entries.put(key, entry);
+    if (existing != null) {
+      // Take the existing entry's place
+      entry.inWindow = existing.inWindow;
+      segmentOf(existing).replace(existing, entry);
+      return;
+    }
+
+    if (sketch == null) {
+      main.addToHead(entry);
+      if (main.size > mainCapacity)
+        remove(main.tail());
+      return;
+    }
+
+    sketch.increment(key);
+    entry.inWindow = true;
+    window.addToHead(entry);
+    if (window.size > windowCapacity) {
+      Entry<R> candidate = window.tail();
+      window.remove(candidate);
+      candidate.inWindow = false;
+      main.addToHead(candidate);
+      if (main.size > mainCapacity) {
+        Entry<R> victim = main.tail();
+        if (sketch.frequency(candidate.key) > sketch.frequency(victim.key))
+          remove(victim);
+        else
+          remove(candidate);
+      }
+    }
+  }
+
+  /**
+   * Removes the entry for the {@code key}, if any.
+   */
+  synchronized void invalidate(Object key) {
+    Entry<R> entry = entries.get(key);
+    if (entry != null)
+      remove(entry);
+  }
+
+  synchronized void invalidateAll() {
+    entries.clear();
+    window.clear();
+    main.clear();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private void remove(Entry<R> entry) {
+    entries.remove(entry.key);
+    segmentOf(entry).remove(entry);
+  }
+
+  private Segment<R> segmentOf(Entry<R> entry) {
+    return entry.inWindow ? window : main;
+  }
+
+  /**
+   * A cached value. Entries are immutable apart from their position in a segment, and are replaced when a new value is
+   * cached.
+   */
+  static final class Entry<R> {
+    final Object key;
+    final R value;
+    final long expiresAtNanos;
+    final long staleAtNanos;
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+
+    // Guarded by the store
+    Entry<R> prev;
+    Entry<R> next;
+    boolean inWindow;
+
+    Entry(Object key, R value, long expiresAtNanos, long staleAtNanos) {
+      this.key = key;
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+      this.staleAtNanos = staleAtNanos;
+    }
+
+    boolean isExpired(long nowNanos) {
+      return nowNanos - expiresAtNanos >= 0;
+    }
+
+    /**
+     * Returns whether the caller may revalidate the entry, since no other revalidation is in progress.
+     */
+    boolean tryRevalidate() {
+      return revalidating.compareAndSet(false, true);
+    }
+
+    void revalidationFailed() {
+      revalidating.set(false);
+    }
+  }
+
+  /**
+   * A doubly linked list of entries, from most to least recently used.
+   */
+  static final class Segment<R> {
+    private Entry<R> head;
+    private Entry<R> tail;
+    int size;
+
+    Entry<R> tail() {
+      return tail;
+    }
+
+    void addToHead(Entry<R> entry) {
+      entry.prev = null;
+      entry.next = head;
+      if (head != null)
+        head.prev = entry;
+      head = entry;
+      if (tail == null)
+        tail = entry;
+      size++;
+    }
+
+    void remove(Entry<R> entry) {
+      if (entry.prev != null)
+        entry.prev.next = entry.next;
+      else
+        head = entry.next;
+      if (entry.next != null)
+        entry.next.prev = entry.prev;
+      else
+        tail = entry.prev;
+      entry.prev = entry.next = null;
+      size--;
+    }
+
+    void moveToHead(Entry<R> entry) {
+      if (head != entry) {
+        remove(entry);
+        addToHead(entry);
+      }
+    }
+
+    void replace(Entry<R> existing, Entry<R> entry) {
+      remove(existing);
+      addToHead(entry);
+    }
+
+    void clear() {
+      head = tail = null;
+      size = 0;
+    }
+  }
+
+  /**
+   * A count-min sketch of 4 rows of saturating counters, which are halved after a sample period so that old accesses
+   * age out.
+   */
+  static final class FrequencySketch {
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x27d4eb2f, 0x165667b1 };
+    private final byte[][] counters = new byte[SEEDS.length][];
+    private final int mask;
+    private final int samplePeriod;
+    private int samples;
+
+    FrequencySketch(int maxSize) {
+      // Use a few counters per entry in each row to limit collisions
+      int width = Integer.highestOneBit(Math.max(16, Math.min(maxSize, 1 << 24)) - 1) << 3;
+      for (int i = 0; i < counters.length; i++)
+        counters[i] = new byte[width];
+      mask = width - 1;
+      samplePeriod = (int) Math.min(Integer.MAX_VALUE, 10L * maxSize);
+    }
+
+    void increment(Object key) {
+      int hash = key.hashCode();
+      for (int i = 0; i < counters.length; i++) {
+        int index = index(hash, i);
+        if (counters[i][index] < MAX_COUNT)
+          counters[i][index]++;
+      }
+      if (++samples >= samplePeriod)
+        age();
+    }
+
+    int frequency(Object key) {
+      int hash = key.hashCode();
+      int frequency = MAX_COUNT;
+      for (int i = 0; i < counters.length; i++)
+        frequency = Math.min(frequency, counters[i][index(hash, i)]);
+      return frequency;
+    }
+
+    private int index(int hash, int row) {
+      int h = hash * SEEDS[row];
+      return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void age() {
+      samples /= 2;
+      for (byte[] row : counters)
+        for (int i = 0; i < row.length; i++)
+          row[i] >>= 1;
+    }
+  }
+}
@@ -17,10 +17,11 @@ package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreakerOpenException;
 import dev.failsafe.ExecutionContext;
-import dev.failsafe.spi.ExecutionResult;
-import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.*;
 import dev.failsafe.CircuitBreaker;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A PolicyExecutor that handles failures according to a {@link CircuitBreaker}.
  *
@@ -29,17 +30,20 @@ import dev.failsafe.CircuitBreaker;
  */
 public class CircuitBreakerExecutor<R> extends PolicyExecutor<R> {
   private final CircuitBreakerImpl<R> circuitBreaker;
+  private final boolean slowCallThresholding;
 
   public CircuitBreakerExecutor(CircuitBreakerImpl<R> circuitBreaker, int policyIndex) {
     super(circuitBreaker, policyIndex);
     this.circuitBreaker = circuitBreaker;
+    slowCallThresholding = circuitBreaker.getConfig().getSlowCallThreshold() != null;
   }
 
   @Override
   protected ExecutionResult<R> preExecute() {
-    return circuitBreaker.tryAcquirePermit() ?
-      null :
-      ExecutionResult.exception(new CircuitBreakerOpenException(circuitBreaker));
+    if (circuitBreaker.tryAcquirePermit())
+      return null;
+    getMetrics().recordRejection();
+    return ExecutionResult.exception(new CircuitBreakerOpenException(circuitBreaker));
   }
 
   @Override
@@ -52,4 +56,27 @@ public class CircuitBreakerExecutor<R> extends PolicyExecutor<R> {
     circuitBreaker.recordExecutionFailure(context);
     return result;
   }
+
+  @Override
+  public ExecutionResult<R> postExecute(ExecutionInternal<R> execution, ExecutionResult<R> result) {
+    recordCallDuration(execution);
+    return super.postExecute(execution, result);
+  }
+
+  @Override
+  protected synchronized CompletableFuture<ExecutionResult<R>> postExecuteAsync(AsyncExecutionInternal<R> execution,
+    ExecutionResult<R> result, Scheduler scheduler, FailsafeFuture<R> future) {
+    if (!execution.isAsyncExecution() || !execution.isPostExecuted(getPolicyIndex()))
+      recordCallDuration(execution);
+    return super.postExecuteAsync(execution, result, scheduler, future);
+  }
+
+  /**
+   * Records the duration of the execution's attempt before its result is recorded, when slow call thresholding is
+   * configured.
+   */
+  private void recordCallDuration(ExecutionInternal<R> execution) {
+    if (slowCallThresholding)
+      circuitBreaker.recordCallDuration(execution.getElapsedAttemptNanos());
+  }
 }
@@ -22,7 +22,11 @@ import dev.failsafe.spi.DelayablePolicy;
 import dev.failsafe.spi.FailurePolicy;
 import dev.failsafe.spi.PolicyExecutor;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -35,12 +39,14 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R>, DelayablePolicy<R> {
   private final CircuitBreakerConfig<R> config;
+  private final FailureClassifier<R> failureClassifier;
 
-  /** Writes guarded by "this" */
+  /** Transitions are performed via CAS */
   protected final AtomicReference<CircuitState<R>> state = new AtomicReference<>();
 
   public CircuitBreakerImpl(CircuitBreakerConfig<R> config) {
     this.config = config;
+    failureClassifier = FailureClassifier.of(config);
     state.set(new ClosedState<>(this));
   }
 
@@ -49,6 +55,11 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
     return config;
   }
 
+  @Override
+  public boolean isFailure(R result, Throwable exception) {
+    return failureClassifier.isFailure(result, exception);
+  }
+
   @Override
   public boolean tryAcquirePermit() {
     return state.get().tryAcquirePermit();
@@ -94,6 +105,16 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
     return state.get().getStats().getSuccessRate();
   }
 
+  @Override
+  public int getSlowCallCount() {
+    return state.get().getSlowCallCount();
+  }
+
+  @Override
+  public int getSlowCallRate() {
+    return state.get().getSlowCallRate();
+  }
+
   @Override
   public void halfOpen() {
     transitionTo(State.HALF_OPEN, config.getHalfOpenListener(), null);
@@ -157,39 +178,104 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
       state.get().recordSuccess();
   }
 
+  /**
+   * Writes a snapshot of the circuit's state, the remaining delay if it's open, and its recorded results to the {@code
+   * out}.
+   */
+  public void writeSnapshot(DataOutput out) throws IOException {
+    CircuitState<R> currentState = state.get();
+    out.writeByte(currentState.getState().ordinal());
+    out.writeLong(currentState.getRemainingDelay().toNanos());
+    CircuitStats.writeTo(currentState.getStats(), out);
+    CircuitStats slowCallStats = currentState.slowCallStats;
+    out.writeBoolean(slowCallStats != null);
+    if (slowCallStats != null)
+      CircuitStats.writeTo(slowCallStats, out);
+  }
+
+  /**
+   * Restores a snapshot written via {@link #writeSnapshot(DataOutput)} from the {@code in}, as of {@code ageNanos} ago.
+   * An open circuit is restored with its remaining delay reduced by the age, and time based results that are older than
+   * the thresholding period are dropped. State change listeners are not called.
+   */
+  public void restoreSnapshot(DataInput in, long ageNanos) throws IOException {
+    byte ordinal = in.readByte();
+    if (ordinal < 0 || ordinal >= State.values().length)
+      throw new IOException("Invalid circuit breaker state " + ordinal);
+    State snapshotState = State.values()[ordinal];
+    long remainingDelayNanos = in.readLong();
+    long ageMillis = TimeUnit.NANOSECONDS.toMillis(ageNanos);
+
+    // Open circuits retain the stats of the state they were opened from
+    CircuitState<R> restoredState = snapshotState == State.HALF_OPEN ?
+      new HalfOpenState<>(this) :
+      new ClosedState<>(this);
+    CircuitStats.readFrom(in, restoredState.stats, ageMillis);
+    if (in.readBoolean())
+      CircuitStats.readFrom(in, restoredState.slowCallStats, ageMillis);
+    if (snapshotState == State.OPEN) {
+      Duration remainingDelay = Duration.ofNanos(Math.max(remainingDelayNanos - ageNanos, 0));
+      restoredState = new OpenState<>(this, restoredState, remainingDelay);
+    }
+    state.set(restoredState);
+  }
+
   /**
    * Transitions to the {@code newState} if not already in that state and calls any associated event listener.
    */
   protected void transitionTo(State newState, EventListener<CircuitBreakerStateChangedEvent> listener,
     ExecutionContext<R> context) {
-    boolean transitioned = false;
-    State currentState;
-
-    synchronized (this) {
-      currentState = getState();
-      if (!getState().equals(newState)) {
-        switch (newState) {
-          case CLOSED:
-            state.set(new ClosedState<>(this));
-            break;
-          case OPEN:
-            Duration computedDelay = computeDelay(context);
-            state.set(new OpenState<>(this, state.get(), computedDelay != null ? computedDelay : config.getDelay()));
-            break;
-          case HALF_OPEN:
-            state.set(new HalfOpenState<>(this));
-            break;
-        }
-        transitioned = true;
-      }
+    CircuitState<R> currentState;
+    do {
+      currentState = state.get();
+      if (currentState.getState().equals(newState))
+        return;
+    } while (!transition(currentState, newState, listener, context));
+  }
+
+  /**
+   * Transitions from the {@code fromState} to the {@code newState} via a CAS and calls any associated event listener,
+   * returning whether the transition occurred. The transition does not occur if the circuit breaker's current state is
+   * no longer the {@code fromState} instance, even if it's a newer state of the same kind, so when multiple threads
+   * attempt to transition from the same state, only one succeeds and the listener is called once.
+   */
+  boolean transition(CircuitState<R> fromState, State newState,
+    EventListener<CircuitBreakerStateChangedEvent> listener, ExecutionContext<R> context) {
+    if (state.get() != fromState)
+      return false;
+
+    CircuitState<R> toState;
+    switch (newState) {
+      case CLOSED:
+        toState = new ClosedState<>(this);
+        break;
+      case OPEN:
+        Duration computedDelay = computeDelay(context);
+        toState = new OpenState<>(this, fromState, computedDelay != null ? computedDelay : config.getDelay());
+        break;
+      default:
+        toState = new HalfOpenState<>(this);
+        break;
     }
 
-    if (transitioned && listener != null) {
+    if (!state.compareAndSet(fromState, toState))
+      return false;
+
+    if (listener != null) {
       try {
-        listener.accept(new CircuitBreakerStateChangedEvent(currentState));
+        listener.accept(new CircuitBreakerStateChangedEvent(fromState.getState()));
       } catch (Throwable ignore) {
       }
     }
+    return true;
+  }
+
+  /**
+   * Records the duration of an execution for slow call thresholding. Should be called before the execution's result is
+   * recorded, which checks thresholds.
+   */
+  void recordCallDuration(long elapsedNanos) {
+    state.get().recordCallDuration(elapsedNanos);
   }
 
   /**
@@ -200,11 +286,28 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
   }
 
   /**
-   * Opens the circuit breaker and considers the {@code context} when computing the delay before the circuit breaker
-   * will transition to half open.
+   * Opens the circuit breaker from the {@code fromState} and considers the {@code context} when computing the delay
+   * before the circuit breaker will transition to half open. Does nothing if the circuit breaker has already
+   * transitioned out of the {@code fromState}.
+   */
+  void open(CircuitState<R> fromState, ExecutionContext<R> context) {
+    transition(fromState, State.OPEN, config.getOpenListener(), context);
+  }
+
+  /**
+   * Closes the circuit breaker from the {@code fromState}. Does nothing if the circuit breaker has already transitioned
+   * out of the {@code fromState}.
+   */
+  void close(CircuitState<R> fromState) {
+    transition(fromState, State.CLOSED, config.getCloseListener(), null);
+  }
+
+  /**
+   * Half-opens the circuit breaker from the {@code fromState}. Does nothing if the circuit breaker has already
+   * transitioned out of the {@code fromState}.
    */
-  protected void open(ExecutionContext<R> context) {
-    transitionTo(State.OPEN, config.getOpenListener(), context);
+  void halfOpen(CircuitState<R> fromState) {
+    transition(fromState, State.HALF_OPEN, config.getHalfOpenListener(), null);
   }
 
   @Override
@@ -32,11 +32,28 @@ abstract class CircuitState<R> {
   final CircuitBreakerImpl<R> breaker;
   final CircuitBreakerConfig<R> config;
   volatile CircuitStats stats;
+  /**
+   * Tracks slow executions as failures and other executions as successes, else {@code null} if slow call thresholding
+   * is not configured
+   */
+  volatile CircuitStats slowCallStats;
 
-  CircuitState(CircuitBreakerImpl<R> breaker, CircuitStats stats) {
+  CircuitState(CircuitBreakerImpl<R> breaker, CircuitStats stats, CircuitStats slowCallStats) {
     this.breaker = breaker;
     this.config = breaker.getConfig();
     this.stats = stats;
+    this.slowCallStats = slowCallStats;
+  }
+
+  /**
+   * Returns stats for tracking slow calls, which are windowed the same as the stats for tracking failures, else {@code
+   * null} if slow call thresholding is not configured.
+   */
+  static CircuitStats createSlowCallStats(CircuitBreakerImpl<?> breaker, int capacity, boolean supportsTimeBased,
+    CircuitStats oldStats) {
+    if (breaker.getConfig().getSlowCallThreshold() == null)
+      return null;
+    return CircuitStats.create(breaker, capacity, supportsTimeBased, oldStats);
   }
 
   public Duration getRemainingDelay() {
@@ -49,22 +66,62 @@ abstract class CircuitState<R> {
 
   public abstract State getState();
 
-  public synchronized void recordFailure(ExecutionContext<R> context) {
+  public int getSlowCallCount() {
+    CircuitStats slowCallStats = this.slowCallStats;
+    return slowCallStats == null ? 0 : slowCallStats.getFailureCount();
+  }
+
+  public int getSlowCallRate() {
+    CircuitStats slowCallStats = this.slowCallStats;
+    return slowCallStats == null ? 0 : slowCallStats.getFailureRate();
+  }
+
+  /**
+   * Records whether an execution that took {@code elapsedNanos} was slow, when slow call thresholding is configured.
+   * Thresholds are checked when the execution's result is subsequently recorded.
+   */
+  public void recordCallDuration(long elapsedNanos) {
+    CircuitStats slowCallStats = this.slowCallStats;
+    if (slowCallStats != null) {
+      if (elapsedNanos >= config.getSlowCallThreshold().toNanos())
+        slowCallStats.recordFailure();
+      else
+        slowCallStats.recordSuccess();
+    }
+  }
+
+  public void recordFailure(ExecutionContext<R> context) {
+    CircuitStats stats = this.stats;
     stats.recordFailure();
-    checkThreshold(context);
+    checkThreshold(stats, context);
     releasePermit();
   }
 
-  public synchronized void recordSuccess() {
+  public void recordSuccess() {
+    CircuitStats stats = this.stats;
     stats.recordSuccess();
-    checkThreshold(null);
+    checkThreshold(stats, null);
     releasePermit();
   }
 
   public void handleConfigChange() {
   }
 
-  void checkThreshold(ExecutionContext<R> context) {
+  /**
+   * Checks whether a threshold has been met using the {@code stats} that a result was just recorded to, transitioning
+   * from this state if so.
+   */
+  void checkThreshold(CircuitStats stats, ExecutionContext<R> context) {
+  }
+
+  /**
+   * Returns whether slow call thresholding is configured and the slow call rate threshold has been met, once at least
+   * {@code minimumExecutions} have been recorded.
+   */
+  boolean isSlowCallRateExceeded(int minimumExecutions) {
+    CircuitStats slowCallStats = this.slowCallStats;
+    return slowCallStats != null && slowCallStats.getExecutionCount() >= minimumExecutions
+      && slowCallStats.getFailureRate() >= config.getSlowCallRateThreshold();
   }
 
   abstract boolean tryAcquirePermit();
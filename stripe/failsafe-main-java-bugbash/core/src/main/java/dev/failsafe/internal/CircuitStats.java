@@ -16,24 +16,93 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker;
+import dev.failsafe.CircuitBreakerConfig;
 import dev.failsafe.internal.TimedCircuitStats.Clock;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Stats for a circuit breaker.
  */
 interface CircuitStats {
   static CircuitStats create(CircuitBreaker<?> breaker, int capacity, boolean supportsTimeBased,
     CircuitStats oldStats) {
-    if (supportsTimeBased && breaker.getConfig().getFailureThresholdingPeriod() != null)
-      return new TimedCircuitStats(TimedCircuitStats.DEFAULT_BUCKET_COUNT,
-        breaker.getConfig().getFailureThresholdingPeriod(), new Clock(), oldStats);
-    else if (capacity > 1) {
-      return new CountingCircuitStats(capacity, oldStats);
+    CircuitBreakerConfig<?> config = breaker.getConfig();
+    if (supportsTimeBased && config.getFailureThresholdingPeriod() != null) {
+      return config.isConcurrentStats() ?
+        new StripedTimedCircuitStats(TimedCircuitStats.DEFAULT_BUCKET_COUNT, config.getFailureThresholdingPeriod(),
+          new Clock(config.getTicker()), oldStats) :
+        new TimedCircuitStats(TimedCircuitStats.DEFAULT_BUCKET_COUNT, config.getFailureThresholdingPeriod(),
+          new Clock(config.getTicker()), oldStats);
+    } else if (capacity > 1) {
+      return config.isConcurrentStats() ?
+        new PackedCountingCircuitStats(capacity, oldStats) :
+        new CountingCircuitStats(capacity, oldStats);
     } else {
       return new DefaultCircuitStats();
     }
   }
 
+  /**
+   * Accepts a bucket of recorded results.
+   */
+  @FunctionalInterface
+  interface BucketConsumer {
+    void accept(long ageMillis, int successes, int failures);
+  }
+
+  /**
+   * Writes the results recorded by the {@code stats} to the {@code out}, oldest first.
+   */
+  static void writeTo(CircuitStats stats, DataOutput out) throws IOException {
+    List<long[]> buckets = new ArrayList<>();
+    stats.snapshot((ageMillis, successes, failures) -> buckets.add(new long[] { ageMillis, successes, failures }));
+    out.writeInt(buckets.size());
+    for (long[] bucket : buckets) {
+      out.writeLong(bucket[0]);
+      out.writeInt((int) bucket[1]);
+      out.writeInt((int) bucket[2]);
+    }
+  }
+
+  /**
+   * Reads results written via {@link #writeTo(CircuitStats, DataOutput)} from the {@code in}, restoring them to the
+   * {@code stats} if not {@code null}, with their ages increased by the {@code ageMillis} of the snapshot.
+   */
+  static void readFrom(DataInput in, CircuitStats stats, long ageMillis) throws IOException {
+    int bucketCount = in.readInt();
+    for (int i = 0; i < bucketCount; i++) {
+      long bucketAgeMillis = in.readLong();
+      int successes = in.readInt();
+      int failures = in.readInt();
+      if (stats != null)
+        stats.restore(bucketAgeMillis + ageMillis, successes, failures);
+    }
+  }
+
+  /**
+   * Passes the recorded results to the {@code consumer} as buckets, oldest first. Stats that are not time based pass
+   * buckets with an age of {@code 0}, where each bucket holds a run of successes or failures, so that the order of
+   * results is preserved.
+   */
+  void snapshot(BucketConsumer consumer);
+
+  /**
+   * Records {@code successes} then {@code failures} that were recorded {@code ageMillis} ago. Time based stats ignore
+   * results that are older than their thresholding period, and other stats record the results as if they just
+   * occurred.
+   */
+  default void restore(long ageMillis, int successes, int failures) {
+    for (int i = 0; i < successes; i++)
+      recordSuccess();
+    for (int i = 0; i < failures; i++)
+      recordFailure();
+  }
+
   default void copyExecutions(CircuitStats oldStats) {
     for (int i = 0; i < oldStats.getSuccessCount(); i++)
       recordSuccess();
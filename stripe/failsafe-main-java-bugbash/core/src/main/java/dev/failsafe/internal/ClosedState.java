@@ -21,7 +21,8 @@ import dev.failsafe.ExecutionContext;
 
 class ClosedState<R> extends CircuitState<R> {
   public ClosedState(CircuitBreakerImpl<R> breaker) {
-    super(breaker, CircuitStats.create(breaker, capacityFor(breaker), true, null));
+    super(breaker, CircuitStats.create(breaker, capacityFor(breaker), true, null),
+      createSlowCallStats(breaker, capacityFor(breaker), true, null));
   }
 
   @Override
@@ -35,22 +36,30 @@ class ClosedState<R> extends CircuitState<R> {
   }
 
   @Override
-  public synchronized void handleConfigChange() {
+  public void handleConfigChange() {
     stats = CircuitStats.create(breaker, capacityFor(breaker), true, stats);
+    slowCallStats = createSlowCallStats(breaker, capacityFor(breaker), true, slowCallStats);
   }
 
   /**
-   * Checks to see if the executions and failure thresholds have been exceeded, opening the circuit if so.
+   * Checks to see if the executions and failure or slow call thresholds have been exceeded, opening the circuit if so.
+   * The slow call rate is only considered once the capacity of the state has been recorded, so that a few slow calls do
+   * not open the circuit.
    */
   @Override
-  synchronized void checkThreshold(ExecutionContext<R> context) {
+  void checkThreshold(CircuitStats stats, ExecutionContext<R> context) {
+    if (isSlowCallRateExceeded(capacityFor(breaker))) {
+      breaker.open(this, context);
+      return;
+    }
+
     // Execution threshold can only be set for time based thresholding
     if (stats.getExecutionCount() >= config.getFailureExecutionThreshold()) {
       // Failure rate threshold can only be set for time based thresholding
       double failureRateThreshold = config.getFailureRateThreshold();
       if ((failureRateThreshold != 0 && stats.getFailureRate() >= failureRateThreshold) || (failureRateThreshold == 0
         && stats.getFailureCount() >= config.getFailureThreshold()))
-        breaker.open(context);
+        breaker.open(this, context);
     }
   }
 
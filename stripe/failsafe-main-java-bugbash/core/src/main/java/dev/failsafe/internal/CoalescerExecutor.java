@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Coalescer;
+import dev.failsafe.internal.CoalescerImpl.Flight;
+import dev.failsafe.spi.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A PolicyExecutor that handles executions according to a {@link Coalescer}.
+ *
+ * @param <R> result type
+ */
+public class CoalescerExecutor<R> extends PolicyExecutor<R> {
+  private final CoalescerImpl<R> coalescer;
+
+  public CoalescerExecutor(CoalescerImpl<R> coalescer, int policyIndex) {
+    super(coalescer, policyIndex);
+    this.coalescer = coalescer;
+  }
+
+  /**
+   * Performs an async execution by joining the in-flight execution for the key, else by leading a new flight. The
+   * flight runs the inner policies on its own execution and future, so that cancelling any waiter, including the
+   * leader, such as by an outer Timeout, does not cancel the flight while other waiters remain.
+   */
+  @Override
+  public Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> applyAsync(
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> executeFn = super.applyAsync(innerFn,
+      scheduler, future);
+    return execution -> {
+      if (execution.isAsyncExecution())
+        return executeFn.apply(execution);
+
+      CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
+      Flight<R> flight = coalescer.join();
+      boolean leader = flight.lead();
+
+      // Leave the flight when this execution is cancelled, cancelling the flight if it was abandoned
+      future.setCancelFn(this, (mayInterrupt, cancelResult) -> {
+        promise.complete(cancelResult);
+        if (flight.leave())
+          abandon(flight, mayInterrupt);
+      });
+
+      flight.result.whenComplete((result, error) -> {
+        if (error != null)
+          promise.completeExceptionally(error);
+        else if (!promise.isDone()) {
+          // Still need to preExecute when completing a waiter with the shared result
+          execution.preExecute();
+          if (leader) {
+            postExecuteAsync(execution, result, scheduler, future).whenComplete((postResult, postError) -> {
+              if (postError != null)
+                promise.completeExceptionally(postError);
+              else
+                promise.complete(postResult);
+            });
+          } else
+            promise.complete(result);
+        }
+      });
+
+      if (leader) {
+        try {
+          FailsafeFuture<R> flightFuture = execution.executeInner(this, (result, context) -> {
+            coalescer.remove(flight);
+            flight.complete(result, null);
+          });
+          if (flight.start(flightFuture))
+            flightFuture.cancel(flight.isAbandonedWithInterrupt());
+        } catch (Throwable t) {
+          coalescer.remove(flight);
+          flight.complete(null, t);
+        }
+      }
+      return promise;
+    };
+  }
+
+  /**
+   * Cancels a flight that all waiters have left.
+   */
+  private void abandon(Flight<R> flight, boolean mayInterrupt) {
+    coalescer.remove(flight);
+    FailsafeFuture<R> flightFuture = flight.abandon(mayInterrupt);
+    if (flightFuture != null)
+      flightFuture.cancel(mayInterrupt);
+  }
+}
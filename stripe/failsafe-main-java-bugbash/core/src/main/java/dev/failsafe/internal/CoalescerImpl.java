@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Coalescer;
+import dev.failsafe.CoalescerBuilder;
+import dev.failsafe.CoalescerConfig;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.FailsafeFuture;
+import dev.failsafe.spi.PolicyExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link Coalescer} implementation, where keyed views share the in-flight executions of the Coalescer they were
+ * created from.
+ *
+ * @param <R> result type
+ * @see CoalescerBuilder
+ */
+public class CoalescerImpl<R> implements Coalescer<R> {
+  private static final Object UNKEYED = new Object();
+  private final CoalescerConfig<R> config;
+  private final ConcurrentMap<Object, Flight<R>> flights;
+  private final Object key;
+
+  public CoalescerImpl(CoalescerConfig<R> config) {
+    this(config, new ConcurrentHashMap<>(), UNKEYED);
+  }
+
+  private CoalescerImpl(CoalescerConfig<R> config, ConcurrentMap<Object, Flight<R>> flights, Object key) {
+    this.config = config;
+    this.flights = flights;
+    this.key = key;
+  }
+
+  @Override
+  public CoalescerConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public Coalescer<R> forKey(Object key) {
+    return new CoalescerImpl<>(config, flights, Assert.notNull(key, "key"));
+  }
+
+  /**
+   * Joins the in-flight execution for this Coalescer's key, else starts a new flight. The first waiter to {@link
+   * Flight#lead() lead} the flight runs it.
+   */
+  Flight<R> join() {
+    while (true) {
+      Flight<R> flight = flights.get(key);
+      if (flight == null) {
+        flight = new Flight<>();
+        if (flights.putIfAbsent(key, flight) == null)
+          return flight;
+      } else if (flight.join())
+        return flight;
+      else
+        flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * Removes the {@code flight} so that later executions start a new flight.
+   */
+  void remove(Flight<R> flight) {
+    flights.remove(key, flight);
+  }
+
+  @Override
+  public PolicyExecutor<R> toExecutor(int policyIndex) {
+    return new CoalescerExecutor<>(this, policyIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "Coalescer[key=" + (key == UNKEYED ? "none" : key) + ']';
+  }
+
+  /**
+   * An in-flight execution and the number of executions waiting for its result, including the leading execution.
+   * Once the result is set or all waiters leave, the flight is closed and cannot be joined.
+   */
+  static final class Flight<R> {
+    final CompletableFuture<ExecutionResult<R>> result = new CompletableFuture<>();
+
+    // Mutable state guarded by "this"
+    private int waiters = 1;
+    private boolean closed;
+    private boolean led;
+    private boolean abandoned;
+    private boolean abandonedWithInterrupt;
+    // The future of the execution that runs the flight, which is null until the flight is started
+    private FailsafeFuture<R> future;
+
+    synchronized boolean join() {
+      if (closed)
+        return false;
+      waiters++;
+      return true;
+    }
+
+    /**
+     * Returns whether the caller is the first to lead the flight, in which case it must {@link
+     * #start(FailsafeFuture) start} it.
+     */
+    synchronized boolean lead() {
+      if (led)
+        return false;
+      led = true;
+      return true;
+    }
+
+    /**
+     * Sets the {@code future} of the execution that runs the flight, returning whether the flight was already
+     * abandoned, in which case the caller must cancel the {@code future}.
+     */
+    synchronized boolean start(FailsafeFuture<R> future) {
+      this.future = future;
+      return abandoned;
+    }
+
+    /**
+     * Marks the flight as abandoned by all of its waiters, returning the future of the execution that runs the flight,
+     * which is null if the flight has not been started.
+     */
+    synchronized FailsafeFuture<R> abandon(boolean mayInterrupt) {
+      abandoned = true;
+      abandonedWithInterrupt = mayInterrupt;
+      return future;
+    }
+
+    synchronized boolean isAbandonedWithInterrupt() {
+      return abandonedWithInterrupt;
+    }
+
+    /**
+     * Removes a waiter, returning whether the flight was abandoned by its last waiter before a result was set.
+     */
+    synchronized boolean leave() {
+      if (closed || --waiters > 0)
+        return false;
+      closed = true;
+      return true;
+    }
+
+    void complete(ExecutionResult<R> executionResult, Throwable error) {
+      synchronized (this) {
+        closed = true;
+      }
+      if (error != null)
+        result.completeExceptionally(error);
+      else
+        result.complete(executionResult);
+    }
+  }
+}
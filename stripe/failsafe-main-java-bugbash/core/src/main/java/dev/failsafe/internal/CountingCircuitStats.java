@@ -93,6 +93,26 @@ class CountingCircuitStats implements CircuitStats {
     return (int) Math.round(occupiedBits == 0 ? 0 : (double) successes / (double) occupiedBits * 100.0);
   }
 
+  @Override
+  public synchronized void snapshot(BucketConsumer consumer) {
+    int index = currentIndex - occupiedBits;
+    if (index < 0)
+      index += occupiedBits;
+    int run = 0;
+    boolean runValue = false;
+    for (int i = 0; i < occupiedBits; i++, index = indexAfter(index)) {
+      boolean value = bitSet.get(index);
+      if (run > 0 && value != runValue) {
+        consumer.accept(0, runValue ? run : 0, runValue ? 0 : run);
+        run = 0;
+      }
+      runValue = value;
+      run++;
+    }
+    if (run > 0)
+      consumer.accept(0, runValue ? run : 0, runValue ? 0 : run);
+  }
+
   @Override
   public synchronized void reset() {
     bitSet.clear();
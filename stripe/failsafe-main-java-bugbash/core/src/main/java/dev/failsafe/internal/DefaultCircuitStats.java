@@ -41,6 +41,13 @@ class DefaultCircuitStats implements CircuitStats {
     result = 1;
   }
 
+  @Override
+  public void snapshot(BucketConsumer consumer) {
+    int result = this.result;
+    if (result != -1)
+      consumer.accept(0, result, 1 - result);
+  }
+
   @Override
   public void reset() {
     result = -1;
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.spi.QuotaCoordinator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A RateLimiterStats that enforces a cluster wide rate by leasing blocks of permits from a {@link QuotaCoordinator},
+ * and that hands leased permits out via local smooth or bursty stats. Leases are renewed by a background thread once
+ * the leased permits that remain fall to half a block, so that acquiring permits never waits on the coordinator.
+ * <p>
+ * Acquisitions that exceed the leased permits leave a deficit, which is added to the next lease, and are made to wait
+ * the time that the cluster wide rate takes to produce the deficit. Since this is an estimate, and since permits may
+ * be used after the period they were leased in, up to one block of permits per node may be used in excess of the
+ * cluster wide rate.
+ * </p>
+ */
+class DistributedRateLimiterStats extends RateLimiterStats {
+  private static final long RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final ExecutorService RENEWALS = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "failsafe-quota-renewal");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final RateLimiterConfig<?> config;
+  private final RateLimiterStats delegate;
+  private final long leasePermits;
+  private final long renewThreshold;
+  /* The nanos that the cluster wide rate takes to produce a permit */
+  private final long nanosPerPermit;
+
+  /* The leased permits that have not been acquired, which are negative when there is a deficit */
+  private final AtomicLong availablePermits = new AtomicLong();
+  private final AtomicBoolean renewing = new AtomicBoolean();
+  private volatile long retryAfterNanos = Long.MIN_VALUE;
+
+  DistributedRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    super(stopwatch);
+    this.config = config;
+    if (config.getMaxRate() != null) {
+      delegate = new SmoothRateLimiterStats(config, stopwatch);
+      nanosPerPermit = config.getMaxRate().toNanos();
+    } else {
+      delegate = new BurstyRateLimiterStats(config, stopwatch);
+      nanosPerPermit = Math.max(config.getPeriod().toNanos() / config.getMaxPermits(), 1);
+    }
+    leasePermits = config.getLeasePermits();
+    renewThreshold = leasePermits / 2;
+    renewIfNeeded();
+  }
+
+  @Override
+  long acquirePermits(long permits, Duration maxWaitTime) {
+    long leaseWaitNanos;
+    while (true) {
+      long available = availablePermits.get();
+      long newAvailable = available - permits;
+      leaseWaitNanos = 0;
+      if (newAvailable < 0) {
+        long deficit = -newAvailable;
+        leaseWaitNanos = deficit > Long.MAX_VALUE / nanosPerPermit ? Long.MAX_VALUE : deficit * nanosPerPermit;
+        if (exceedsMaxWaitTime(leaseWaitNanos, maxWaitTime)) {
+          renewIfNeeded();
+          return -1;
+        }
+      }
+      if (availablePermits.compareAndSet(available, newAvailable))
+        break;
+    }
+
+    long waitNanos = delegate.acquirePermits(permits, maxWaitTime);
+    if (waitNanos == -1)
+      availablePermits.addAndGet(permits);
+    renewIfNeeded();
+    return waitNanos == -1 ? -1 : Math.max(waitNanos, leaseWaitNanos);
+  }
+
+  /**
+   * Returns the leased permits that have not been acquired.
+   */
+  long getAvailablePermits() {
+    return availablePermits.get();
+  }
+
+  private void renewIfNeeded() {
+    if (availablePermits.get() <= renewThreshold && !renewing.get() && stopwatch.elapsedNanos() >= retryAfterNanos
+      && renewing.compareAndSet(false, true))
+      RENEWALS.execute(this::renew);
+  }
+
+  /**
+   * Leases blocks of permits, along with any deficit, until the available permits exceed the renew threshold. Leased
+   * permits are made available once the coordinator's wait time has elapsed. Failed leases are retried by a later
+   * acquisition, after a delay.
+   */
+  private void renew() {
+    boolean failed = false;
+    try {
+      long available;
+      while ((available = availablePermits.get()) <= renewThreshold) {
+        long permits = leasePermits + Math.max(-available, 0);
+        long waitNanos = config.getCoordinator().lease(config.getCoordinatorKey(), config, permits);
+        if (waitNanos > 0)
+          TimeUnit.NANOSECONDS.sleep(waitNanos);
+        availablePermits.addAndGet(permits);
+      }
+    } catch (Exception e) {
+      failed = true;
+      retryAfterNanos = stopwatch.elapsedNanos() + RETRY_DELAY_NANOS;
+    } finally {
+      renewing.set(false);
+    }
+
+    // Recheck in case permits were acquired after the last check
+    if (!failed)
+      renewIfNeeded();
+  }
+
+  /**
+   * Writes the kind of stats only, since leased permits belong to the coordinator.
+   */
+  @Override
+  void writeTo(DataOutput out) throws IOException {
+    out.writeByte(DISTRIBUTED);
+  }
+
+  @Override
+  boolean readFrom(DataInput in, long ageNanos) throws IOException {
+    in.readByte();
+    return false;
+  }
+
+  @Override
+  void reset() {
+    delegate.reset();
+  }
+}
@@ -15,6 +15,7 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.event.EventDispatch;
 import dev.failsafe.event.EventListener;
 import dev.failsafe.ExecutionContext;
 import dev.failsafe.event.ExecutionAttemptedEvent;
@@ -22,8 +23,6 @@ import dev.failsafe.event.ExecutionCompletedEvent;
 import dev.failsafe.event.ExecutionScheduledEvent;
 import dev.failsafe.spi.ExecutionResult;
 
-import java.time.Duration;
-
 /**
  * Internal handling of events.
  *
@@ -32,25 +31,25 @@ import java.time.Duration;
 public interface EventHandler<R> {
   void handle(ExecutionResult<R> result, ExecutionContext<R> context);
 
-  static <R> EventHandler<R> ofExecutionCompleted(EventListener<ExecutionCompletedEvent<R>> handler) {
+  static <R> EventHandler<R> ofExecutionCompleted(EventListener<ExecutionCompletedEvent<R>> handler,
+    EventDispatch dispatch) {
     return handler == null ?
       null :
-      (result, context) -> handler.acceptUnchecked(
-        new ExecutionCompletedEvent<>(result.getResult(), result.getException(), context));
+      (result, context) -> dispatch.dispatchCompleted(handler, result.getResult(), result.getException(), context);
   }
 
-  static <R> EventHandler<R> ofExecutionAttempted(EventListener<ExecutionAttemptedEvent<R>> handler) {
+  static <R> EventHandler<R> ofExecutionAttempted(EventListener<ExecutionAttemptedEvent<R>> handler,
+    EventDispatch dispatch) {
     return handler == null ?
       null :
-      (result, context) -> handler.acceptUnchecked(
-        new ExecutionAttemptedEvent<>(result.getResult(), result.getException(), context));
+      (result, context) -> dispatch.dispatchAttempted(handler, result.getResult(), result.getException(), context);
   }
 
-  static <R> EventHandler<R> ofExecutionScheduled(EventListener<ExecutionScheduledEvent<R>> handler) {
+  static <R> EventHandler<R> ofExecutionScheduled(EventListener<ExecutionScheduledEvent<R>> handler,
+    EventDispatch dispatch) {
     return handler == null ?
       null :
-      (result, context) -> handler.acceptUnchecked(
-        new ExecutionScheduledEvent<>(result.getResult(), result.getException(), Duration.ofNanos(result.getDelay()),
-          context));
+      (result, context) -> dispatch.dispatchScheduled(handler, result.getResult(), result.getException(),
+        result.getDelay(), context);
   }
-}
\ No newline at end of file
+}
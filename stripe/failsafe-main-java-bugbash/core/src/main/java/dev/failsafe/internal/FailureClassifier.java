@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.FailurePolicyConfig;
+import dev.failsafe.function.CheckedBiPredicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classifies execution results and exceptions against a policy's conditions, compiled when a policy is built. Exception
+ * type conditions cache their verdict per exception class, and when all conditions are exception type conditions, they
+ * are merged into a single type check.
+ *
+ * @param <R> result type
+ */
+public final class FailureClassifier<R> {
+  private final CheckedBiPredicate<R, Throwable>[] conditions;
+  // Merged exception type conditions, else null if some conditions are not exception type conditions
+  final ExceptionTypes<R> exceptionTypes;
+  private final boolean exceptionsChecked;
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private FailureClassifier(List<CheckedBiPredicate<R, Throwable>> conditions, boolean exceptionsChecked) {
+    this.conditions = conditions.toArray(new CheckedBiPredicate[0]);
+    this.exceptionsChecked = exceptionsChecked;
+
+    List<Class<? extends Throwable>> types = new ArrayList<>();
+    for (CheckedBiPredicate<R, Throwable> condition : conditions) {
+      if (!(condition instanceof ExceptionTypes)) {
+        types = null;
+        break;
+      }
+      types.addAll(((ExceptionTypes<R>) condition).types);
+    }
+    exceptionTypes = types == null || types.isEmpty() ? null : new ExceptionTypes<>(types);
+  }
+
+  /**
+   * Returns a classifier for the failure conditions in the {@code config}.
+   */
+  public static <R> FailureClassifier<R> of(FailurePolicyConfig<R> config) {
+    return new FailureClassifier<>(config.getFailureConditions(), config.isExceptionsChecked());
+  }
+
+  /**
+   * Returns a classifier for the {@code conditions}, where exceptions are not failures by default.
+   */
+  public static <R> FailureClassifier<R> of(List<CheckedBiPredicate<R, Throwable>> conditions) {
+    return new FailureClassifier<>(conditions, true);
+  }
+
+  /**
+   * Returns a condition that matches exceptions that are assignable to any of the {@code types}.
+   */
+  public static <R> CheckedBiPredicate<R, Throwable> exceptionTypes(List<Class<? extends Throwable>> types) {
+    return new ExceptionTypes<>(types);
+  }
+
+  /**
+   * Returns whether the {@code result} or {@code exception} match any of the conditions. Any exception thrown by a
+   * condition is treated as a {@code false} result.
+   */
+  public boolean matches(R result, Throwable exception) {
+    if (exceptionTypes != null)
+      return exceptionTypes.test(result, exception);
+
+    for (CheckedBiPredicate<R, Throwable> condition : conditions) {
+      try {
+        if (condition.test(result, exception))
+          return true;
+      } catch (Throwable ignore) {
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether the {@code result} or {@code exception} are a failure. Any exception is a failure if there are no
+   * conditions, or if it is not checked by a condition.
+   */
+  public boolean isFailure(R result, Throwable exception) {
+    if (conditions.length == 0)
+      return exception != null;
+    if (matches(result, exception))
+      return true;
+
+    // Fail by default if an exception is not checked by a condition
+    return exception != null && !exceptionsChecked;
+  }
+
+  /**
+   * A condition that matches exceptions that are assignable to any of the types, caching the verdict per exception
+   * class.
+   */
+  static final class ExceptionTypes<R> implements CheckedBiPredicate<R, Throwable> {
+    final List<Class<? extends Throwable>> types;
+    private final ClassValue<Boolean> verdicts = new ClassValue<Boolean>() {
+      @Override
+      protected Boolean computeValue(Class<?> exceptionType) {
+        for (Class<? extends Throwable> type : types)
+          if (type.isAssignableFrom(exceptionType))
+            return Boolean.TRUE;
+        return Boolean.FALSE;
+      }
+    };
+
+    ExceptionTypes(List<Class<? extends Throwable>> types) {
+      this.types = new ArrayList<>(types);
+    }
+
+    @Override
+    public boolean test(R result, Throwable exception) {
+      return exception != null && verdicts.get(exception.getClass());
+    }
+  }
+}
@@ -36,7 +36,8 @@ public class FallbackExecutor<R> extends PolicyExecutor<R> {
     super(fallback, policyIndex);
     this.fallback = fallback;
     this.config = fallback.getConfig();
-    this.failedAttemptHandler = EventHandler.ofExecutionAttempted(config.getFailedAttemptListener());
+    this.failedAttemptHandler = EventHandler.ofExecutionAttempted(config.getFailedAttemptListener(),
+      config.getEventDispatch());
   }
 
   /**
@@ -39,9 +39,11 @@ public class FallbackImpl<R> implements Fallback<R>, FailurePolicy<R> {
   public static Fallback<Void> NONE = Fallback.<Void>builder(() -> null).build();
 
   private final FallbackConfig<R> config;
+  private final FailureClassifier<R> failureClassifier;
 
   public FallbackImpl(FallbackConfig<R> config) {
     this.config = config;
+    failureClassifier = FailureClassifier.of(config);
   }
 
   @Override
@@ -49,6 +51,11 @@ public class FallbackImpl<R> implements Fallback<R>, FailurePolicy<R> {
     return config;
   }
 
+  @Override
+  public boolean isFailure(R result, Throwable exception) {
+    return failureClassifier.isFailure(result, exception);
+  }
+
   /**
    * Returns the applied fallback result.
    */
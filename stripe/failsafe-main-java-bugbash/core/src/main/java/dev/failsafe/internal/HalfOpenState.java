@@ -25,7 +25,8 @@ class HalfOpenState<R> extends CircuitState<R> {
   protected final AtomicInteger permittedExecutions = new AtomicInteger();
 
   public HalfOpenState(CircuitBreakerImpl<R> breaker) {
-    super(breaker, CircuitStats.create(breaker, capacityFor(breaker), false, null));
+    super(breaker, CircuitStats.create(breaker, capacityFor(breaker), false, null),
+      createSlowCallStats(breaker, capacityFor(breaker), false, null));
     permittedExecutions.set(capacityFor(breaker));
   }
 
@@ -45,8 +46,9 @@ class HalfOpenState<R> extends CircuitState<R> {
   }
 
   @Override
-  public synchronized void handleConfigChange() {
+  public void handleConfigChange() {
     stats = CircuitStats.create(breaker, capacityFor(breaker), false, stats);
+    slowCallStats = createSlowCallStats(breaker, capacityFor(breaker), false, slowCallStats);
   }
 
   /**
@@ -56,9 +58,12 @@ class HalfOpenState<R> extends CircuitState<R> {
    * If a success threshold is configured, the circuit is opened or closed based on whether the ratio was exceeded.
    * <p>
    * Else the circuit is opened or closed based on whether the failure threshold was exceeded.
+   * <p>
+   * If slow call thresholding is configured and the slow call rate threshold is met when the circuit would be closed,
+   * the circuit is opened instead.
    */
   @Override
-  synchronized void checkThreshold(ExecutionContext<R> context) {
+  void checkThreshold(CircuitStats stats, ExecutionContext<R> context) {
     boolean successesExceeded;
     boolean failuresExceeded;
 
@@ -83,10 +88,10 @@ class HalfOpenState<R> extends CircuitState<R> {
       }
     }
 
-    if (successesExceeded)
-      breaker.close();
-    else if (failuresExceeded)
-      breaker.open(context);
+    if (successesExceeded && !isSlowCallRateExceeded(0))
+      breaker.close(this);
+    else if (successesExceeded || failuresExceeded)
+      breaker.open(this, context);
   }
 
   /**
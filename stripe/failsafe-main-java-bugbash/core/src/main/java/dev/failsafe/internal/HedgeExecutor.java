@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Hedge;
+import dev.failsafe.HedgeConfig;
+import dev.failsafe.spi.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A PolicyExecutor that handles failures according to a {@link Hedge}.
+ *
+ * @param <R> result type
+ */
+public class HedgeExecutor<R> extends PolicyExecutor<R> {
+  private final HedgeImpl<R> hedge;
+  private final HedgeConfig<R> config;
+
+  public HedgeExecutor(HedgeImpl<R> hedge, int policyIndex) {
+    super(hedge, policyIndex);
+    this.hedge = hedge;
+    this.config = hedge.getConfig();
+  }
+
+  /**
+   * Performs a single attempt, since hedged attempts cannot be started for a synchronous execution, tracking its
+   * latency.
+   */
+  @Override
+  public Function<SyncExecutionInternal<R>, ExecutionResult<R>> apply(
+    Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn, Scheduler scheduler) {
+
+    Function<SyncExecutionInternal<R>, ExecutionResult<R>> attemptFn = super.apply(innerFn, scheduler);
+    return execution -> {
+      long startTime = System.nanoTime();
+      ExecutionResult<R> result = attemptFn.apply(execution);
+      hedge.recordLatency(System.nanoTime() - startTime);
+      return result;
+    };
+  }
+
+  /**
+   * Performs an async execution, starting hedged attempts on the {@code scheduler} while prior attempts are still
+   * running. Async executions, whose threads are unknown to Failsafe, are performed as a single attempt.
+   */
+  @Override
+  public Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> applyAsync(
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> attemptFn = super.applyAsync(innerFn,
+      scheduler, future);
+    return execution -> execution.isAsyncExecution() ?
+      attemptFn.apply(execution) :
+      new HedgedExecution(execution, innerFn, scheduler, future).start();
+  }
+
+  /**
+   * Coordinates a race between the attempts of one execution.
+   */
+  private class HedgedExecution {
+    private final AsyncExecutionInternal<R> execution;
+    private final Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn;
+    private final Scheduler scheduler;
+    private final FailsafeFuture<R> future;
+    private final CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
+    private final long delayNanos = hedge.getDelayNanos();
+
+    // Mutable state guarded by "this"
+
+    private final List<Attempt> attempts = new ArrayList<>();
+    // The scheduled hedge, which becomes the future of the attempt that it runs
+    private Future<?> pendingHedge;
+    private int hedges;
+    private int runningAttempts;
+    private boolean done;
+
+    HedgedExecution(AsyncExecutionInternal<R> execution,
+      Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn, Scheduler scheduler,
+      FailsafeFuture<R> future) {
+      this.execution = execution;
+      this.innerFn = innerFn;
+      this.scheduler = scheduler;
+      this.future = future;
+    }
+
+    CompletableFuture<ExecutionResult<R>> start() {
+      // Propagate outer cancellations to all attempts and the promise
+      future.setCancelFn(HedgeExecutor.this, (mayInterrupt, cancelResult) -> {
+        if (finish(null))
+          promise.complete(cancelResult);
+      });
+
+      Attempt primary = new Attempt(execution, null);
+      synchronized (this) {
+        attempts.add(primary);
+        runningAttempts++;
+        scheduleHedge();
+      }
+      primary.run();
+      return promise;
+    }
+
+    /**
+     * Schedules the next hedge, if any. Hedging is best effort, so scheduling failures are ignored.
+     */
+    private synchronized void scheduleHedge() {
+      if (!done && hedges < config.getMaxHedges()) {
+        try {
+          pendingHedge = scheduler.schedule(this::hedge, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (Throwable ignore) {
+        }
+      }
+    }
+
+    private Object hedge() {
+      Attempt attempt;
+      synchronized (this) {
+        if (done || execution.isCancelled(HedgeExecutor.this))
+          return null;
+        hedges++;
+        runningAttempts++;
+        attempt = new Attempt(execution.copy(), pendingHedge);
+        attempts.add(attempt);
+        pendingHedge = null;
+        scheduleHedge();
+      }
+
+      attempt.run();
+      return null;
+    }
+
+    /**
+     * Handles an attempt's result, completing the promise with the first successful result, else with the last
+     * result if no other attempts are running.
+     */
+    private void onComplete(Attempt attempt, ExecutionResult<R> result, Throwable error) {
+      synchronized (this) {
+        if (done)
+          return;
+        runningAttempts--;
+        boolean lastAttempt = runningAttempts == 0;
+        boolean won = error == null && result != null && !isFailure(result);
+        if (!won && !lastAttempt)
+          return;
+      }
+
+      if (!finish(attempt))
+        return;
+      if (error != null)
+        promise.completeExceptionally(error);
+      else if (result == null)
+        promise.complete(null);
+      else {
+        CompletableFuture<ExecutionResult<R>> postFuture = postExecuteAsync(attempt.execution, result, scheduler,
+          future);
+        if (postFuture == null)
+          promise.complete(result);
+        else
+          postFuture.whenComplete((postResult, postError) -> {
+            if (postError != null)
+              promise.completeExceptionally(postError);
+            else
+              promise.complete(postResult);
+          });
+      }
+    }
+
+    /**
+     * Marks the execution as done and cancels any attempts other than the {@code winner}, if any. Returns {@code false}
+     * if the execution was already done.
+     */
+    private boolean finish(Attempt winner) {
+      List<Attempt> losers;
+      Future<?> hedgeToCancel;
+      synchronized (this) {
+        if (done)
+          return false;
+        done = true;
+        losers = new ArrayList<>(attempts);
+        losers.remove(winner);
+        hedgeToCancel = pendingHedge;
+        pendingHedge = null;
+      }
+
+      if (hedgeToCancel != null)
+        hedgeToCancel.cancel(false);
+      boolean primaryLost = false;
+      for (Attempt loser : losers) {
+        loser.execution.cancel(HedgeExecutor.this);
+        if (loser.future != null)
+          loser.future.cancel(config.canInterrupt());
+        else
+          primaryLost = true;
+      }
+
+      // Cancel the primary attempt's inner dependencies, such as the scheduled attempt and pending timeouts
+      if (primaryLost && winner != null)
+        future.cancelDependencies(HedgeExecutor.this, config.canInterrupt(), null);
+      return true;
+    }
+
+    private class Attempt {
+      final AsyncExecutionInternal<R> execution;
+      // The future of a hedged attempt, else null for the primary attempt
+      final Future<?> future;
+
+      Attempt(AsyncExecutionInternal<R> execution, Future<?> future) {
+        this.execution = execution;
+        this.future = future;
+      }
+
+      void run() {
+        long startTime = System.nanoTime();
+        try {
+          innerFn.apply(execution).whenComplete((result, error) -> {
+            if (result != null)
+              hedge.recordLatency(System.nanoTime() - startTime);
+            onComplete(this, result, error);
+          });
+        } catch (Throwable t) {
+          onComplete(this, null, t);
+        }
+      }
+    }
+  }
+}
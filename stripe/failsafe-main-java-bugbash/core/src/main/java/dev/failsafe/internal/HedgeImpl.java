@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Hedge;
+import dev.failsafe.HedgeBuilder;
+import dev.failsafe.HedgeConfig;
+import dev.failsafe.spi.FailurePolicy;
+import dev.failsafe.spi.PolicyExecutor;
+
+/**
+ * A {@link Hedge} implementation.
+ *
+ * @param <R> result type
+ * @see HedgeBuilder
+ */
+public class HedgeImpl<R> implements Hedge<R>, FailurePolicy<R> {
+  private final HedgeConfig<R> config;
+  private final FailureClassifier<R> failureClassifier;
+  // Null if a fixed delay is used
+  private final LatencyTracker latencies;
+
+  public HedgeImpl(HedgeConfig<R> config) {
+    this.config = config;
+    failureClassifier = FailureClassifier.of(config);
+    latencies = config.getDelayPercentile() > 0 ? new LatencyTracker(config.getDelayPercentile()) : null;
+  }
+
+  @Override
+  public HedgeConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public boolean isFailure(R result, Throwable exception) {
+    return failureClassifier.isFailure(result, exception);
+  }
+
+  /**
+   * Returns the delay after which a hedged attempt should be started.
+   */
+  long getDelayNanos() {
+    long percentileNanos = latencies == null ? -1 : latencies.getPercentile();
+    return percentileNanos > 0 ? percentileNanos : config.getDelay().toNanos();
+  }
+
+  /**
+   * Records the latency of a completed attempt.
+   */
+  void recordLatency(long latencyNanos) {
+    if (latencies != null)
+      latencies.record(latencyNanos);
+  }
+
+  @Override
+  public PolicyExecutor<R> toExecutor(int policyIndex) {
+    return new HedgeExecutor<>(this, policyIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "Hedge[delay=" + config.getDelay() + ", delayPercentile=" + config.getDelayPercentile() + ", maxHedges="
+      + config.getMaxHedges() + ']';
+  }
+}
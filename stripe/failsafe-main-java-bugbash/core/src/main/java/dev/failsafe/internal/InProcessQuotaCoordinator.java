@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.RateLimiterStats.Stopwatch;
+import dev.failsafe.spi.QuotaCoordinator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A QuotaCoordinator that leases permits from smooth or bursty rate limits that are held in the current process. Each
+ * rate limit is created from the config that it's first leased with.
+ */
+public final class InProcessQuotaCoordinator implements QuotaCoordinator {
+  private final Map<String, RateLimiterStats> limits = new ConcurrentHashMap<>();
+
+  @Override
+  public long lease(String key, RateLimiterConfig<?> config, long permits) {
+    return limits.computeIfAbsent(key, k -> {
+      Stopwatch stopwatch = new Stopwatch(config.getTicker());
+      return config.getMaxRate() != null ?
+        new SmoothRateLimiterStats(config.getMaxRate().toNanos(), stopwatch) :
+        new BurstyRateLimiterStats(config.getMaxPermits(), config.getPeriod().toNanos(), stopwatch);
+    }).acquirePermits(permits, null);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks a percentile of the most recent latencies in a ring of samples. The percentile is recomputed periodically as
+ * samples are recorded rather than on every read.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+class LatencyTracker {
+  static final int WINDOW_SIZE = 128;
+  static final int MIN_SAMPLES = 16;
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  private final double percentile;
+  private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+  private final AtomicLong sampleCount = new AtomicLong();
+  private volatile long percentileNanos = -1;
+  private volatile long computedAtCount;
+
+  LatencyTracker(double percentile) {
+    this.percentile = percentile;
+  }
+
+  void record(long latencyNanos) {
+    long index = sampleCount.getAndIncrement();
+    samples.set((int) (index % WINDOW_SIZE), latencyNanos);
+  }
+
+  /**
+   * Returns the tracked percentile in nanoseconds, else {@code -1} if fewer than {@link #MIN_SAMPLES} latencies have
+   * been recorded.
+   */
+  long getPercentile() {
+    long count = sampleCount.get();
+    if (count < MIN_SAMPLES)
+      return -1;
+    if (percentileNanos == -1 || count - computedAtCount >= RECOMPUTE_INTERVAL) {
+      int size = (int) Math.min(count, WINDOW_SIZE);
+      long[] sorted = new long[size];
+      for (int i = 0; i < size; i++)
+        sorted[i] = samples.get(i);
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile / 100 * size) - 1;
+      computedAtCount = count;
+      percentileNanos = sorted[Math.max(0, Math.min(rank, size - 1))];
+    }
+    return percentileNanos;
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.RateLimiterStats.PermitState;
+import dev.failsafe.internal.RateLimiterStats.Stopwatch;
+import dev.failsafe.internal.util.Assert;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A PermitState that lives in a memory-mapped file, so that it is shared by rate limiters in every process on a host
+ * that use the file. Since Java 8 has no atomic operations on mapped memory, updates are made while holding a lock on
+ * the state's region of the file, which excludes other processes, and on the file's mapping, which excludes other
+ * threads in this process. Reads are not locked, since a stale or torn read only causes the subsequent CAS to fail.
+ * <p>
+ * The file begins with a header that describes the rate limiter, and the time that the file was created. Each rate
+ * limiter aligns its stopwatch with the file's creation time, so that all rate limiters measure the state relative to
+ * the same start time.
+ * </p>
+ */
+final class MappedPermitState implements PermitState {
+  private static final int MAGIC = 0x4653524c;
+  private static final int MAGIC_POSITION = 0;
+  private static final int KIND_POSITION = 4;
+  private static final int RATE_NANOS_POSITION = 8;
+  private static final int PERMITS_POSITION = 16;
+  private static final int EPOCH_MILLIS_POSITION = 24;
+  private static final int STATE_POSITION = 32;
+  private static final int SIZE = 40;
+
+  // Mappings by real path, which are shared by the rate limiters in this process since file locks are held per process
+  private static final Map<Path, Mapping> MAPPINGS = new ConcurrentHashMap<>();
+
+  private final Mapping mapping;
+
+  private MappedPermitState(Mapping mapping) {
+    this.mapping = mapping;
+  }
+
+  /**
+   * Returns the state in the {@code config}'s shared file, creating the file if needed, and aligns the {@code
+   * stopwatch} with the file's creation time.
+   *
+   * @throws IllegalStateException if the file was created for a rate limiter with a different configuration
+   * @throws FailsafeException if the file cannot be opened
+   */
+  static MappedPermitState open(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    boolean smooth = config.getMaxRate() != null;
+    byte kind = smooth ? RateLimiterStats.SMOOTH : RateLimiterStats.BURSTY;
+    long rateNanos = smooth ? config.getMaxRate().toNanos() : config.getPeriod().toNanos();
+    long permits = smooth ? 0 : config.getMaxPermits();
+
+    Mapping mapping;
+    long epochMillis;
+    try {
+      Path path = config.getSharedFile().toAbsolutePath();
+      path.toFile().createNewFile();
+      mapping = MAPPINGS.computeIfAbsent(path.toRealPath(), Mapping::open);
+      epochMillis = mapping.initialize(kind, rateNanos, permits);
+    } catch (IOException e) {
+      throw new FailsafeException(e);
+    }
+
+    Assert.state(epochMillis != -1, "%s was created for a rate limiter with a different configuration",
+      config.getSharedFile());
+    stopwatch.setElapsedNanos(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - epochMillis));
+    return new MappedPermitState(mapping);
+  }
+
+  @Override
+  public long get() {
+    return mapping.buffer.getLong(STATE_POSITION);
+  }
+
+  @Override
+  public void set(long newValue) {
+    mapping.compareAndSet(0, newValue, true);
+  }
+
+  @Override
+  public boolean compareAndSet(long expectedValue, long newValue) {
+    return mapping.compareAndSet(expectedValue, newValue, false);
+  }
+
+  /**
+   * A file's channel and mapping, which remain open for the life of the process. Access to the channel is guarded by
+   * the mapping's monitor.
+   */
+  static final class Mapping {
+    final Path path;
+    final MappedByteBuffer buffer;
+    FileChannel channel;
+    // Whether the thread that holds the monitor has an interrupt that is deferred until it releases the monitor
+    boolean interruptDeferred;
+
+    private Mapping(Path path, FileChannel channel, MappedByteBuffer buffer) {
+      this.path = path;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    static Mapping open(Path path) {
+      try {
+        FileChannel channel = openChannel(path);
+        return new Mapping(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE));
+      } catch (IOException e) {
+        throw new FailsafeException(e);
+      }
+    }
+
+    /**
+     * Writes the header if the file is new, returning the file's creation time, else {@code -1} if the header
+     * describes a different rate limiter.
+     */
+    synchronized long initialize(byte kind, long rateNanos, long permits) throws IOException {
+      interruptDeferred = Thread.interrupted();
+      try {
+        FileLock lock = lock(0, SIZE);
+        try {
+          if (buffer.getInt(MAGIC_POSITION) != MAGIC) {
+            buffer.put(KIND_POSITION, kind);
+            buffer.putLong(RATE_NANOS_POSITION, rateNanos);
+            buffer.putLong(PERMITS_POSITION, permits);
+            buffer.putLong(EPOCH_MILLIS_POSITION, System.currentTimeMillis());
+            buffer.putLong(STATE_POSITION, 0);
+            buffer.putInt(MAGIC_POSITION, MAGIC);
+          } else if (buffer.get(KIND_POSITION) != kind || buffer.getLong(RATE_NANOS_POSITION) != rateNanos
+            || buffer.getLong(PERMITS_POSITION) != permits)
+            return -1;
+          return buffer.getLong(EPOCH_MILLIS_POSITION);
+        } finally {
+          release(lock);
+        }
+      } finally {
+        if (interruptDeferred)
+          Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Sets the state to the {@code newValue} if it's the {@code expectedValue}, or if {@code force} is {@code true}.
+     * Since an interrupt closes the channel, interrupts are deferred until the state's region is unlocked.
+     */
+    synchronized boolean compareAndSet(long expectedValue, long newValue, boolean force) {
+      interruptDeferred = Thread.interrupted();
+      try {
+        FileLock lock = lock(STATE_POSITION, Long.BYTES);
+        try {
+          if (!force && buffer.getLong(STATE_POSITION) != expectedValue)
+            return false;
+          buffer.putLong(STATE_POSITION, newValue);
+          return true;
+        } finally {
+          release(lock);
+        }
+      } catch (IOException e) {
+        throw new FailsafeException(e);
+      } finally {
+        if (interruptDeferred)
+          Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Locks a region of the file, reopening the channel if it was closed, such as by an interrupt that arrived while
+     * locking, which is then deferred. The mapping remains valid after the channel is closed.
+     */
+    private FileLock lock(long position, long size) throws IOException {
+      while (true) {
+        try {
+          return channel.lock(position, size, false);
+        } catch (ClosedChannelException e) {
+          interruptDeferred |= Thread.interrupted();
+          channel = openChannel(path);
+        }
+      }
+    }
+
+    private static void release(FileLock lock) throws IOException {
+      try {
+        lock.release();
+      } catch (ClosedChannelException ignore) {
+        // Locks are released when their channel is closed
+      }
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+      return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+  }
+}
@@ -16,22 +16,26 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker.State;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
 class OpenState<R> extends CircuitState<R> {
-  private final long startTime = System.nanoTime();
+  private final Ticker ticker;
+  private final long startTime;
   private final long delayNanos;
 
   public OpenState(CircuitBreakerImpl<R> breaker, CircuitState<R> previousState, Duration delay) {
-    super(breaker, previousState.stats);
+    super(breaker, previousState.stats, previousState.slowCallStats);
+    ticker = config.getTicker();
+    startTime = ticker.read();
     this.delayNanos = delay.toNanos();
   }
 
   @Override
   public boolean tryAcquirePermit() {
-    if (System.nanoTime() - startTime >= delayNanos) {
-      breaker.halfOpen();
+    if (ticker.read() - startTime >= delayNanos) {
+      breaker.halfOpen(this);
       return breaker.tryAcquirePermit();
     }
 
@@ -40,7 +44,7 @@ class OpenState<R> extends CircuitState<R> {
 
   @Override
   public Duration getRemainingDelay() {
-    long elapsedTime = System.nanoTime() - startTime;
+    long elapsedTime = ticker.read() - startTime;
     long remainingDelay = delayNanos - elapsedTime;
     return Duration.ofNanos(Math.max(remainingDelay, 0));
   }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A CircuitStats implementation that counts execution results in a ring of slots, similar to {@link
+ * CountingCircuitStats}, but without locking. Slots are claimed from an atomic sequence, and each slot's outcome is packed into
+ * two bits, a success bit and a failure bit, 32 slots per word, from which counts are computed via {@link
+ * Long#bitCount(long)}.
+ * <p>
+ * A slot's two bits are always updated together via a single CAS, so a slot never holds both outcomes, even when a
+ * record that lags a lap behind writes the slot after a newer record.
+ * </p>
+ */
+class PackedCountingCircuitStats implements CircuitStats {
+  // Masks of the success and failure bits of every slot in a word
+  private static final long SUCCESS_BITS = 0x5555555555555555L;
+  private static final long FAILURE_BITS = SUCCESS_BITS << 1;
+  private static final long SUCCESS = 1L;
+  private static final long FAILURE = 2L;
+
+  private final int size;
+
+  // Mutable state
+  /** The sequence of the next slot to write to */
+  final AtomicLong sequence = new AtomicLong();
+  final AtomicLongArray slots;
+
+  public PackedCountingCircuitStats(int size, CircuitStats oldStats) {
+    this.size = size;
+    slots = new AtomicLongArray((size + 31) >>> 5);
+
+    if (oldStats != null)
+      copyStats(oldStats);
+  }
+
+  /**
+   * Copies the most recent stats from the {@code oldStats} into this in order from oldest to newest.
+   */
+  void copyStats(CircuitStats oldStats) {
+    if (oldStats instanceof PackedCountingCircuitStats) {
+      PackedCountingCircuitStats old = (PackedCountingCircuitStats) oldStats;
+      long oldSequence = old.sequence.get();
+      long slotsToCopy = Math.min(Math.min(oldSequence, old.size), size);
+      for (long seq = oldSequence - slotsToCopy; seq < oldSequence; seq++) {
+        int index = (int) (seq % old.size);
+        long outcome = old.outcome(index);
+        if (outcome == SUCCESS)
+          recordSuccess();
+        else if (outcome == FAILURE)
+          recordFailure();
+      }
+    } else {
+      copyExecutions(oldStats);
+    }
+  }
+
+  @Override
+  public void recordSuccess() {
+    record(SUCCESS);
+  }
+
+  @Override
+  public void recordFailure() {
+    record(FAILURE);
+  }
+
+  @Override
+  public int getExecutionCount() {
+    return bitCount(SUCCESS_BITS | FAILURE_BITS);
+  }
+
+  @Override
+  public int getFailureCount() {
+    return bitCount(FAILURE_BITS);
+  }
+
+  @Override
+  public int getFailureRate() {
+    int failureCount = bitCount(FAILURE_BITS);
+    int executions = failureCount + bitCount(SUCCESS_BITS);
+    return (int) Math.round(executions == 0 ? 0 : (double) failureCount / (double) executions * 100.0);
+  }
+
+  @Override
+  public int getSuccessCount() {
+    return bitCount(SUCCESS_BITS);
+  }
+
+  @Override
+  public int getSuccessRate() {
+    int successCount = bitCount(SUCCESS_BITS);
+    int executions = successCount + bitCount(FAILURE_BITS);
+    return (int) Math.round(executions == 0 ? 0 : (double) successCount / (double) executions * 100.0);
+  }
+
+  @Override
+  public void snapshot(BucketConsumer consumer) {
+    long sequence = this.sequence.get();
+    int run = 0;
+    boolean runValue = false;
+    for (long seq = sequence - Math.min(sequence, size); seq < sequence; seq++) {
+      int index = (int) (seq % size);
+      long outcome = outcome(index);
+      if (outcome == 0)
+        continue;
+      boolean success = outcome == SUCCESS;
+      if (run > 0 && success != runValue) {
+        consumer.accept(0, runValue ? run : 0, runValue ? 0 : run);
+        run = 0;
+      }
+      runValue = success;
+      run++;
+    }
+    if (run > 0)
+      consumer.accept(0, runValue ? run : 0, runValue ? 0 : run);
+  }
+
+  @Override
+  public void reset() {
+    for (int i = 0; i < slots.length(); i++)
+      slots.set(i, 0);
+    sequence.set(0);
+  }
+
+  /**
+   * Records the {@code outcome} by claiming the next slot and replacing the slot's bits with the outcome via CAS. When
+   * the slot already holds the same outcome, which is common when results are steady, no writes are needed.
+   */
+  private void record(long outcome) {
+    int index = (int) (sequence.getAndIncrement() % size);
+    int word = index >>> 5;
+    int shift = (index & 31) << 1;
+    long mask = 3L << shift;
+    long bits = outcome << shift;
+    while (true) {
+      long current = slots.get(word);
+      long updated = (current & ~mask) | bits;
+      if (updated == current || slots.compareAndSet(word, current, updated))
+        return;
+    }
+  }
+
+  /**
+   * Returns the outcome held by the slot at the {@code index}, else {@code 0} if the slot is empty.
+   */
+  private long outcome(int index) {
+    return (slots.get(index >>> 5) >>> ((index & 31) << 1)) & 3L;
+  }
+
+  private int bitCount(long outcomeBits) {
+    int count = 0;
+    for (int i = 0; i < slots.length(); i++)
+      count += Long.bitCount(slots.get(i) & outcomeBits);
+    return count;
+  }
+
+  /**
+   * Returns an array representation of the slots that hold an outcome.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder().append('[');
+    for (int i = 0, count = 0; i < size; i++) {
+      long outcome = outcome(i);
+      if (outcome != 0) {
+        if (count++ > 0)
+          sb.append(", ");
+        sb.append(outcome == SUCCESS);
+      }
+    }
+    return sb.append(']').toString();
+  }
+}
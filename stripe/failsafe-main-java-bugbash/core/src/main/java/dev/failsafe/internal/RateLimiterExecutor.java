@@ -45,10 +45,18 @@ public class RateLimiterExecutor<R> extends PolicyExecutor<R> {
 
   @Override
   protected ExecutionResult<R> preExecute() {
+    long waitNanos = rateLimiter.reservePermits(1, maxWaitTime);
+    if (waitNanos == -1) {
+      getMetrics().recordRejection();
+      return ExecutionResult.exception(new RateLimitExceededException(rateLimiter));
+    }
+
     try {
-      return rateLimiter.tryAcquirePermit(maxWaitTime) ?
-        null :
-        ExecutionResult.exception(new RateLimitExceededException(rateLimiter));
+      if (waitNanos > 0) {
+        getMetrics().recordWait(waitNanos);
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      }
+      return null;
     } catch (InterruptedException e) {
       // Set interrupt flag
       Thread.currentThread().interrupt();
@@ -60,9 +68,12 @@ public class RateLimiterExecutor<R> extends PolicyExecutor<R> {
   protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(Scheduler scheduler, FailsafeFuture<R> future) {
     CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
     long waitNanos = rateLimiter.reservePermits(1, maxWaitTime);
-    if (waitNanos == -1)
+    if (waitNanos == -1) {
+      getMetrics().recordRejection();
       promise.complete(ExecutionResult.exception(new RateLimitExceededException(rateLimiter)));
-    else {
+    } else {
+      if (waitNanos > 0)
+        getMetrics().recordWait(waitNanos);
       try {
         // Wait for the permit
         Future<?> permitWaitFuture = scheduler.schedule(() -> {
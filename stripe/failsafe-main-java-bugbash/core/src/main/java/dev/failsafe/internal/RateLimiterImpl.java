@@ -22,6 +22,9 @@ import dev.failsafe.internal.util.Assert;
 import dev.failsafe.internal.util.Durations;
 import dev.failsafe.spi.PolicyExecutor;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -32,17 +35,27 @@ import java.util.concurrent.TimeUnit;
  */
 public class RateLimiterImpl<R> implements RateLimiter<R> {
   private final RateLimiterConfig<R> config;
-  private final RateLimiterStats stats;
+  final RateLimiterStats stats;
 
   public RateLimiterImpl(RateLimiterConfig<R> config) {
-    this(config, new Stopwatch());
+    this(config, new Stopwatch(config.getTicker()));
   }
 
   RateLimiterImpl(RateLimiterConfig<R> config, Stopwatch stopwatch) {
     this.config = config;
-    stats = config.getMaxRate() != null ?
-      new SmoothRateLimiterStats(config, stopwatch) :
-      new BurstyRateLimiterStats(config, stopwatch);
+    if (config.getShards() > 1)
+      stats = new ShardedRateLimiterStats(config, stopwatch);
+    else if (config.getCoordinator() != null)
+      stats = new DistributedRateLimiterStats(config, stopwatch);
+    else if (config.getSharedFile() != null) {
+      MappedPermitState state = MappedPermitState.open(config, stopwatch);
+      stats = config.getMaxRate() != null ?
+        new SmoothRateLimiterStats(config.getMaxRate().toNanos(), stopwatch, state) :
+        new BurstyRateLimiterStats(config.getMaxPermits(), config.getPeriod().toNanos(), stopwatch, state);
+    } else
+      stats = config.getMaxRate() != null ?
+        new SmoothRateLimiterStats(config, stopwatch) :
+        new BurstyRateLimiterStats(config, stopwatch);
   }
 
   @Override
@@ -88,6 +101,25 @@ public class RateLimiterImpl<R> implements RateLimiter<R> {
     return new RateLimiterExecutor<>(this, policyIndex);
   }
 
+  /**
+   * Writes a snapshot of the permits that have been acquired ahead of the current time to the {@code out}.
+   */
+  public void writeSnapshot(DataOutput out) throws IOException {
+    stats.writeTo(out);
+  }
+
+  /**
+   * Restores a snapshot written via {@link #writeSnapshot(DataOutput)} from the {@code in}, as of {@code ageNanos} ago,
+   * returning {@code false} if the snapshot was taken from a rate limiter of a different kind or shard count, if the
+   * rate limiter is shared, since its permits already outlive the process, or if the rate limiter is coordinated, since
+   * its permits are leased. Should be called before any permits are acquired.
+   */
+  public boolean restoreSnapshot(DataInput in, long ageNanos) throws IOException {
+    if (config.getSharedFile() != null)
+      return false;
+    return stats.readFrom(in, ageNanos);
+  }
+
   long reservePermits(int permits, Duration maxWaitTime) {
     Assert.isTrue(permits > 0, "permits must be > 0");
     Assert.notNull(maxWaitTime, "maxWaitTime");
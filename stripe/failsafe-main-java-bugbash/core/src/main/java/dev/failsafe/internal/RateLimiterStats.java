@@ -15,24 +15,74 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.spi.Ticker;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 abstract class RateLimiterStats {
+  // Kinds of stats, which are written to snapshots
+  static final byte SMOOTH = 0;
+  static final byte BURSTY = 1;
+  static final byte SHARDED = 2;
+  static final byte DISTRIBUTED = 3;
+
   final Stopwatch stopwatch;
 
   RateLimiterStats(Stopwatch stopwatch) {
     this.stopwatch = stopwatch;
   }
 
+  /**
+   * Holds the permit state of smooth and bursty stats, which is updated via CAS.
+   */
+  interface PermitState {
+    long get();
+
+    void set(long newValue);
+
+    boolean compareAndSet(long expectedValue, long newValue);
+  }
+
+  /**
+   * A PermitState that is local to the current process.
+   */
+  static final class AtomicPermitState extends AtomicLong implements PermitState {
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * Measures elapsed time using a {@link Ticker}.
+   */
   static class Stopwatch {
-    private long startTime = System.nanoTime();
+    private final Ticker ticker;
+    private volatile long startTime;
+
+    Stopwatch() {
+      this(Ticker.defaultTicker());
+    }
+
+    Stopwatch(Ticker ticker) {
+      this.ticker = ticker;
+      startTime = ticker.read();
+    }
 
     long elapsedNanos() {
-      return System.nanoTime() - startTime;
+      return ticker.read() - startTime;
     }
 
     void reset() {
-      startTime = System.nanoTime();
+      startTime = ticker.read();
+    }
+
+    /**
+     * Sets the start time so that the elapsed time is currently {@code elapsedNanos}.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+      startTime = ticker.read() - elapsedNanos;
     }
   }
 
@@ -64,4 +114,16 @@ abstract class RateLimiterStats {
    * Resets the rate limiter's internal stats.
    */
   abstract void reset();
+
+  /**
+   * Writes the permits that have been acquired ahead of the current time to the {@code out}, relative to the current
+   * time.
+   */
+  abstract void writeTo(DataOutput out) throws IOException;
+
+  /**
+   * Restores permits written via {@link #writeTo(DataOutput)} by stats of the same kind, as of {@code ageNanos} ago,
+   * returning {@code false} if the stats are of a different kind. Should be called before permits are acquired.
+   */
+  abstract boolean readFrom(DataInput in, long ageNanos) throws IOException;
 }
\ No newline at end of file
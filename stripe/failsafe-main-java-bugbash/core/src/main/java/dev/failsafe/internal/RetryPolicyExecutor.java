@@ -18,6 +18,7 @@ package dev.failsafe.internal;
 import dev.failsafe.ExecutionContext;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.RetryPolicyConfig;
+import dev.failsafe.event.EventDispatch;
 import dev.failsafe.spi.*;
 
 import java.time.Duration;
@@ -58,11 +59,12 @@ public class RetryPolicyExecutor<R> extends PolicyExecutor<R> {
     super(retryPolicy, policyIndex);
     this.retryPolicy = retryPolicy;
     this.config = retryPolicy.getConfig();
-    this.abortHandler = EventHandler.ofExecutionCompleted(config.getAbortListener());
-    this.failedAttemptHandler = EventHandler.ofExecutionAttempted(config.getFailedAttemptListener());
-    this.retriesExceededHandler = EventHandler.ofExecutionCompleted(config.getRetriesExceededListener());
-    this.retryHandler = EventHandler.ofExecutionAttempted(config.getRetryListener());
-    this.retryScheduledHandler = EventHandler.ofExecutionScheduled(config.getRetryScheduledListener());
+    EventDispatch dispatch = config.getEventDispatch();
+    this.abortHandler = EventHandler.ofExecutionCompleted(config.getAbortListener(), dispatch);
+    this.failedAttemptHandler = EventHandler.ofExecutionAttempted(config.getFailedAttemptListener(), dispatch);
+    this.retriesExceededHandler = EventHandler.ofExecutionCompleted(config.getRetriesExceededListener(), dispatch);
+    this.retryHandler = EventHandler.ofExecutionAttempted(config.getRetryListener(), dispatch);
+    this.retryScheduledHandler = EventHandler.ofExecutionScheduled(config.getRetryScheduledListener(), dispatch);
   }
 
   @Override
@@ -81,6 +83,7 @@ public class RetryPolicyExecutor<R> extends PolicyExecutor<R> {
           return result;
 
         try {
+          getMetrics().recordRetry();
           if (retryScheduledHandler != null)
             retryScheduledHandler.handle(result, execution);
 
@@ -171,6 +174,7 @@ public class RetryPolicyExecutor<R> extends PolicyExecutor<R> {
                         previousResultRef);
                       Future<?> scheduledRetry = scheduler.schedule(retryFn, postResult.getDelay(),
                         TimeUnit.NANOSECONDS);
+                      getMetrics().recordRetry();
                       // Cancel prior inner executions, such as pending timeouts
                       future.cancelDependencies(this, false, null);
 
@@ -256,16 +260,6 @@ public class RetryPolicyExecutor<R> extends PolicyExecutor<R> {
     return result.with(delayNanos, completed, success);
   }
 
-  /**
-   * Defaults async executions to not be complete until {@link #onFailure(ExecutionContext, ExecutionResult) says they
-   * are}.
-   */
-  @Override
-  public CompletableFuture<ExecutionResult<R>> onFailureAsync(ExecutionContext<R> context, ExecutionResult<R> result,
-    Scheduler scheduler, FailsafeFuture<R> future) {
-    return super.onFailureAsync(context, result.withNotComplete(), scheduler, future);
-  }
-
   private long getFixedOrRandomDelayNanos(long delayNanos) {
     Duration delay = config.getDelay();
     Duration delayMin = config.getDelayMin();
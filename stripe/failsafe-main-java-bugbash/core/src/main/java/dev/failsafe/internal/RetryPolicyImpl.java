@@ -35,9 +35,13 @@ import java.util.List;
  */
 public class RetryPolicyImpl<R> implements RetryPolicy<R>, FailurePolicy<R>, DelayablePolicy<R> {
   private final RetryPolicyConfig<R> config;
+  private final FailureClassifier<R> failureClassifier;
+  private final FailureClassifier<R> abortClassifier;
 
   public RetryPolicyImpl(RetryPolicyConfig<R> config) {
     this.config = config;
+    failureClassifier = FailureClassifier.of(config);
+    abortClassifier = FailureClassifier.of(config.getAbortConditions());
   }
 
   @Override
@@ -45,6 +49,11 @@ public class RetryPolicyImpl<R> implements RetryPolicy<R>, FailurePolicy<R>, Del
     return config;
   }
 
+  @Override
+  public boolean isFailure(R result, Throwable exception) {
+    return failureClassifier.isFailure(result, exception);
+  }
+
   /**
    * Returns whether an execution result can be aborted given the configured abort conditions.
    *
@@ -56,14 +65,7 @@ public class RetryPolicyImpl<R> implements RetryPolicy<R>, FailurePolicy<R>, Del
    * @see RetryPolicyBuilder#abortWhen(R)
    */
   public boolean isAbortable(R result, Throwable failure) {
-    for (CheckedBiPredicate<R, Throwable> predicate : config.getAbortConditions()) {
-      try {
-        if (predicate.test(result, failure))
-          return true;
-      } catch (Throwable ignore) {
-      }
-    }
-    return false;
+    return abortClassifier.matches(result, failure);
   }
 
   @Override
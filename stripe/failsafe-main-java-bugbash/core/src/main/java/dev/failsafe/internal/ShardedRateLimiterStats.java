@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiterConfig;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * A rate limiter implementation that splits permits across independent smooth or bursty shards. Each thread acquires
+ * permits from the shard for its thread ID, and when that shard cannot provide permits without waiting, permits are
+ * borrowed from up to {@code shardBorrowLimit} neighbouring shards. If no neighbouring shard can provide permits
+ * without waiting, permits are acquired from the thread's own shard subject to the max wait time.
+ * <p>
+ * Since permits are partitioned across the shards, the aggregate rate never exceeds the configured rate.
+ * </p>
+ */
+class ShardedRateLimiterStats extends RateLimiterStats {
+  final RateLimiterStats[] shards;
+  private final int shardBorrowLimit;
+
+  ShardedRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    super(stopwatch);
+    int shardCount = config.getShards();
+    shards = new RateLimiterStats[shardCount];
+    shardBorrowLimit = config.getShardBorrowLimit();
+
+    if (config.getMaxRate() != null) {
+      // Each shard permits executions at 1 / shardCount of the rate
+      long shardIntervalNanos = config.getMaxRate().toNanos() * shardCount;
+      for (int i = 0; i < shardCount; i++)
+        shards[i] = new SmoothRateLimiterStats(shardIntervalNanos, stopwatch);
+    } else {
+      // Remaining permits are spread across the first shards
+      long periodNanos = config.getPeriod().toNanos();
+      long shardPermits = config.getMaxPermits() / shardCount;
+      long remainingPermits = config.getMaxPermits() % shardCount;
+      for (int i = 0; i < shardCount; i++)
+        shards[i] = new BurstyRateLimiterStats(shardPermits + (i < remainingPermits ? 1 : 0), periodNanos, stopwatch);
+    }
+  }
+
+  @Override
+  long acquirePermits(long permits, Duration maxWaitTime) {
+    int shardIndex = shardIndexFor(Thread.currentThread());
+
+    // Attempt to acquire permits without waiting, from the thread's shard then its neighbours
+    for (int i = 0; i <= shardBorrowLimit; i++) {
+      RateLimiterStats shard = shards[(shardIndex + i) % shards.length];
+      if (shard.acquirePermits(permits, Duration.ZERO) == 0)
+        return 0;
+    }
+
+    if (maxWaitTime != null && maxWaitTime.isZero())
+      return -1;
+    return shards[shardIndex].acquirePermits(permits, maxWaitTime);
+  }
+
+  @Override
+  void writeTo(DataOutput out) throws IOException {
+    out.writeByte(SHARDED);
+    out.writeInt(shards.length);
+    for (RateLimiterStats shard : shards)
+      shard.writeTo(out);
+  }
+
+  @Override
+  boolean readFrom(DataInput in, long ageNanos) throws IOException {
+    if (in.readByte() != SHARDED || in.readInt() != shards.length)
+      return false;
+    for (RateLimiterStats shard : shards)
+      if (!shard.readFrom(in, ageNanos))
+        return false;
+    return true;
+  }
+
+  @Override
+  void reset() {
+    for (RateLimiterStats shard : shards)
+      shard.reset();
+  }
+
+  int shardIndexFor(Thread thread) {
+    return (int) (thread.getId() % shards.length);
+  }
+}
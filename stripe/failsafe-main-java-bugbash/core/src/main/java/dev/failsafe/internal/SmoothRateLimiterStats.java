@@ -18,57 +18,92 @@ package dev.failsafe.internal;
 import dev.failsafe.RateLimiterConfig;
 import dev.failsafe.internal.util.Maths;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
 
 /**
  * A rate limiter implementation that evenly distributes permits over time, based on the max permits per period. This
  * implementation focuses on the interval between permits, and tracks the next interval in which a permit is free.
+ * Permits are acquired by CASing the next free permit time, without locking.
  */
 class SmoothRateLimiterStats extends RateLimiterStats {
   /* The nanos per interval between permits */
   final long intervalNanos;
 
   // The amount of time, relative to the start time, that the next permit will be free.
-  // Will be a multiple of intervalNanos.
-  private long nextFreePermitNanos;
+  // Will be a multiple of intervalNanos. Updated via CAS.
+  private final PermitState nextFreePermitNanos;
 
   SmoothRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    this(config.getMaxRate().toNanos(), stopwatch);
+  }
+
+  SmoothRateLimiterStats(long intervalNanos, Stopwatch stopwatch) {
+    this(intervalNanos, stopwatch, new AtomicPermitState());
+  }
+
+  SmoothRateLimiterStats(long intervalNanos, Stopwatch stopwatch, PermitState nextFreePermitNanos) {
     super(stopwatch);
-    intervalNanos = config.getMaxRate().toNanos();
+    this.intervalNanos = intervalNanos;
+    this.nextFreePermitNanos = nextFreePermitNanos;
   }
 
   @Override
-  public synchronized long acquirePermits(long requestedPermits, Duration maxWaitTime) {
+  public long acquirePermits(long requestedPermits, Duration maxWaitTime) {
     long currentNanos = stopwatch.elapsedNanos();
     long requestedPermitNanos = requestedPermits * intervalNanos;
-    long waitNanos;
-    long newNextFreePermitNanos;
-
-    // If a permit is currently available
-    if (currentNanos >= nextFreePermitNanos) {
-      // Nanos at the start of the current interval
-      long currentIntervalNanos = Maths.roundDown(currentNanos, intervalNanos);
-      newNextFreePermitNanos = Maths.add(currentIntervalNanos, requestedPermitNanos);
-    } else {
-      newNextFreePermitNanos = Maths.add(nextFreePermitNanos, requestedPermitNanos);
-    }
 
-    waitNanos = Math.max(newNextFreePermitNanos - currentNanos - intervalNanos, 0);
+    while (true) {
+      long nextFreePermitNanos = this.nextFreePermitNanos.get();
+      long newNextFreePermitNanos;
+
+      // If a permit is currently available
+      if (currentNanos >= nextFreePermitNanos) {
+        // Nanos at the start of the current interval
+        long currentIntervalNanos = Maths.roundDown(currentNanos, intervalNanos);
+        newNextFreePermitNanos = Maths.add(currentIntervalNanos, requestedPermitNanos);
+      } else {
+        newNextFreePermitNanos = Maths.add(nextFreePermitNanos, requestedPermitNanos);
+      }
+
+      long waitNanos = Math.max(newNextFreePermitNanos - currentNanos - intervalNanos, 0);
 
-    if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
-      return -1;
+      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+        return -1;
 
-    nextFreePermitNanos = newNextFreePermitNanos;
-    return waitNanos;
+      if (this.nextFreePermitNanos.compareAndSet(nextFreePermitNanos, newNextFreePermitNanos))
+        return waitNanos;
+    }
+  }
+
+  long getNextFreePermitNanos() {
+    return nextFreePermitNanos.get();
   }
 
-  synchronized long getNextFreePermitNanos() {
-    return nextFreePermitNanos;
+  /**
+   * Writes how far ahead of the current time the next free permit is.
+   */
+  @Override
+  void writeTo(DataOutput out) throws IOException {
+    out.writeByte(SMOOTH);
+    out.writeLong(Math.max(nextFreePermitNanos.get() - stopwatch.elapsedNanos(), 0));
+  }
+
+  @Override
+  boolean readFrom(DataInput in, long ageNanos) throws IOException {
+    if (in.readByte() != SMOOTH)
+      return false;
+    long aheadNanos = in.readLong() - ageNanos;
+    if (aheadNanos > 0)
+      nextFreePermitNanos.set(stopwatch.elapsedNanos() + aheadNanos);
+    return true;
   }
 
   @Override
-  synchronized void reset() {
+  void reset() {
     stopwatch.reset();
-    nextFreePermitNanos = 0;
+    nextFreePermitNanos.set(0);
   }
-}
\ No newline at end of file
+}
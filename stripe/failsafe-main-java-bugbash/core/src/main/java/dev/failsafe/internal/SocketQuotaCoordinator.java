@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiter;
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.spi.QuotaCoordinator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * A QuotaCoordinator that leases permits from a {@link dev.failsafe.spi.QuotaCoordinatorServer} over a socket. Leases
+ * are made one at a time over a single connection, which is opened lazily and reopened after a failure. Connecting and
+ * reading a response are bounded by a timeout, so that a stalled coordinator fails the lease, which is then retried.
+ * <p>
+ * Each lease request contains the key, the kind of rate limit, its rate nanos, its max permits, and the permits to
+ * lease. Each response contains the nanos to wait for the permits, else {@code -1} if the lease failed.
+ * </p>
+ */
+public final class SocketQuotaCoordinator implements QuotaCoordinator {
+  private static final int DEFAULT_TIMEOUT_MILLIS = 5000;
+
+  private final InetSocketAddress address;
+  private final int timeoutMillis;
+  private Socket socket;
+  private DataInputStream in;
+  private DataOutputStream out;
+
+  public SocketQuotaCoordinator(InetSocketAddress address) {
+    this(address, DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  SocketQuotaCoordinator(InetSocketAddress address, int timeoutMillis) {
+    this.address = address;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public synchronized long lease(String key, RateLimiterConfig<?> config, long permits) throws IOException {
+    try {
+      if (socket == null) {
+        socket = new Socket();
+        socket.connect(address, timeoutMillis);
+        socket.setSoTimeout(timeoutMillis);
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      }
+
+      boolean smooth = config.getMaxRate() != null;
+      out.writeUTF(key);
+      out.writeByte(smooth ? RateLimiterStats.SMOOTH : RateLimiterStats.BURSTY);
+      out.writeLong(smooth ? config.getMaxRate().toNanos() : config.getPeriod().toNanos());
+      out.writeLong(smooth ? 0 : config.getMaxPermits());
+      out.writeLong(permits);
+      out.flush();
+
+      long waitNanos = in.readLong();
+      if (waitNanos == -1)
+        throw new IOException("Failed to lease permits for " + key);
+      return waitNanos;
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Serves lease requests that are read from the {@code in} via the {@code coordinator}, until the {@code in} is
+   * closed.
+   */
+  public static void serve(QuotaCoordinator coordinator, DataInputStream in, DataOutputStream out)
+    throws IOException {
+    while (true) {
+      String key;
+      try {
+        key = in.readUTF();
+      } catch (EOFException e) {
+        return;
+      }
+      byte kind = in.readByte();
+      long rateNanos = in.readLong();
+      long maxPermits = in.readLong();
+      long permits = in.readLong();
+
+      long waitNanos;
+      try {
+        RateLimiterConfig<Object> config = kind == RateLimiterStats.SMOOTH ?
+          RateLimiter.smoothBuilder(Duration.ofNanos(rateNanos)).build().getConfig() :
+          RateLimiter.burstyBuilder(maxPermits, Duration.ofNanos(rateNanos)).build().getConfig();
+        waitNanos = coordinator.lease(key, config, permits);
+      } catch (Exception e) {
+        waitNanos = -1;
+      }
+      out.writeLong(waitNanos);
+      out.flush();
+    }
+  }
+
+  private void close() {
+    if (socket != null) {
+      try {
+        socket.close();
+      } catch (IOException ignore) {
+      }
+      socket = null;
+      in = null;
+      out = null;
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.internal.TimedCircuitStats.Clock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A CircuitStats implementation that counts execution results within a time period, similar to {@link
+ * TimedCircuitStats}, but without locking. Each bucket covers a fixed period of time, identified by its epoch, and is
+ * replaced via CAS when a new period begins. Bucket counts are striped via {@link LongAdder} so that results can be
+ * recorded by many threads concurrently without contending.
+ * <p>
+ * Since counts are summed across buckets without locking, reads that occur concurrently with writes or bucket rotations
+ * may be momentarily inconsistent with each other.
+ * </p>
+ */
+class StripedTimedCircuitStats implements CircuitStats {
+  private static final long EMPTY_EPOCH = Long.MIN_VALUE;
+
+  private final Clock clock;
+  private final long bucketSizeMillis;
+  /** The time that bucket epochs are relative to */
+  private final long originMillis;
+
+  // Mutable state
+  final AtomicReferenceArray<Bucket> buckets;
+
+  public StripedTimedCircuitStats(int bucketCount, Duration thresholdingPeriod, Clock clock, CircuitStats oldStats) {
+    this.clock = clock;
+    this.buckets = new AtomicReferenceArray<>(bucketCount);
+    bucketSizeMillis = thresholdingPeriod.toMillis() / bucketCount;
+    originMillis = clock.currentTimeMillis();
+    for (int i = 0; i < bucketCount; i++)
+      buckets.set(i, new Bucket(EMPTY_EPOCH));
+
+    if (oldStats != null)
+      copyExecutions(oldStats);
+  }
+
+  static final class Bucket {
+    final long epoch;
+    final LongAdder successes = new LongAdder();
+    final LongAdder failures = new LongAdder();
+
+    Bucket(long epoch) {
+      this.epoch = epoch;
+    }
+
+    @Override
+    public String toString() {
+      return "[epoch=" + epoch + ", s=" + successes + ", f=" + failures + ']';
+    }
+  }
+
+  @Override
+  public void recordSuccess() {
+    getCurrentBucket().successes.increment();
+  }
+
+  @Override
+  public void recordFailure() {
+    getCurrentBucket().failures.increment();
+  }
+
+  @Override
+  public int getExecutionCount() {
+    return getSuccessCount() + getFailureCount();
+  }
+
+  @Override
+  public int getFailureCount() {
+    long currentEpoch = currentEpoch();
+    long failures = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (isWithinWindow(bucket, currentEpoch))
+        failures += bucket.failures.sum();
+    }
+    return (int) failures;
+  }
+
+  @Override
+  public int getFailureRate() {
+    int failures = getFailureCount();
+    int executions = failures + getSuccessCount();
+    return (int) Math.round(executions == 0 ? 0 : (double) failures / (double) executions * 100.0);
+  }
+
+  @Override
+  public int getSuccessCount() {
+    long currentEpoch = currentEpoch();
+    long successes = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (isWithinWindow(bucket, currentEpoch))
+        successes += bucket.successes.sum();
+    }
+    return (int) successes;
+  }
+
+  @Override
+  public int getSuccessRate() {
+    int successes = getSuccessCount();
+    int executions = successes + getFailureCount();
+    return (int) Math.round(executions == 0 ? 0 : (double) successes / (double) executions * 100.0);
+  }
+
+  @Override
+  public void snapshot(BucketConsumer consumer) {
+    long currentTime = clock.currentTimeMillis();
+    long currentEpoch = currentEpoch();
+    List<Bucket> windowBuckets = new ArrayList<>(buckets.length());
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (isWithinWindow(bucket, currentEpoch))
+        windowBuckets.add(bucket);
+    }
+    windowBuckets.sort(Comparator.comparingLong(bucket -> bucket.epoch));
+    for (Bucket bucket : windowBuckets) {
+      int successes = bucket.successes.intValue();
+      int failures = bucket.failures.intValue();
+      if (successes + failures > 0)
+        consumer.accept(currentTime - (originMillis + bucket.epoch * bucketSizeMillis), successes, failures);
+    }
+  }
+
+  /**
+   * Records the results to the bucket for the epoch they were recorded in, replacing a bucket from an older epoch if
+   * necessary.
+   */
+  @Override
+  public void restore(long ageMillis, int successes, int failures) {
+    long currentEpoch = currentEpoch();
+    long epoch = Math.min(currentEpoch,
+      Math.floorDiv(clock.currentTimeMillis() - ageMillis - originMillis, bucketSizeMillis));
+    if (epoch <= currentEpoch - buckets.length())
+      return;
+
+    int index = (int) Math.floorMod(epoch, (long) buckets.length());
+    Bucket bucket = buckets.get(index);
+    while (bucket.epoch < epoch) {
+      Bucket newBucket = new Bucket(epoch);
+      if (buckets.compareAndSet(index, bucket, newBucket))
+        bucket = newBucket;
+      else
+        bucket = buckets.get(index);
+    }
+    if (bucket.epoch == epoch) {
+      bucket.successes.add(successes);
+      bucket.failures.add(failures);
+    }
+  }
+
+  @Override
+  public void reset() {
+    for (int i = 0; i < buckets.length(); i++)
+      buckets.set(i, new Bucket(EMPTY_EPOCH));
+  }
+
+  /**
+   * Returns the bucket for the current time, replacing a bucket from an older epoch if necessary. If a concurrent
+   * caller already replaced the bucket, its replacement is used.
+   */
+  Bucket getCurrentBucket() {
+    long epoch = currentEpoch();
+    int index = (int) Math.floorMod(epoch, (long) buckets.length());
+    Bucket bucket = buckets.get(index);
+    while (bucket.epoch < epoch) {
+      Bucket newBucket = new Bucket(epoch);
+      if (buckets.compareAndSet(index, bucket, newBucket))
+        return newBucket;
+      bucket = buckets.get(index);
+    }
+
+    // The bucket is current, or was rotated by a caller that observed a later time
+    return bucket;
+  }
+
+  private long currentEpoch() {
+    return Math.floorDiv(clock.currentTimeMillis() - originMillis, bucketSizeMillis);
+  }
+
+  private boolean isWithinWindow(Bucket bucket, long currentEpoch) {
+    return bucket.epoch != EMPTY_EPOCH && bucket.epoch > currentEpoch - buckets.length();
+  }
+
+  @Override
+  public String toString() {
+    return "StripedTimedCircuitStats[buckets=" + buckets + ']';
+  }
+}
@@ -15,8 +15,11 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.spi.Ticker;
+
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A CircuitStats implementation that counts execution results within a time period, and buckets results to
@@ -52,9 +55,22 @@ class TimedCircuitStats implements CircuitStats {
     }
   }
 
+  /**
+   * Reads the current time in milliseconds from a {@link Ticker}.
+   */
   static class Clock {
+    private final Ticker ticker;
+
+    Clock() {
+      this(Ticker.defaultTicker());
+    }
+
+    Clock(Ticker ticker) {
+      this.ticker = ticker;
+    }
+
     long currentTimeMillis() {
-      return System.currentTimeMillis();
+      return TimeUnit.NANOSECONDS.toMillis(ticker.read());
     }
   }
 
@@ -170,6 +186,42 @@ class TimedCircuitStats implements CircuitStats {
     return (int) Math.round(executions == 0 ? 0 : (double) summary.successes / (double) executions * 100.0);
   }
 
+  @Override
+  public synchronized void snapshot(BucketConsumer consumer) {
+    getCurrentBucket();
+    long currentTime = clock.currentTimeMillis();
+    for (int i = 0, index = indexAfter(currentIndex); i < buckets.length; i++, index = indexAfter(index)) {
+      Bucket bucket = buckets[index];
+      long ageMillis = currentTime - bucket.startTimeMillis;
+      if (bucket.startTimeMillis != -1 && ageMillis < windowSizeMillis && bucket.successes + bucket.failures > 0)
+        consumer.accept(ageMillis, bucket.successes, bucket.failures);
+    }
+  }
+
+  /**
+   * Records the results to the bucket that covers the time they were recorded, which is initialized if needed so that
+   * it rotates in order with the current bucket.
+   */
+  @Override
+  public synchronized void restore(long ageMillis, int successes, int failures) {
+    Bucket currentBucket = getCurrentBucket();
+    long startTimeMillis = clock.currentTimeMillis() - ageMillis;
+    int offset = (int) Math.max(0, Math.floorDiv(currentBucket.startTimeMillis - startTimeMillis, bucketSizeMillis));
+    if (ageMillis >= windowSizeMillis || offset >= buckets.length)
+      return;
+
+    Bucket bucket = buckets[Math.floorMod(currentIndex - offset, buckets.length)];
+    long bucketStartTimeMillis = currentBucket.startTimeMillis - offset * bucketSizeMillis;
+    if (bucket.startTimeMillis != bucketStartTimeMillis) {
+      summary.remove(bucket);
+      bucket.reset(bucketStartTimeMillis);
+    }
+    bucket.successes += successes;
+    bucket.failures += failures;
+    summary.successes += successes;
+    summary.failures += failures;
+  }
+
   @Override
   public synchronized void reset() {
     long startTimeMillis = clock.currentTimeMillis();
@@ -18,6 +18,7 @@ package dev.failsafe.internal;
 import dev.failsafe.Timeout;
 import dev.failsafe.TimeoutConfig;
 import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.internal.util.DelegatingScheduler;
 import dev.failsafe.spi.*;
 
 import java.util.concurrent.CompletableFuture;
@@ -68,10 +69,11 @@ public class TimeoutExecutor<R> extends PolicyExecutor<R> {
 
       try {
         // Schedule timeout check
-        timeoutFuture = Scheduler.DEFAULT.schedule(() -> {
+        timeoutFuture = timeoutScheduler(scheduler).schedule(() -> {
           // Guard against race with innerFn returning a result
           ExecutionResult<R> cancelResult = ExecutionResult.exception(new TimeoutExceededException(policy));
           if (result.compareAndSet(null, cancelResult)) {
+            getMetrics().recordTimeout();
             // Guard against race with RetryPolicy updating the latest execution
             synchronized (execution.getLock()) {
               // Cancel and interrupt the latest attempt
@@ -120,10 +122,11 @@ public class TimeoutExecutor<R> extends PolicyExecutor<R> {
         // Schedule timeout if we are not done and not recording a result
         if (!future.isDone() && !execution.isRecorded()) {
           try {
-            Future<R> timeoutFuture = (Future<R>) Scheduler.DEFAULT.schedule(() -> {
+            Future<R> timeoutFuture = (Future<R>) timeoutScheduler(scheduler).schedule(() -> {
               // Guard against race with innerFn returning a result
               ExecutionResult<R> cancelResult = ExecutionResult.exception(new TimeoutExceededException(policy));
               if (resultRef.compareAndSet(null, cancelResult)) {
+                getMetrics().recordTimeout();
                 // Guard against race with RetryPolicy updating the latest execution
                 synchronized (execution.getLock()) {
                   // Cancel and interrupt the latest attempt
@@ -177,4 +180,14 @@ public class TimeoutExecutor<R> extends PolicyExecutor<R> {
       return promise;
     };
   }
+
+  /**
+   * Returns the {@code scheduler} if it's an internal timing wheel scheduler, else the {@link Scheduler#DEFAULT}.
+   * Timeouts are not scheduled on user provided executors, so that their shutdown does not interfere with timeouts.
+   */
+  private static Scheduler timeoutScheduler(Scheduler scheduler) {
+    return scheduler instanceof DelegatingScheduler && ((DelegatingScheduler) scheduler).isInternalTimingWheel() ?
+      scheduler :
+      Scheduler.DEFAULT;
+  }
 }
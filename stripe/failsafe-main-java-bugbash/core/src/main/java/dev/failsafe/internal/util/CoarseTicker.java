@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import dev.failsafe.spi.Ticker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Ticker} that reads a time which is cached in a volatile field and updated by a daemon thread once per
+ * resolution, so that reads do not require a system call. The thread is started when the ticker is first used.
+ */
+public final class CoarseTicker implements Ticker {
+  private static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  public static final Ticker DEFAULT = Boolean.getBoolean(Ticker.COARSE_TICKER_PROPERTY) ?
+    instance() :
+    Ticker.system();
+
+  private volatile long nanos = System.nanoTime();
+
+  private CoarseTicker() {
+    Thread updater = new Thread(this::update, "failsafe-coarse-ticker");
+    updater.setDaemon(true);
+    updater.start();
+  }
+
+  /**
+   * Returns the shared instance, starting its thread if needed.
+   */
+  public static CoarseTicker instance() {
+    return Holder.INSTANCE;
+  }
+
+  private static final class Holder {
+    static final CoarseTicker INSTANCE = new CoarseTicker();
+  }
+
+  @Override
+  public long read() {
+    return nanos;
+  }
+
+  private void update() {
+    while (true) {
+      LockSupport.parkNanos(this, RESOLUTION_NANOS);
+      nanos = System.nanoTime();
+    }
+  }
+}
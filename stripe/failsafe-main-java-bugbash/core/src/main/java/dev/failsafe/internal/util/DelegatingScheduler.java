@@ -16,7 +16,9 @@
 package dev.failsafe.internal.util;
 
 import dev.failsafe.spi.Scheduler;
+import dev.failsafe.spi.Ticker;
 
+import java.time.Duration;
 import java.util.concurrent.*;
 
 /**
@@ -28,23 +30,45 @@ import java.util.concurrent.*;
  * <p>
  * Supports cancellation of {@link ForkJoinPool} tasks.
  * </p>
+ * <p>
+ * Delays may instead be performed by a {@link TimingWheel}, which is configured per instance, else globally via the
+ * {@value #TIMING_WHEEL_TICK_MILLIS_PROPERTY} system property.
+ * </p>
  *
  * @author Jonathan Halterman
  * @author Ben Manes
  */
 public final class DelegatingScheduler implements Scheduler {
+  /**
+   * A system property that, when set to a number of milliseconds, causes delays for instances that are not configured
+   * with a {@link TimingWheel} to be performed by a shared timing wheel with that tick duration. Values that are not a
+   * number of milliseconds >= 1 are ignored.
+   */
+  public static final String TIMING_WHEEL_TICK_MILLIS_PROPERTY = "dev.failsafe.timingWheelTickMillis";
+  private static final TimingWheel DEFAULT_TIMING_WHEEL = timingWheelFor(
+    System.getProperty(TIMING_WHEEL_TICK_MILLIS_PROPERTY));
   public static final DelegatingScheduler INSTANCE = new DelegatingScheduler();
   private static volatile ForkJoinPool FORK_JOIN_POOL;
   private static volatile ScheduledThreadPoolExecutor DELAYER;
 
   private final ExecutorService executorService;
+  private final TimingWheel timingWheel;
 
   private DelegatingScheduler() {
-    this.executorService = null;
+    this(null, null);
   }
 
   public DelegatingScheduler(ExecutorService executor) {
+    this(executor, null);
+  }
+
+  /**
+   * Creates a scheduler that executes tasks on the {@code executor}, else the default executor if {@code null}, and
+   * performs delays using the {@code timingWheel}, else the default delayer if {@code null}.
+   */
+  public DelegatingScheduler(ExecutorService executor, TimingWheel timingWheel) {
     this.executorService = executor;
+    this.timingWheel = timingWheel != null ? timingWheel : DEFAULT_TIMING_WHEEL;
   }
 
   private static final class DelayerThreadFactory implements ThreadFactory {
@@ -57,6 +81,9 @@ public final class DelegatingScheduler implements Scheduler {
   }
 
   static final class ScheduledCompletableFuture<V> extends CompletableFuture<V> implements ScheduledFuture<V> {
+    // Only used to report and order delays, since delays are performed by the delayer or timing wheel
+    private static final Ticker TICKER = Ticker.defaultTicker();
+
     // Guarded by this
     volatile Future<V> delegate;
     // Guarded by this
@@ -64,12 +91,12 @@ public final class DelegatingScheduler implements Scheduler {
     private final long time;
 
     ScheduledCompletableFuture(long delay, TimeUnit unit) {
-      this.time = System.nanoTime() + unit.toNanos(delay);
+      this.time = TICKER.read() + unit.toNanos(delay);
     }
 
     @Override
     public long getDelay(TimeUnit unit) {
-      return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+      return unit.convert(time - TICKER.read(), TimeUnit.NANOSECONDS);
     }
 
     @Override
@@ -108,6 +135,42 @@ public final class DelegatingScheduler implements Scheduler {
     return DELAYER;
   }
 
+  /**
+   * Returns whether the scheduler performs delays with a timing wheel and executes tasks on Failsafe's internal executor,
+   * so that it is not affected by the shutdown of a user provided ExecutorService.
+   */
+  public boolean isInternalTimingWheel() {
+    return executorService == null && timingWheel != null;
+  }
+
+  /**
+   * Closes the scheduler's timing wheel, if it was configured with one. The shared default timing wheel and executors
+   * are not closed.
+   */
+  @Override
+  public void close() {
+    if (timingWheel != null && timingWheel != DEFAULT_TIMING_WHEEL)
+      timingWheel.close();
+  }
+
+  /**
+   * Returns a timing wheel for the {@value #TIMING_WHEEL_TICK_MILLIS_PROPERTY} {@code property}, else {@code null} if
+   * the property is not set or is invalid.
+   */
+  static TimingWheel timingWheelFor(String property) {
+    if (property == null)
+      return null;
+
+    // Ignore invalid values rather than failing class initialization, which would break every async execution
+    long tickMillis;
+    try {
+      tickMillis = Long.parseLong(property.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return tickMillis >= 1 ? new TimingWheel(Duration.ofMillis(tickMillis), 512) : null;
+  }
+
   private ExecutorService executorService() {
     if (executorService != null)
       return executorService;
@@ -153,14 +216,22 @@ public final class DelegatingScheduler implements Scheduler {
 
     if (delay == 0)
       promise.delegate = es.submit(completingCallable);
-    else
-      promise.delegate = delayer().schedule(() -> {
+    else {
+      Runnable delayedTask = () -> {
         // Guard against race with promise.cancel
         synchronized (promise) {
           if (!promise.isCancelled())
             promise.delegate = es.submit(completingCallable);
         }
-      }, delay, unit);
+      };
+
+      // Guard against race with the delayed task replacing the delegate
+      synchronized (promise) {
+        promise.delegate = timingWheel != null ?
+          timingWheel.schedule(delayedTask, delay, unit) :
+          delayer().schedule(delayedTask, delay, unit);
+      }
+    }
 
     return promise;
   }
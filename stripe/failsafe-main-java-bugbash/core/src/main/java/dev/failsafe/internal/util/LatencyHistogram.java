@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative values, such as latencies in nanoseconds, with log-linear buckets in the style of
+ * HdrHistogram. Values below {@code 64} are counted exactly, and larger values are counted in one of {@value
+ * #SUB_BUCKETS} linear sub-buckets per power of two, bounding the relative error of reported values to about 3%.
+ * <p>
+ * Recording does not lock or allocate. To limit contention, counts are striped by thread across separate regions of one
+ * array, and are summed when read. Reads are not atomic with respect to concurrent recordings.
+ * </p>
+ */
+public final class LatencyHistogram {
+  static final int SUB_BUCKET_BITS = 5;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+  // Spaces stripes apart so that adjacent stripes do not share a cache line
+  private static final int STRIPE_PADDING = 8;
+
+  private final AtomicLongArray counts;
+  private final int stripeMask;
+  private final int stripeLength;
+
+  public LatencyHistogram() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  LatencyHistogram(int stripes) {
+    stripes = Math.min(64, Integer.highestOneBit(Math.max(1, stripes * 2 - 1)));
+    stripeMask = stripes - 1;
+    stripeLength = BUCKETS + STRIPE_PADDING;
+    counts = new AtomicLongArray(stripes * stripeLength);
+  }
+
+  /**
+   * Records the {@code value}, treating negative values as {@code 0}.
+   */
+  public void record(long value) {
+    int stripe = (int) Thread.currentThread().getId() & stripeMask;
+    counts.getAndIncrement(stripe * stripeLength + bucketIndex(Math.max(0, value)));
+  }
+
+  /**
+   * Returns the number of recorded values.
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < counts.length(); i++)
+      count += counts.get(i);
+    return count;
+  }
+
+  /**
+   * Returns the largest value that is equivalent to the value at the {@code percentile}, which is between {@code 0}
+   * and {@code 100}, else {@code 0} if no values have been recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] bucketCounts = new long[BUCKETS];
+    long total = 0;
+    for (int stripe = 0; stripe <= stripeMask; stripe++) {
+      for (int i = 0; i < BUCKETS; i++) {
+        long count = counts.get(stripe * stripeLength + i);
+        bucketCounts[i] += count;
+        total += count;
+      }
+    }
+    if (total == 0)
+      return 0;
+
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulative += bucketCounts[i];
+      if (cumulative >= rank)
+        return highestEquivalentValue(i);
+    }
+    return highestEquivalentValue(BUCKETS - 1);
+  }
+
+  /**
+   * Returns the index of the bucket for the non-negative {@code value}.
+   */
+  static int bucketIndex(long value) {
+    if (value < 2 * SUB_BUCKETS)
+      return (int) value;
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  /**
+   * Returns the largest value that is counted in the bucket at the {@code index}.
+   */
+  static long highestEquivalentValue(int index) {
+    if (index < 2 * SUB_BUCKETS)
+      return index;
+    int shift = index / SUB_BUCKETS - 1;
+    long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    return lowest + ((1L << shift) - 1);
+  }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel that runs tasks after a delay, with O(1) scheduling and cancellation. Tasks are hashed into a
+ * fixed number of buckets based on the tick that their delay expires in, and a single worker thread visits one bucket
+ * per tick, running the tasks whose delay has expired. Tasks are run on the worker thread, so they should only be used
+ * to hand work off to another thread.
+ * <p>
+ * New and cancelled tasks are passed to the worker thread via lock-free queues, so scheduling and cancelling never
+ * block. Since tasks only run on tick boundaries, a task may run up to one tick later than its delay. The worker thread
+ * is a daemon thread that is started when the first task is scheduled, and which parks rather than ticking while no
+ * tasks are scheduled. {@link #close() Closing} a wheel stops its worker thread and cancels any scheduled tasks.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public final class TimingWheel {
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final CountDownLatch startLatch = new CountDownLatch(1);
+  private volatile long startTime;
+  volatile Thread worker;
+  // Whether the worker is parked or about to park, since no timeouts are scheduled
+  private volatile boolean idle;
+  private volatile boolean closed;
+
+  // Accessed by the worker thread only
+  private long tick;
+  private int timeoutCount;
+
+  /**
+   * Creates a timing wheel with the {@code tickDuration} resolution and {@code ticksPerWheel} buckets, which is rounded
+   * up to the next power of two.
+   *
+   * @throws NullPointerException if {@code tickDuration} is null
+   * @throws IllegalArgumentException if {@code tickDuration} < 1 ms or {@code ticksPerWheel} < 1
+   */
+  public TimingWheel(Duration tickDuration, int ticksPerWheel) {
+    Assert.notNull(tickDuration, "tickDuration");
+    Assert.isTrue(tickDuration.toMillis() >= 1, "tickDuration must be >= 1 ms");
+    Assert.isTrue(ticksPerWheel >= 1 && ticksPerWheel <= 1 << 30, "ticksPerWheel must be between 1 and 2^30");
+    tickNanos = tickDuration.toNanos();
+    int wheelSize = Integer.highestOneBit(ticksPerWheel);
+    if (wheelSize < ticksPerWheel)
+      wheelSize <<= 1;
+    wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++)
+      wheel[i] = new Bucket();
+    mask = wheelSize - 1;
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r);
+      t.setDaemon(true);
+      t.setName("FailsafeTimingWheel");
+      return t;
+    }
+  }
+
+  /**
+   * Schedules the {@code task} to run after the {@code delay}, returning a future that can be used to cancel the task.
+   *
+   * @throws RejectedExecutionException if the wheel is closed
+   */
+  public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    if (closed)
+      throw new RejectedExecutionException("TimingWheel is closed");
+    start();
+    long deadline = Maths.add(System.nanoTime() - startTime, unit.toNanos(delay));
+    Timeout timeout = new Timeout(task, deadline);
+    pendingTimeouts.offer(timeout);
+
+    // Recheck after publishing the timeout, since the worker cancels pending timeouts when it stops
+    if (closed) {
+      timeout.cancel(false);
+      throw new RejectedExecutionException("TimingWheel is closed");
+    }
+    if (idle)
+      LockSupport.unpark(worker);
+    return timeout;
+  }
+
+  /**
+   * Closes the wheel, stopping its worker thread and cancelling any scheduled tasks. Tasks cannot be scheduled after
+   * the wheel is closed.
+   */
+  public void close() {
+    closed = true;
+    Thread thread = worker;
+    if (thread != null)
+      LockSupport.unpark(thread);
+  }
+
+  private void start() {
+    if (!started.get() && started.compareAndSet(false, true))
+      new WorkerThreadFactory().newThread(this::run).start();
+
+    // Wait for the start time to be initialized by the worker
+    boolean interrupted = false;
+    while (startTime == 0) {
+      try {
+        startLatch.await();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  private void run() {
+    worker = Thread.currentThread();
+    long time = System.nanoTime();
+    // 0 is used to indicate that the wheel has not started
+    startTime = time == 0 ? 1 : time;
+    startLatch.countDown();
+
+    while (!closed) {
+      long deadline = waitForNextTick();
+      removeCancelledTimeouts();
+      transferPendingTimeouts();
+      wheel[(int) (tick & mask)].expireTimeouts(deadline);
+      tick++;
+      if (timeoutCount == 0)
+        awaitTimeouts();
+    }
+    cancelTimeouts();
+  }
+
+  /**
+   * Parks the worker until a timeout is scheduled or the wheel is closed, then resumes ticking from the current time.
+   * Buckets can be skipped while parked since they're all empty.
+   */
+  private void awaitTimeouts() {
+    // Recheck for timeouts after advertising that we're idle, since schedule only unparks an idle worker
+    idle = true;
+    while (pendingTimeouts.isEmpty() && !closed)
+      LockSupport.park(this);
+    idle = false;
+    removeCancelledTimeouts();
+    tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+  }
+
+  private void cancelTimeouts() {
+    for (Bucket bucket : wheel) {
+      Timeout timeout;
+      while ((timeout = bucket.head) != null) {
+        bucket.remove(timeout);
+        timeout.cancel(false);
+      }
+    }
+    Timeout timeout;
+    while ((timeout = pendingTimeouts.poll()) != null)
+      timeout.cancel(false);
+    cancelledTimeouts.clear();
+  }
+
+  /**
+   * Waits until the end of the current tick, returning the elapsed time relative to the start time.
+   */
+  private long waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    while (true) {
+      long currentTime = System.nanoTime() - startTime;
+      long sleepNanos = deadline - currentTime;
+      if (sleepNanos <= 0 || closed)
+        return currentTime;
+
+      // Round up to the nearest millisecond to avoid spinning
+      LockSupport.parkNanos(this, (sleepNanos + 999_999) / 1_000_000 * 1_000_000);
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    Timeout timeout;
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null)
+        timeout.bucket.remove(timeout);
+    }
+  }
+
+  private void transferPendingTimeouts() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      Timeout timeout = pendingTimeouts.poll();
+      if (timeout == null)
+        return;
+      if (timeout.state == Timeout.CANCELLED)
+        continue;
+
+      long expirationTick = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+
+      // Schedule timeouts that are already expired in the current tick
+      long ticks = Math.max(expirationTick, tick);
+      wheel[(int) (ticks & mask)].add(timeout);
+    }
+  }
+
+  /**
+   * A doubly linked list of timeouts, which is only accessed by the worker thread.
+   */
+  private final class Bucket {
+    private Timeout head;
+    private Timeout tail;
+
+    void add(Timeout timeout) {
+      timeoutCount++;
+      timeout.bucket = this;
+      if (head == null)
+        head = tail = timeout;
+      else {
+        tail.next = timeout;
+        timeout.previous = tail;
+        tail = timeout;
+      }
+    }
+
+    void expireTimeouts(long deadline) {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.state == Timeout.CANCELLED)
+          remove(timeout);
+        else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+          remove(timeout);
+          timeout.expire();
+        } else
+          timeout.remainingRounds--;
+        timeout = next;
+      }
+    }
+
+    void remove(Timeout timeout) {
+      timeoutCount--;
+      if (timeout.previous != null)
+        timeout.previous.next = timeout.next;
+      if (timeout.next != null)
+        timeout.next.previous = timeout.previous;
+      if (head == timeout)
+        head = timeout.next;
+      if (tail == timeout)
+        tail = timeout.previous;
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+
+  private final class Timeout implements ScheduledFuture<Void> {
+    static final int INIT = 0;
+    static final int CANCELLED = 1;
+    static final int EXPIRED = 2;
+
+    private final Runnable task;
+    /** The time, relative to the start time, that the task is to be run */
+    private final long deadline;
+    volatile int state;
+    // Whether the task has been run or cancelled, which completes any get calls
+    private volatile boolean completed;
+    // Whether any thread is waiting in a get call, so that completion only notifies when needed
+    private volatile boolean waiting;
+
+    // Accessed by the worker thread only
+    long remainingRounds;
+    Bucket bucket;
+    Timeout previous;
+    Timeout next;
+
+    Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    void expire() {
+      if (STATE_UPDATER.compareAndSet(this, INIT, EXPIRED)) {
+        try {
+          task.run();
+        } catch (Throwable ignore) {
+        } finally {
+          complete();
+        }
+      }
+    }
+
+    private void complete() {
+      completed = true;
+      if (waiting) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (!STATE_UPDATER.compareAndSet(this, INIT, CANCELLED))
+        return false;
+      cancelledTimeouts.offer(this);
+      complete();
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state == CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+      return state != INIT;
+    }
+
+    /**
+     * Waits for the task to be run or cancelled. Returns {@code null}, since timeouts do not produce a result, and
+     * exceptions thrown by the task are ignored.
+     *
+     * @throws CancellationException if the timeout was cancelled
+     */
+    @Override
+    public Void get() throws InterruptedException {
+      if (!completed) {
+        synchronized (this) {
+          waiting = true;
+          while (!completed)
+            wait();
+        }
+      }
+      return result();
+    }
+
+    /**
+     * Waits up to the {@code timeout} for the task to be run or cancelled. Returns {@code null}, since timeouts do not
+     * produce a result, and exceptions thrown by the task are ignored.
+     *
+     * @throws CancellationException if the timeout was cancelled
+     * @throws TimeoutException if the task was not run or cancelled before the {@code timeout} elapsed
+     */
+    @Override
+    public Void get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+      if (!completed) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+          waiting = true;
+          while (!completed) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0)
+              throw new TimeoutException();
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+          }
+        }
+      }
+      return result();
+    }
+
+    private Void result() {
+      if (state == CANCELLED)
+        throw new CancellationException();
+      return null;
+    }
+  }
+
+  private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(
+    Timeout.class, "state");
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, which are looked up reflectively so that Failsafe can still run on Java versions prior to
+ * 21.
+ */
+public final class VirtualThreads {
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newVirtualThreadPerTaskExecutorMethod();
+  private static volatile ExecutorService EXECUTOR;
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * Returns whether virtual threads are supported by the current Java runtime.
+   */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Returns a shared ExecutorService that runs each task on a new virtual thread.
+   *
+   * @throws UnsupportedOperationException if virtual threads are not supported by the current Java runtime
+   */
+  public static ExecutorService executor() {
+    if (EXECUTOR == null) {
+      synchronized (VirtualThreads.class) {
+        if (EXECUTOR == null) {
+          if (!isSupported())
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+          try {
+            EXECUTOR = (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+          } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads are not available", e);
+          }
+        }
+      }
+    }
+    return EXECUTOR;
+  }
+
+  private static Method newVirtualThreadPerTaskExecutorMethod() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -16,6 +16,9 @@
 package dev.failsafe.spi;
 
 import dev.failsafe.AsyncExecution;
+import dev.failsafe.ExecutionContext;
+
+import java.util.function.BiConsumer;
 
 /**
  * Internal async execution APIs.
@@ -48,4 +51,14 @@ public interface AsyncExecutionInternal<R> extends ExecutionInternal<R>, AsyncEx
    * Returns a new copy of the AsyncExecutionInternal.
    */
   AsyncExecutionInternal<R> copy();
+
+  /**
+   * Starts a new execution of the policies inside of the {@code policyExecutor}, and of the user's function, with its
+   * own execution and FailsafeFuture, so that it is not affected by the completion or cancellation of this execution.
+   * Useful for policies that run their inner policies on behalf of other executions, or in the background. The {@code
+   * completionHandler} is called with the new execution's result. Returns the new execution's future, which can be
+   * cancelled to cancel the new execution.
+   */
+  FailsafeFuture<R> executeInner(PolicyExecutor<R> policyExecutor,
+    BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler);
 }
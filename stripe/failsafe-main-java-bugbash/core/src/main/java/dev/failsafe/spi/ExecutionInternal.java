@@ -39,6 +39,22 @@ public interface ExecutionInternal<R> extends ExecutionContext<R> {
    */
   boolean isPreExecuted();
 
+  /**
+   * Returns the elapsed time since the initial execution began, in nanoseconds. Implementations should override this so
+   * that, unlike {@link #getElapsedTime()}, it does not allocate.
+   */
+  default long getElapsedNanos() {
+    return getElapsedTime().toNanos();
+  }
+
+  /**
+   * Returns the elapsed time since the current attempt started, in nanoseconds. Implementations should override this
+   * so that, unlike {@link #getElapsedAttemptTime()}, it does not allocate.
+   */
+  default long getElapsedAttemptNanos() {
+    return getElapsedAttemptTime().toNanos();
+  }
+
   /**
    * Records an execution attempt which may correspond with an execution result. Async executions will have results
    * recorded separately.
@@ -30,41 +30,68 @@ import java.util.concurrent.CompletableFuture;
 public final class ExecutionResult<R> {
   private static final CompletableFuture<?> NULL_FUTURE = CompletableFuture.completedFuture(null);
 
-  private static final ExecutionResult<?> NONE = new ExecutionResult<>(null, null, true, 0, true, true, true);
+  // Flags that describe a result
+  private static final int NON_RESULT = 1;
+  private static final int COMPLETE = 1 << 1;
+  private static final int SUCCESS = 1 << 2;
+  private static final int SUCCESS_ALL = 1 << 3;
+
+  /** Intern'ed results for each combination of flags, with no result, exception or delay */
+  private static final ExecutionResult<?>[] EMPTY_RESULTS = new ExecutionResult<?>[SUCCESS_ALL << 1];
+
+  static {
+    for (int flags = 0; flags < EMPTY_RESULTS.length; flags++)
+      EMPTY_RESULTS[flags] = new ExecutionResult<>(null, null, 0, flags);
+  }
+
+  private static final ExecutionResult<?> NONE = EMPTY_RESULTS[NON_RESULT | COMPLETE | SUCCESS | SUCCESS_ALL];
+
+  private static final ExecutionResult<?> NULL_SUCCESS = EMPTY_RESULTS[COMPLETE | SUCCESS | SUCCESS_ALL];
 
   /** The execution result, if any */
   private final R result;
   /** The execution exception, if any */
   private final Throwable exception;
-  /** Whether the result represents a non result rather than a {@code null} result */
-  private final boolean nonResult;
   /** The amount of time to wait prior to the next execution, according to the policy */
-  // Do we need this here? perhaps we can set delay nanos right against the Execution internals?
   private final long delayNanos;
-  /** Whether a policy has completed handling of the execution */
-  private final boolean complete;
-  /** Whether a policy determined the execution to be a success */
-  private final boolean success;
-  /** Whether all policies determined the execution to be a success */
-  private final Boolean successAll;
+  /**
+   * Whether the result represents a non result rather than a {@code null} result, whether a policy has completed
+   * handling of the execution, whether a policy determined the execution to be a success, and whether all policies
+   * determined the execution to be a success
+   */
+  private final int flags;
 
   /**
    * Records an initial execution result with {@code complete} true and {@code success} set to true if {@code exception}
    * is not null.
    */
   public ExecutionResult(R result, Throwable exception) {
-    this(result, exception, false, 0, true, exception == null, exception == null);
+    this(result, exception, 0, exception == null ? COMPLETE | SUCCESS | SUCCESS_ALL : COMPLETE);
   }
 
-  private ExecutionResult(R result, Throwable exception, boolean nonResult, long delayNanos, boolean complete,
-    boolean success, Boolean successAll) {
-    this.nonResult = nonResult;
+  private ExecutionResult(R result, Throwable exception, long delayNanos, int flags) {
     this.result = result;
     this.exception = exception;
     this.delayNanos = delayNanos;
-    this.complete = complete;
-    this.success = success;
-    this.successAll = successAll;
+    this.flags = flags;
+  }
+
+  /**
+   * Returns an ExecutionResult with the values, using an intern'ed value when there is no result, exception or delay.
+   */
+  @SuppressWarnings("unchecked")
+  private static <R> ExecutionResult<R> of(R result, Throwable exception, long delayNanos, int flags) {
+    return result == null && exception == null && delayNanos == 0 ?
+      (ExecutionResult<R>) EMPTY_RESULTS[flags] :
+      new ExecutionResult<>(result, exception, delayNanos, flags);
+  }
+
+  /**
+   * Returns a copy of the ExecutionResult with the {@code delayNanos} and {@code flags}, else {@code this} if nothing
+   * has changed.
+   */
+  private ExecutionResult<R> with(long delayNanos, int flags) {
+    return this.delayNanos == delayNanos && this.flags == flags ? this : of(result, exception, delayNanos, flags);
   }
 
   /**
@@ -77,17 +104,21 @@ public final class ExecutionResult<R> {
   }
 
   /**
-   * Returns an ExecutionResult with the {@code result} set, {@code complete} true and {@code success} true.
+   * Returns an ExecutionResult with the {@code result} set, {@code complete} true and {@code success} true. Uses an
+   * intern'ed value for {@code null} results to avoid new object creation.
    */
+  @SuppressWarnings("unchecked")
   public static <R> ExecutionResult<R> success(R result) {
-    return new ExecutionResult<>(result, null, false, 0, true, true, true);
+    return result == null ?
+      (ExecutionResult<R>) NULL_SUCCESS :
+      new ExecutionResult<>(result, null, 0, COMPLETE | SUCCESS | SUCCESS_ALL);
   }
 
   /**
    * Returns an ExecutionResult with the {@code exception} set, {@code complete} true and {@code success} false.
    */
   public static <R> ExecutionResult<R> exception(Throwable exception) {
-    return new ExecutionResult<>(null, exception, false, 0, true, false, false);
+    return of(null, exception, 0, COMPLETE);
   }
 
   /**
@@ -111,98 +142,96 @@ public final class ExecutionResult<R> {
   }
 
   public boolean isComplete() {
-    return complete;
+    return (flags & COMPLETE) != 0;
   }
 
   public boolean isNonResult() {
-    return nonResult;
+    return (flags & NON_RESULT) != 0;
   }
 
   public boolean isSuccess() {
-    return success;
+    return (flags & SUCCESS) != 0;
   }
 
   /**
    * Returns a copy of the ExecutionResult with a non-result, and complete and success set to true. Returns {@code this}
-   * if {@link #success} and {@link #result} are unchanged.
+   * if {@link #isSuccess() success} and {@link #result} are unchanged.
    */
   public ExecutionResult<R> withNonResult() {
-    return success && this.result == null && nonResult ?
+    return isSuccess() && this.result == null && isNonResult() ?
       this :
-      new ExecutionResult<>(null, null, true, delayNanos, true, true, successAll);
+      of(null, null, delayNanos, NON_RESULT | COMPLETE | SUCCESS | (flags & SUCCESS_ALL));
   }
 
   /**
    * Returns a copy of the ExecutionResult with the {@code result} value, and complete and success set to true. Returns
-   * {@code this} if {@link #success} and {@link #result} are unchanged.
+   * {@code this} if {@link #isSuccess() success} and {@link #result} are unchanged.
    */
   public ExecutionResult<R> withResult(R result) {
     boolean unchangedNull = this.result == null && result == null && exception == null;
     boolean unchangedNotNull = this.result != null && this.result.equals(result);
-    return success && (unchangedNull || unchangedNotNull) ?
+    return isSuccess() && (unchangedNull || unchangedNotNull) ?
       this :
-      new ExecutionResult<>(result, null, nonResult, delayNanos, true, true, successAll);
+      of(result, null, delayNanos, (flags & (NON_RESULT | SUCCESS_ALL)) | COMPLETE | SUCCESS);
   }
 
   /**
    * Returns a copy of the ExecutionResult with {@code complete} set to false, else this if nothing has changed.
    */
   public ExecutionResult<R> withNotComplete() {
-    return !this.complete ?
-      this :
-      new ExecutionResult<>(result, exception, nonResult, delayNanos, false, success, successAll);
+    return with(delayNanos, flags & ~COMPLETE);
   }
 
   /**
    * Returns a copy of the ExecutionResult with success value of {code false}.
    */
   public ExecutionResult<R> withException() {
-    return !this.success ?
-      this :
-      new ExecutionResult<>(result, exception, nonResult, delayNanos, complete, false, false);
+    return !isSuccess() ? this : with(delayNanos, flags & ~(SUCCESS | SUCCESS_ALL));
   }
 
   /**
    * Returns a copy of the ExecutionResult with the {@code complete} and {@code success} values of {@code true}.
    */
   public ExecutionResult<R> withSuccess() {
-    return this.complete && this.success ?
-      this :
-      new ExecutionResult<>(result, exception, nonResult, delayNanos, true, true, successAll);
+    return with(delayNanos, flags | COMPLETE | SUCCESS);
   }
 
   /**
    * Returns a copy of the ExecutionResult with the {@code delayNanos} value.
    */
   public ExecutionResult<R> withDelay(long delayNanos) {
-    return this.delayNanos == delayNanos ?
-      this :
-      new ExecutionResult<>(result, exception, nonResult, delayNanos, complete, success, successAll);
+    return with(delayNanos, flags);
   }
 
   /**
    * Returns a copy of the ExecutionResult with the {@code delayNanos}, {@code complete} and {@code success} values.
    */
   public ExecutionResult<R> with(long delayNanos, boolean complete, boolean success) {
-    return this.delayNanos == delayNanos && this.complete == complete && this.success == success ?
-      this :
-      new ExecutionResult<>(result, exception, nonResult, delayNanos, complete, success,
-        successAll == null ? success : success && successAll);
+    if (this.delayNanos == delayNanos && isComplete() == complete && isSuccess() == success)
+      return this;
+    int flags = this.flags & (NON_RESULT | SUCCESS_ALL);
+    if (complete)
+      flags |= COMPLETE;
+    if (success)
+      flags |= SUCCESS;
+    else
+      flags &= ~SUCCESS_ALL;
+    return with(delayNanos, flags);
   }
 
   /**
    * Returns whether the execution was successful for all policies.
    */
   public boolean getSuccessAll() {
-    return successAll != null && successAll;
+    return (flags & SUCCESS_ALL) != 0;
   }
 
   @Override
   public String toString() {
-    return "[" + "result=" + result + ", exception=" + exception + ", nonResult=" + nonResult + ", delayNanos="
-      + delayNanos + ", complete=" + complete + ", success=" + success + ", successAll=" + successAll + ']';
+    return "[" + "result=" + result + ", exception=" + exception + ", nonResult=" + isNonResult() + ", delayNanos="
+      + delayNanos + ", complete=" + isComplete() + ", success=" + isSuccess() + ", successAll=" + getSuccessAll()
+      + ']';
   }
-
   @Override
   public boolean equals(Object o) {
     if (this == o)
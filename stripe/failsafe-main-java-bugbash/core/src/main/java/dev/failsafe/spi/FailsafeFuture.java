@@ -17,11 +17,7 @@ package dev.failsafe.spi;
 
 import dev.failsafe.ExecutionContext;
 
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.Arrays;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -34,26 +30,40 @@ import java.util.function.BiConsumer;
  * @author Jonathan Halterman
  */
 public class FailsafeFuture<R> extends CompletableFuture<R> {
+  // Offsets policy indexes so that internal cancel functions, which use indexes -2 and -1, can be stored in the array
+  private static final int CANCEL_FN_OFFSET = 2;
+
   private final BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler;
+  private final int policyCount;
+
+  // The most recent execution attempt
+  private volatile ExecutionInternal<R> newestExecution;
 
   // Mutable state guarded by "this"
 
-  // The most recent execution attempt
-  private ExecutionInternal<R> newestExecution;
-  // Functions to apply when this future is cancelled for each policy index, in descending order
-  private Map<Integer, BiConsumer<Boolean, ExecutionResult<R>>> cancelFunctions;
+  // Functions to apply when this future is cancelled, indexed by policy index + CANCEL_FN_OFFSET
+  private BiConsumer<Boolean, ExecutionResult<R>>[] cancelFunctions;
   // Whether a cancel with interrupt has already occurred
   private boolean cancelledWithInterrupt;
 
   public FailsafeFuture(BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler) {
+    this(completionHandler, 0);
+  }
+
+  /**
+   * Creates a future for an execution of {@code policyCount} policies, which is used to size the future's cancel
+   * functions.
+   */
+  public FailsafeFuture(BiConsumer<ExecutionResult<R>, ExecutionContext<R>> completionHandler, int policyCount) {
     this.completionHandler = completionHandler;
+    this.policyCount = policyCount;
   }
 
   /**
    * If not already completed, completes  the future with the {@code value}, calling the complete and success handlers.
    */
   @Override
-  public synchronized boolean complete(R value) {
+  public boolean complete(R value) {
     return completeResult(ExecutionResult.success(value));
   }
 
@@ -62,7 +72,7 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
    * handlers.
    */
   @Override
-  public synchronized boolean completeExceptionally(Throwable exception) {
+  public boolean completeExceptionally(Throwable exception) {
     return completeResult(ExecutionResult.exception(exception));
   }
 
@@ -77,17 +87,19 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
     this.cancelledWithInterrupt = mayInterruptIfRunning;
     newestExecution.cancel();
     boolean cancelResult = super.cancel(mayInterruptIfRunning);
-    cancelDependencies(null, mayInterruptIfRunning, null);
-    ExecutionResult<R> result = ExecutionResult.exception(new CancellationException());
-    super.completeExceptionally(result.getException());
-    completionHandler.accept(result, newestExecution);
+    applyCancelFns(Integer.MIN_VALUE, Integer.MAX_VALUE, mayInterruptIfRunning, null);
+
+    // Guard against a race with a completion, which is not synchronized
+    if (cancelResult)
+      completionHandler.accept(ExecutionResult.exception(new CancellationException()), newestExecution);
     return cancelResult;
   }
 
   /**
-   * Completes the execution with the {@code result} and calls the completion handler.
+   * Completes the execution with the {@code result} and calls the completion handler. Completion does not lock, since
+   * only the caller that completes the future calls the completion handler.
    */
-  public synchronized boolean completeResult(ExecutionResult<R> result) {
+  public boolean completeResult(ExecutionResult<R> result) {
     if (isDone())
       return false;
 
@@ -110,23 +122,40 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
    */
   public synchronized void cancelDependencies(PolicyExecutor<R> cancellingPolicyExecutor, boolean mayInterrupt,
     ExecutionResult<R> cancelResult) {
-    if (cancelFunctions != null) {
-      int cancellingPolicyIndex =
-        cancellingPolicyExecutor == null ? Integer.MAX_VALUE : cancellingPolicyExecutor.getPolicyIndex();
-      Iterator<Entry<Integer, BiConsumer<Boolean, ExecutionResult<R>>>> it = cancelFunctions.entrySet().iterator();
-
-      /* This iteration occurs in descending order to ensure that the {@code cancelResult} can be supplied to outer
-      cancel functions before the inner supplier is cancelled, which would cause PolicyExecutors to complete with
-      CancellationException rather than the expected {@code cancelResult}. */
-      while (it.hasNext()) {
-        Map.Entry<Integer, BiConsumer<Boolean, ExecutionResult<R>>> entry = it.next();
-        if (cancellingPolicyIndex > entry.getKey()) {
-          try {
-            entry.getValue().accept(mayInterrupt, cancelResult);
-          } catch (Exception ignore) {
-          }
-          it.remove();
-        }
+    int cancellingPolicyIndex =
+      cancellingPolicyExecutor == null ? Integer.MAX_VALUE : cancellingPolicyExecutor.getPolicyIndex();
+    applyCancelFns(Integer.MIN_VALUE, cancellingPolicyIndex, mayInterrupt, cancelResult);
+  }
+
+  /**
+   * Removes and applies the cancel functions for policy indexes >= {@code fromIndex} and < {@code toIndex}, in
+   * descending order. Functions are removed before any are applied, so that they can cancel other dependencies.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void applyCancelFns(int fromIndex, int toIndex, boolean mayInterrupt, ExecutionResult<R> cancelResult) {
+    if (cancelFunctions == null)
+      return;
+
+    int from = (int) Math.max(0, (long) fromIndex + CANCEL_FN_OFFSET);
+    int to = (int) Math.min(cancelFunctions.length, (long) toIndex + CANCEL_FN_OFFSET);
+    if (from >= to)
+      return;
+    BiConsumer<Boolean, ExecutionResult<R>>[] cancelFns = new BiConsumer[to - from];
+    int count = 0;
+    for (int i = to - 1; i >= from; i--) {
+      if (cancelFunctions[i] != null) {
+        cancelFns[count++] = cancelFunctions[i];
+        cancelFunctions[i] = null;
+      }
+    }
+
+    /* This iteration occurs in descending order to ensure that the {@code cancelResult} can be supplied to outer
+    cancel functions before the inner supplier is cancelled, which would cause PolicyExecutors to complete with
+    CancellationException rather than the expected {@code cancelResult}. */
+    for (int i = 0; i < count; i++) {
+      try {
+        cancelFns[i].accept(mayInterrupt, cancelResult);
+      } catch (Exception ignore) {
       }
     }
   }
@@ -135,7 +164,7 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
    * Sets the {@code execution} representing the most recent attempt, which will be cancelled if this future is
    * cancelled.
    */
-  public synchronized void setExecution(ExecutionInternal<R> execution) {
+  public void setExecution(ExecutionInternal<R> execution) {
     this.newestExecution = execution;
   }
 
@@ -144,10 +173,14 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
    * ExecutionResult) cancels dependencies} with a policyIndex > the given {@code policyIndex}, or when this future is
    * {@link #cancel(boolean) cancelled}.
    */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
   public synchronized void setCancelFn(int policyIndex, BiConsumer<Boolean, ExecutionResult<R>> cancelFn) {
+    int index = policyIndex + CANCEL_FN_OFFSET;
     if (cancelFunctions == null)
-      cancelFunctions = new TreeMap<>(Collections.reverseOrder());
-    cancelFunctions.put(policyIndex, cancelFn);
+      cancelFunctions = new BiConsumer[Math.max(policyCount, policyIndex + 1) + CANCEL_FN_OFFSET];
+    else if (index >= cancelFunctions.length)
+      cancelFunctions = Arrays.copyOf(cancelFunctions, index + 1);
+    cancelFunctions[index] = cancelFn;
   }
 
   /**
@@ -155,8 +188,7 @@ public class FailsafeFuture<R> extends CompletableFuture<R> {
    * ExecutionResult) cancels dependencies} with a policyIndex > the policyIndex of the given {@code policyExecutor}, or
    * when this future is {@link #cancel(boolean) cancelled}.
    */
-  public synchronized void setCancelFn(PolicyExecutor<R> policyExecutor,
-    BiConsumer<Boolean, ExecutionResult<R>> cancelFn) {
+  public void setCancelFn(PolicyExecutor<R> policyExecutor, BiConsumer<Boolean, ExecutionResult<R>> cancelFn) {
     setCancelFn(policyExecutor.getPolicyIndex(), cancelFn);
   }
 
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.Policy;
+
+/**
+ * Provides the {@link PolicyMetrics} that policy executions are recorded to. Metrics are configured via {@link
+ * dev.failsafe.FailsafeExecutor#withMetrics(Metrics)}, and a {@link StripedMetrics} implementation is provided.
+ * <p>
+ * Part of the Failsafe SPI.
+ * </p>
+ *
+ * @see PolicyMetrics
+ * @see StripedMetrics
+ */
+public interface Metrics {
+  /**
+   * Metrics that records nothing. Executions skip timing entirely when configured with these metrics.
+   */
+  Metrics NONE = policy -> PolicyMetrics.NONE;
+
+  /**
+   * Returns the metrics that executions of the {@code policy} should be recorded to. Called once per execution for
+   * async executions, and once per reusable chain of policy executors for sync executions, so implementations should
+   * return an existing instance for a policy rather than creating one.
+   */
+  PolicyMetrics forPolicy(Policy<?> policy);
+}
@@ -17,6 +17,7 @@ package dev.failsafe.spi;
 
 import dev.failsafe.ExecutionContext;
 import dev.failsafe.Policy;
+import dev.failsafe.PolicyConfig;
 import dev.failsafe.internal.EventHandler;
 
 import java.util.concurrent.CompletableFuture;
@@ -38,12 +39,15 @@ public abstract class PolicyExecutor<R> {
   private final FailurePolicy<R> failurePolicy;
   private final EventHandler<R> successHandler;
   private final EventHandler<R> failureHandler;
+  /** Where executions are recorded, which is {@link PolicyMetrics#NONE} unless metrics are configured */
+  private PolicyMetrics metrics = PolicyMetrics.NONE;
 
   protected PolicyExecutor(Policy<R> policy, int policyIndex) {
     this.policyIndex = policyIndex;
     this.failurePolicy = policy instanceof FailurePolicy ? (FailurePolicy<R>) policy : null;
-    this.successHandler = EventHandler.ofExecutionCompleted(policy.getConfig().getSuccessListener());
-    this.failureHandler = EventHandler.ofExecutionCompleted(policy.getConfig().getFailureListener());
+    PolicyConfig<R> config = policy.getConfig();
+    this.successHandler = EventHandler.ofExecutionCompleted(config.getSuccessListener(), config.getEventDispatch());
+    this.failureHandler = EventHandler.ofExecutionCompleted(config.getFailureListener(), config.getEventDispatch());
   }
 
   /**
@@ -54,6 +58,22 @@ public abstract class PolicyExecutor<R> {
     return policyIndex;
   }
 
+  /**
+   * Returns the metrics that executions of the policy are recorded to. Recording should be skipped, along with any
+   * timing that only recording needs, when this returns {@link PolicyMetrics#NONE}.
+   */
+  protected PolicyMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the {@code metrics} that executions of the policy are recorded to. Called by Failsafe after creating the
+   * executor and before executing with it.
+   */
+  public void setMetrics(PolicyMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   /**
    * Called before execution to return an alternative result or exception such as if execution is not allowed or needed.
    */
@@ -146,7 +166,9 @@ public abstract class PolicyExecutor<R> {
    */
   public ExecutionResult<R> postExecute(ExecutionInternal<R> execution, ExecutionResult<R> result) {
     execution.recordAttempt();
-    if (isFailure(result)) {
+    boolean failure = isFailure(result);
+    recordAttempt(execution, failure);
+    if (failure) {
       result = onFailure(execution, result.withException());
       handleFailure(result, execution);
     } else {
@@ -169,7 +191,9 @@ public abstract class PolicyExecutor<R> {
      * recorded by a timeout and another via AsyncExecution.record. */
     if (!execution.isAsyncExecution() || !execution.isPostExecuted(policyIndex)) {
       execution.recordAttempt();
-      if (isFailure(result)) {
+      boolean failure = isFailure(result);
+      recordAttempt(execution, failure);
+      if (failure) {
         postFuture = onFailureAsync(execution, result.withException(), scheduler, future).whenComplete(
           (postResult, error) -> handleFailure(postResult, execution));
       } else {
@@ -229,6 +253,11 @@ public abstract class PolicyExecutor<R> {
     }
   }
 
+  private void recordAttempt(ExecutionInternal<R> execution, boolean failure) {
+    if (metrics != PolicyMetrics.NONE)
+      metrics.recordAttempt(execution.getElapsedAttemptNanos(), !failure);
+  }
+
   private void handleSuccess(ExecutionResult<R> result, ExecutionContext<R> context) {
     if (successHandler != null && result.isComplete())
       successHandler.handle(result, context);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+/**
+ * Records the executions of a policy. Methods are called on the execution's hot path, so implementations should not
+ * block or allocate. Each method does nothing by default.
+ * <p>
+ * Part of the Failsafe SPI.
+ * </p>
+ *
+ * @see Metrics
+ */
+public interface PolicyMetrics {
+  /**
+   * Policy metrics that record nothing.
+   */
+  PolicyMetrics NONE = new PolicyMetrics() {
+  };
+
+  /**
+   * Records an execution attempt that took {@code latencyNanos}, and whether it was a success according to the policy.
+   */
+  default void recordAttempt(long latencyNanos, boolean success) {
+  }
+
+  /**
+   * Records that a retry was scheduled.
+   */
+  default void recordRetry() {
+  }
+
+  /**
+   * Records that an execution was rejected, such as by an open circuit breaker, a full bulkhead, or an exceeded rate
+   * limiter.
+   */
+  default void recordRejection() {
+  }
+
+  /**
+   * Records that an execution waited {@code waitNanos} for a permit from a bulkhead or rate limiter.
+   */
+  default void recordWait(long waitNanos) {
+  }
+
+  /**
+   * Records that an execution timed out.
+   */
+  default void recordTimeout() {
+  }
+}
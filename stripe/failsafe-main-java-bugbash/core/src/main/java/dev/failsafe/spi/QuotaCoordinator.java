@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.InProcessQuotaCoordinator;
+import dev.failsafe.internal.SocketQuotaCoordinator;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Coordinates a rate limit across a cluster by leasing blocks of permits to each node. A rate limiter that is
+ * configured via {@link dev.failsafe.RateLimiterBuilder#withCoordinator(QuotaCoordinator, String, long)} leases
+ * permits in the background, before its current block runs out, and hands them out locally, so that acquiring permits
+ * never waits on the coordinator.
+ * <p>
+ * Part of the Failsafe SPI.
+ * </p>
+ *
+ * @see QuotaCoordinatorServer
+ */
+public interface QuotaCoordinator {
+  /**
+   * Leases {@code permits} from the rate limit identified by the {@code key}, returning the nanos to wait until the
+   * permits may be used, which is {@code 0} if they may be used immediately. Permits are leased from the cluster wide
+   * rate that is described by the {@code config}. May block, since leases are only made by background threads.
+   *
+   * @throws IOException if the permits could not be leased
+   */
+  long lease(String key, RateLimiterConfig<?> config, long permits) throws IOException;
+
+  /**
+   * Returns a new coordinator that leases permits from rate limits that are held in the current process, for
+   * coordinating rate limiters in the same process, or for serving leases via a {@link QuotaCoordinatorServer}.
+   */
+  static QuotaCoordinator inProcess() {
+    return new InProcessQuotaCoordinator();
+  }
+
+  /**
+   * Returns a new coordinator that leases permits from the {@link QuotaCoordinatorServer} at the {@code address}. The
+   * coordinator connects lazily, and reconnects after a failure.
+   */
+  static QuotaCoordinator connect(InetSocketAddress address) {
+    return new SocketQuotaCoordinator(address);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.internal.SocketQuotaCoordinator;
+import dev.failsafe.internal.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves leases from a {@link QuotaCoordinator} over a socket on the loopback address, to coordinators that are
+ * {@link QuotaCoordinator#connect(InetSocketAddress) connected} to it, so that coordinated rate limiters can be run and
+ * tested without external services. Each connection is served by its own daemon thread.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public final class QuotaCoordinatorServer implements Closeable {
+  private final QuotaCoordinator coordinator;
+  private final ServerSocket serverSocket;
+  private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Starts a server that serves leases from the {@code coordinator} on the loopback address and the {@code port}, or
+   * an ephemeral port if the {@code port} is {@code 0}.
+   *
+   * @throws NullPointerException if {@code coordinator} is null
+   * @throws IOException if the server socket could not be bound
+   */
+  public QuotaCoordinatorServer(QuotaCoordinator coordinator, int port) throws IOException {
+    this.coordinator = Assert.notNull(coordinator, "coordinator");
+    serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    startThread(this::accept, "failsafe-quota-server");
+  }
+
+  /**
+   * Returns the address that the server is listening on.
+   */
+  public InetSocketAddress getAddress() {
+    return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+  }
+
+  /**
+   * Stops accepting connections and closes the current connections.
+   */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    for (Socket socket : sockets)
+      socket.close();
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        sockets.add(socket);
+        startThread(() -> serve(socket), "failsafe-quota-connection");
+      } catch (IOException ignore) {
+        // The server socket was closed, else the connection failed
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try {
+      SocketQuotaCoordinator.serve(coordinator, new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+        new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())));
+    } catch (IOException ignore) {
+      // The connection failed or was closed
+    } finally {
+      sockets.remove(socket);
+      try {
+        socket.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  private static void startThread(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    thread.start();
+  }
+}
@@ -15,8 +15,12 @@
  */
 package dev.failsafe.spi;
 
+import dev.failsafe.internal.util.Assert;
 import dev.failsafe.internal.util.DelegatingScheduler;
+import dev.failsafe.internal.util.TimingWheel;
+import dev.failsafe.internal.util.VirtualThreads;
 
+import java.time.Duration;
 import java.util.concurrent.*;
 
 /**
@@ -28,7 +32,9 @@ import java.util.concurrent.*;
 public interface Scheduler {
   /**
    * The default scheduler used by Failsafe if no other scheduler or {@link ScheduledExecutorService} is configured for
-   * an execution.
+   * an execution. Delays are performed by an internal ScheduledExecutorService, unless the {@value
+   * DelegatingScheduler#TIMING_WHEEL_TICK_MILLIS_PROPERTY} system property is set to a tick duration in milliseconds,
+   * in which case they are performed by an internal timing wheel.
    */
   Scheduler DEFAULT = DelegatingScheduler.INSTANCE;
 
@@ -37,6 +43,14 @@ public interface Scheduler {
    */
   ScheduledFuture<?> schedule(Callable<?> callable, long delay, TimeUnit unit);
 
+  /**
+   * Releases any resources that are owned by the scheduler, such as the thread of a scheduler that was created {@link
+   * #ofTimingWheel(Duration) with a timing wheel}, after which delayed tasks cannot be scheduled. Does nothing by
+   * default, and does not shut down any ExecutorService that the scheduler was created with.
+   */
+  default void close() {
+  }
+
   /**
    * Returns a Scheduler adapted from the {@code scheduledExecutorService}.
    */
@@ -52,4 +66,46 @@ public interface Scheduler {
       of((ScheduledExecutorService) executorService) :
       new DelegatingScheduler(executorService);
   }
+
+  /**
+   * Returns a Scheduler that performs delays using a hashed timing wheel with the {@code tickDuration} resolution, and
+   * executes tasks on the same internal executor as the {@link #DEFAULT} scheduler. Scheduling and cancelling delayed
+   * tasks on a timing wheel are O(1) and lock-free, which suits executions that schedule many delays that are usually
+   * cancelled, such as {@link dev.failsafe.Timeout Timeouts}. Delays are rounded up to the next tick. Each returned
+   * Scheduler has its own timing wheel thread, so a Scheduler should be shared rather than created per execution, and
+   * {@link #close() closed} when it's no longer needed.
+   *
+   * @throws NullPointerException if {@code tickDuration} is null
+   * @throws IllegalArgumentException if {@code tickDuration} < 1 ms
+   */
+  static Scheduler ofTimingWheel(Duration tickDuration) {
+    return new DelegatingScheduler(null, new TimingWheel(tickDuration, 512));
+  }
+
+  /**
+   * Returns a Scheduler that performs delays using a hashed timing wheel with the {@code tickDuration} resolution, and
+   * executes tasks on the {@code executorService}. Scheduling and cancelling delayed tasks on a timing wheel are O(1)
+   * and lock-free. Delays are rounded up to the next tick. Each returned Scheduler has its own timing wheel thread, so a
+   * Scheduler should be shared rather than created per execution, and {@link #close() closed} when it's no longer
+   * needed.
+   *
+   * @throws NullPointerException if {@code tickDuration} or {@code executorService} is null
+   * @throws IllegalArgumentException if {@code tickDuration} < 1 ms
+   */
+  static Scheduler ofTimingWheel(Duration tickDuration, ExecutorService executorService) {
+    return new DelegatingScheduler(Assert.notNull(executorService, "executorService"),
+      new TimingWheel(tickDuration, 512));
+  }
+
+  /**
+   * Returns a Scheduler that executes tasks on virtual threads, with each execution attempt running on a new virtual
+   * thread, so that blocking executions do not tie up a thread pool. Delays are performed by the same internal delayer
+   * as the {@link #DEFAULT} scheduler, and async executions can still be interrupted when cancelled or timed out.
+   * Requires Java 21 or later.
+   *
+   * @throws UnsupportedOperationException if virtual threads are not supported by the current Java runtime
+   */
+  static Scheduler ofVirtualThreads() {
+    return new DelegatingScheduler(VirtualThreads.executor());
+  }
 }
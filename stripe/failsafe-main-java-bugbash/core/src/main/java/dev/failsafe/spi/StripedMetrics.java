@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.Policy;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics that record each policy's executions into striped counters and a striped latency histogram, so that
+ * recording neither locks nor allocates. Stats for a policy are read via {@link #get(Policy)}.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public final class StripedMetrics implements Metrics {
+  private final ConcurrentMap<Policy<?>, Stats> stats = new ConcurrentHashMap<>();
+
+  @Override
+  public Stats forPolicy(Policy<?> policy) {
+    // Avoid computeIfAbsent, which locks on Java 8 even when a value is present
+    Stats policyStats = stats.get(policy);
+    if (policyStats == null) {
+      Stats newStats = new Stats();
+      policyStats = stats.putIfAbsent(policy, newStats);
+      if (policyStats == null)
+        policyStats = newStats;
+    }
+    return policyStats;
+  }
+
+  /**
+   * Returns the stats for the {@code policy}, which are empty if no executions of the {@code policy} have been
+   * recorded.
+   *
+   * @throws NullPointerException if {@code policy} is null
+   */
+  public Stats get(Policy<?> policy) {
+    return forPolicy(Assert.notNull(policy, "policy"));
+  }
+
+  /**
+   * The recorded executions of a policy.
+   */
+  public static final class Stats implements PolicyMetrics {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    Stats() {
+    }
+
+    @Override
+    public void recordAttempt(long latencyNanos, boolean success) {
+      latencies.record(latencyNanos);
+      if (!success)
+        failures.increment();
+    }
+
+    @Override
+    public void recordRetry() {
+      retries.increment();
+    }
+
+    @Override
+    public void recordRejection() {
+      rejections.increment();
+    }
+
+    @Override
+    public void recordWait(long waitNanos) {
+      waits.increment();
+      this.waitNanos.add(waitNanos);
+    }
+
+    @Override
+    public void recordTimeout() {
+      timeouts.increment();
+    }
+
+    /**
+     * Returns the number of recorded attempts.
+     */
+    public long getAttempts() {
+      return latencies.getCount();
+    }
+
+    /**
+     * Returns the number of recorded attempts that failed according to the policy.
+     */
+    public long getFailures() {
+      return failures.sum();
+    }
+
+    /**
+     * Returns the number of scheduled retries.
+     */
+    public long getRetries() {
+      return retries.sum();
+    }
+
+    /**
+     * Returns the number of rejected executions.
+     */
+    public long getRejections() {
+      return rejections.sum();
+    }
+
+    /**
+     * Returns the number of times that executions waited for a permit.
+     */
+    public long getWaits() {
+      return waits.sum();
+    }
+
+    /**
+     * Returns the total time that executions waited for permits.
+     */
+    public Duration getTotalWaitTime() {
+      return Duration.ofNanos(waitNanos.sum());
+    }
+
+    /**
+     * Returns the number of timed out executions.
+     */
+    public long getTimeouts() {
+      return timeouts.sum();
+    }
+
+    /**
+     * Returns the attempt latency at the {@code percentile}, which is between {@code 0} and {@code 100}, to within
+     * about 3%, else {@link Duration#ZERO} if no attempts have been recorded.
+     */
+    public Duration getLatencyAtPercentile(double percentile) {
+      return Duration.ofNanos(latencies.getValueAtPercentile(percentile));
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.internal.util.CoarseTicker;
+
+/**
+ * A source of monotonic time in nanoseconds, relative to an arbitrary origin, which Failsafe reads when tracking
+ * time based policy state, such as circuit breaker thresholding periods and delays, rate limiter permits, cache
+ * expirations, and execution times. A ticker is configured per policy via {@link
+ * dev.failsafe.PolicyBuilder#withTicker(Ticker)} and per executor via {@link
+ * dev.failsafe.FailsafeExecutor#with(Ticker)}, else the {@link #defaultTicker() default ticker} is used.
+ * <p>
+ * Tickers only determine how time is measured. Delays are still performed by a {@link Scheduler} in real time.
+ * </p>
+ * <p>
+ * Part of the Failsafe SPI.
+ * </p>
+ *
+ * @see VirtualTicker
+ */
+@FunctionalInterface
+public interface Ticker {
+  /**
+   * A system property that, when set to {@code true}, causes the {@link #coarse() coarse ticker} to be used as the
+   * {@link #defaultTicker() default ticker}.
+   */
+  String COARSE_TICKER_PROPERTY = "dev.failsafe.coarseTicker";
+
+  /**
+   * Returns the current time in nanoseconds, relative to an arbitrary origin that is fixed for the ticker.
+   */
+  long read();
+
+  /**
+   * Returns a ticker that reads {@link System#nanoTime()}.
+   */
+  static Ticker system() {
+    return System::nanoTime;
+  }
+
+  /**
+   * Returns a shared ticker that reads a time which is cached in a volatile field and updated by a single background
+   * thread about once per millisecond, so that reading the time does not require a system call. The time read by this
+   * ticker may lag {@link System#nanoTime()} by about a millisecond, and should not be used where finer precision is
+   * needed.
+   */
+  static Ticker coarse() {
+    return CoarseTicker.instance();
+  }
+
+  /**
+   * Returns a new {@link VirtualTicker} that starts at {@code 0} and only advances when told to, for simulating the
+   * passage of time.
+   */
+  static VirtualTicker virtual() {
+    return new VirtualTicker();
+  }
+
+  /**
+   * Returns the ticker that is used when none is configured, which is the {@link #coarse() coarse ticker} if the
+   * {@value #COARSE_TICKER_PROPERTY} system property is {@code true}, else the {@link #system() system ticker}.
+   */
+  static Ticker defaultTicker() {
+    return CoarseTicker.DEFAULT;
+  }
+}
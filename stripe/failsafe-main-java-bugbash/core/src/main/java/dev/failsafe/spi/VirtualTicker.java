@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Ticker} whose time starts at {@code 0} and only advances when {@link #advance(Duration) advanced}, for
+ * simulating the passage of time in tests of time based policy state.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @see Ticker#virtual()
+ */
+public final class VirtualTicker implements Ticker {
+  private final AtomicLong nanos = new AtomicLong();
+
+  VirtualTicker() {
+  }
+
+  @Override
+  public long read() {
+    return nanos.get();
+  }
+
+  /**
+   * Advances the ticker by the {@code duration}, returning the ticker's new time in nanoseconds.
+   *
+   * @throws NullPointerException if {@code duration} is null
+   * @throws IllegalArgumentException if {@code duration} is negative
+   */
+  public long advance(Duration duration) {
+    Assert.notNull(duration, "duration");
+    Assert.isTrue(!duration.isNegative(), "duration must be >= 0");
+    return nanos.addAndGet(duration.toNanos());
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualTicker[nanos=" + nanos.get() + ']';
+  }
+}
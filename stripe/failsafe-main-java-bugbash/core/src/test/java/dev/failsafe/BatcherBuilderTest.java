@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.function.CheckedFunction;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.assertEquals;
+
+public class BatcherBuilderTest {
+  CheckedFunction<List<Object>, Map<Object, Object>> bulkFunction = keys -> Collections.emptyMap();
+
+  @Test
+  public void shouldCreateBuilderFromExistingConfig() {
+    BatcherConfig<Object, Object> initialConfig = Batcher.builder(bulkFunction)
+      .withMaxSize(5)
+      .withMaxLinger(Duration.ofMillis(50)).config;
+    BatcherConfig<Object, Object> newConfig = Batcher.builder(initialConfig).config;
+    assertEquals(newConfig.bulkFunction, bulkFunction);
+    assertEquals(newConfig.maxSize, 5);
+    assertEquals(newConfig.maxLinger, Duration.ofMillis(50));
+  }
+
+  @Test
+  public void shouldRequireValidConfig() {
+    assertThrows(() -> Batcher.builder((CheckedFunction<List<Object>, Map<Object, Object>>) null),
+      NullPointerException.class);
+    assertThrows(() -> Batcher.builder(bulkFunction).withMaxSize(0), IllegalArgumentException.class);
+    assertThrows(() -> Batcher.builder(bulkFunction).withMaxLinger(Duration.ZERO), IllegalArgumentException.class);
+  }
+}
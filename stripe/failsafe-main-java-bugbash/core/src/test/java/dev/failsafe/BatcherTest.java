@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class BatcherTest {
+  List<List<Integer>> bulkCalls = Collections.synchronizedList(new ArrayList<>());
+
+  Map<Integer, String> load(List<Integer> keys) {
+    bulkCalls.add(keys);
+    Map<Integer, String> results = new HashMap<>();
+    for (Integer key : keys)
+      results.put(key, "v" + key);
+    return results;
+  }
+
+  @Test
+  public void shouldDispatchFullBatches() throws Throwable {
+    // Given
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(this::load)
+      .withMaxSize(3)
+      .withMaxLinger(Duration.ofMinutes(1))
+      .build(Failsafe.none());
+
+    // When
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++)
+      futures.add(batcher.getAsync(i));
+
+    // Then
+    for (int i = 0; i < 6; i++)
+      assertEquals(futures.get(i).get(1, TimeUnit.SECONDS), "v" + i);
+    assertEquals(bulkCalls, Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5)));
+  }
+
+  @Test
+  public void shouldDispatchAfterMaxLinger() throws Throwable {
+    // Given
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(this::load)
+      .withMaxLinger(Duration.ofMillis(50))
+      .build(Failsafe.none());
+
+    // When
+    CompletableFuture<String> future1 = batcher.getAsync(1);
+    CompletableFuture<String> future2 = batcher.getAsync(2);
+
+    // Then
+    assertEquals(future1.get(1, TimeUnit.SECONDS), "v1");
+    assertEquals(future2.get(1, TimeUnit.SECONDS), "v2");
+    assertEquals(bulkCalls, Collections.singletonList(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void shouldDeduplicateKeysAndCompleteMissingKeysWithNull() throws Throwable {
+    // Given
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(keys -> {
+      bulkCalls.add(keys);
+      return Collections.singletonMap(1, "v1");
+    }).withMaxLinger(Duration.ofMinutes(1)).build(Failsafe.none());
+
+    // When
+    CompletableFuture<String> future1 = batcher.getAsync(1);
+    CompletableFuture<String> future2 = batcher.getAsync(1);
+    CompletableFuture<String> future3 = batcher.getAsync(2);
+    batcher.flush();
+
+    // Then
+    assertEquals(future1.get(1, TimeUnit.SECONDS), "v1");
+    assertEquals(future2.get(1, TimeUnit.SECONDS), "v1");
+    assertNull(future3.get(1, TimeUnit.SECONDS));
+    assertEquals(bulkCalls, Collections.singletonList(Arrays.asList(1, 2)));
+  }
+
+  /**
+   * Asserts that policies apply to the bulk call, and that its failure is routed to each caller.
+   */
+  @Test
+  public void shouldApplyPoliciesToBulkCall() throws Throwable {
+    // Given
+    AtomicInteger attempts = new AtomicInteger();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().withMaxRetries(2).build();
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(keys -> {
+      attempts.incrementAndGet();
+      throw new IllegalStateException();
+    }).withMaxLinger(Duration.ofMinutes(1)).build(Failsafe.with(retryPolicy));
+
+    // When
+    CompletableFuture<String> future1 = batcher.getAsync(1);
+    CompletableFuture<String> future2 = batcher.getAsync(2);
+    batcher.flush();
+
+    // Then
+    assertThrows(() -> future1.get(1, TimeUnit.SECONDS), ExecutionException.class, IllegalStateException.class);
+    assertThrows(() -> future2.get(1, TimeUnit.SECONDS), ExecutionException.class, IllegalStateException.class);
+    assertEquals(attempts.get(), 3);
+  }
+
+  @Test
+  public void shouldExcludeCancelledCallers() throws Throwable {
+    // Given
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(this::load)
+      .withMaxLinger(Duration.ofMinutes(1))
+      .build(Failsafe.none());
+
+    // When
+    batcher.getAsync(1).cancel(false);
+    CompletableFuture<String> future = batcher.getAsync(2);
+    batcher.flush();
+
+    // Then
+    assertEquals(future.get(1, TimeUnit.SECONDS), "v2");
+    assertEquals(bulkCalls, Collections.singletonList(Collections.singletonList(2)));
+  }
+
+  /**
+   * Asserts that a bulk call is cancelled once all of its callers cancel.
+   */
+  @Test
+  public void shouldCancelBulkCallWhenAllCallersCancel() throws Throwable {
+    // Given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch cancelled = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Timeout<Object> timeout = Timeout.of(Duration.ofMinutes(1));
+    Batcher<Integer, String> batcher = Batcher.<Integer, String>builder(keys -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).withMaxLinger(Duration.ofMinutes(1)).build(Failsafe.with(timeout).onFailure(e -> {
+      if (e.getException() instanceof CancellationException)
+        cancelled.countDown();
+    }));
+    CompletableFuture<String> future1 = batcher.getAsync(1);
+    CompletableFuture<String> future2 = batcher.getAsync(2);
+    batcher.flush();
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    // When
+    future1.cancel(false);
+    future2.cancel(false);
+
+    // Then
+    assertTrue(cancelled.await(1, TimeUnit.SECONDS));
+    release.countDown();
+  }
+}
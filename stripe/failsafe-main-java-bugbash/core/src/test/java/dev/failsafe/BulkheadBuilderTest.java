@@ -19,19 +19,40 @@ import org.junit.Test;
 
 import java.time.Duration;
 
+import static dev.failsafe.testing.Asserts.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 public class BulkheadBuilderTest {
   @Test
   public void shouldCreateBuilderFromExistingConfig() {
     BulkheadConfig<Object> initialConfig = Bulkhead.builder(5)
       .withMaxWaitTime(Duration.ofSeconds(10))
+      .withAdaptiveConcurrency(Bulkhead.LimitAlgorithm.VEGAS, 2)
       .onSuccess(e -> {
       }).config;
     BulkheadConfig<Object> newConfig = Bulkhead.builder(initialConfig).config;
     assertEquals(newConfig.maxConcurrency, 5);
     assertEquals(newConfig.maxWaitTime, Duration.ofSeconds(10));
+    assertEquals(newConfig.limitAlgorithm, Bulkhead.LimitAlgorithm.VEGAS);
+    assertEquals(newConfig.initialConcurrency, 2);
     assertNotNull(newConfig.successListener);
   }
+
+  @Test
+  public void shouldDefaultToFixedConcurrency() {
+    BulkheadConfig<Object> config = Bulkhead.builder(5).config;
+    assertNull(config.limitAlgorithm);
+    assertEquals(config.initialConcurrency, 5);
+  }
+
+  @Test
+  public void shouldRequireValidInitialConcurrency() {
+    assertThrows(() -> Bulkhead.builder(5).withAdaptiveConcurrency(Bulkhead.LimitAlgorithm.AIMD, 0),
+      IllegalArgumentException.class);
+    assertThrows(() -> Bulkhead.builder(5).withAdaptiveConcurrency(Bulkhead.LimitAlgorithm.AIMD, 6),
+      IllegalArgumentException.class);
+    assertThrows(() -> Bulkhead.builder(5).withAdaptiveConcurrency(null, 1), NullPointerException.class);
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class CacheBuilderTest {
+  @Test
+  public void shouldCreateBuilderFromExistingConfig() {
+    CacheConfig<Object> initialConfig = Cache.builder(100, Duration.ofSeconds(10))
+      .withEvictionPolicy(Cache.EvictionPolicy.TINY_LFU)
+      .withStaleWhileRevalidate(Duration.ofSeconds(5))
+      .onSuccess(e -> {
+      }).config;
+    CacheConfig<Object> newConfig = Cache.builder(initialConfig).config;
+    assertEquals(newConfig.maxSize, 100);
+    assertEquals(newConfig.ttl, Duration.ofSeconds(10));
+    assertEquals(newConfig.evictionPolicy, Cache.EvictionPolicy.TINY_LFU);
+    assertEquals(newConfig.staleWhileRevalidate, Duration.ofSeconds(5));
+    assertNotNull(newConfig.successListener);
+  }
+
+  @Test
+  public void shouldRequireValidConfig() {
+    assertThrows(() -> Cache.builder(0, Duration.ofSeconds(1)), IllegalArgumentException.class);
+    assertThrows(() -> Cache.builder(1, Duration.ZERO), IllegalArgumentException.class);
+    assertThrows(() -> Cache.builder(1, Duration.ofSeconds(1)).withStaleWhileRevalidate(Duration.ofSeconds(-1)),
+      IllegalArgumentException.class);
+    assertThrows(() -> Cache.of(1, Duration.ofSeconds(1)).forKey(null), NullPointerException.class);
+  }
+}
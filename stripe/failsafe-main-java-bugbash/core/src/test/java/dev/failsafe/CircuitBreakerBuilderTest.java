@@ -23,6 +23,7 @@ import java.time.Duration;
 import static dev.failsafe.testing.Asserts.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class CircuitBreakerBuilderTest {
 
@@ -32,6 +33,7 @@ public class CircuitBreakerBuilderTest {
       .withDelay(Duration.ofMillis(55))
       .withFailureThreshold(10, 15)
       .withSuccessThreshold(20, 30)
+      .withConcurrentStats()
       .onClose(e -> {
       }).config;
     CircuitBreakerConfig<Object> newConfig = CircuitBreaker.builder(initialConfig).config;
@@ -40,6 +42,7 @@ public class CircuitBreakerBuilderTest {
     assertEquals(newConfig.failureThresholdingCapacity, 15);
     assertEquals(newConfig.successThreshold, 20);
     assertEquals(newConfig.successThresholdingCapacity, 30);
+    assertTrue(newConfig.concurrentStats);
     assertNotNull(newConfig.closeListener);
   }
 
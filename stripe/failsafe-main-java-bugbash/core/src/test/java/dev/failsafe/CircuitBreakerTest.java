@@ -17,6 +17,11 @@ package dev.failsafe;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -78,4 +83,42 @@ public class CircuitBreakerTest {
     assertEquals(breaker.getSuccessCount(), 10);
     assertEquals(breaker.getSuccessRate(), 67);
   }
+
+  /**
+   * Asserts that when many threads record failures concurrently, the breaker opens once and the open listener is called
+   * once.
+   */
+  @Test
+  public void shouldCallOpenListenerOnceForConcurrentFailures() throws Throwable {
+    // Given
+    AtomicInteger openCount = new AtomicInteger();
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureThreshold(5, 10)
+      .withConcurrentStats()
+      .onOpen(e -> openCount.incrementAndGet())
+      .build();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        for (int j = 0; j < 100; j++)
+          breaker.recordFailure();
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    // When
+    startLatch.countDown();
+    for (Thread thread : threads)
+      thread.join();
+
+    // Then
+    assertTrue(breaker.isOpen());
+    assertEquals(openCount.get(), 1);
+  }
 }
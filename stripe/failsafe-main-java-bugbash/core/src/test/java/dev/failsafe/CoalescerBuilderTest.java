@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import org.junit.Test;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.assertNotNull;
+
+public class CoalescerBuilderTest {
+  @Test
+  public void shouldCreateBuilderFromExistingConfig() {
+    CoalescerConfig<Object> initialConfig = Coalescer.builder().onSuccess(e -> {
+    }).config;
+    CoalescerConfig<Object> newConfig = Coalescer.builder(initialConfig).config;
+    assertNotNull(newConfig.successListener);
+  }
+
+  @Test
+  public void shouldRequireKey() {
+    assertThrows(() -> Coalescer.create().forKey(null), NullPointerException.class);
+  }
+}
@@ -16,16 +16,25 @@
 package dev.failsafe;
 
 import net.jodah.concurrentunit.Waiter;
+import dev.failsafe.spi.ExecutionInternal;
+import dev.failsafe.spi.FailsafeFuture;
 import dev.failsafe.testing.Asserts;
 import org.junit.After;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
 
 public class FailsafeFutureTest {
   ExecutorService executor = Executors.newFixedThreadPool(2);
@@ -98,4 +107,57 @@ public class FailsafeFutureTest {
     future.complete("unexpected");
     Asserts.assertThrows(future::get, CancellationException.class);
   }
+
+  /**
+   * Asserts that cancel functions are applied once each, outermost first, including those for internal indexes and for
+   * indexes beyond the expected policy count.
+   */
+  @Test
+  public void shouldApplyCancelFnsInDescendingOrder() {
+    // Given
+    FailsafeFuture<String> future = new FailsafeFuture<>((result, context) -> {
+    }, 2);
+    future.setExecution(mock(ExecutionInternal.class));
+    List<Integer> applied = new ArrayList<>();
+    for (int i = -2; i < 5; i++) {
+      int policyIndex = i;
+      future.setCancelFn(policyIndex, (mayInterrupt, cancelResult) -> applied.add(policyIndex));
+    }
+
+    // When
+    future.cancelDependencies(null, false, null);
+    future.cancel(false);
+
+    // Then
+    assertEquals(applied, Arrays.asList(4, 3, 2, 1, 0, -1, -2));
+  }
+
+  /**
+   * Asserts that racing completions call the completion handler once.
+   */
+  @Test
+  public void shouldCallCompletionHandlerOnce() throws Throwable {
+    // Given
+    AtomicInteger completions = new AtomicInteger();
+    FailsafeFuture<String> future = new FailsafeFuture<>((result, context) -> completions.incrementAndGet(), 1);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 2; i++) {
+      String value = String.valueOf(i);
+      futures.add(executor.submit(() -> {
+        start.await();
+        return future.complete(value);
+      }));
+    }
+    start.countDown();
+    for (Future<?> f : futures)
+      f.get();
+    future.cancel(false);
+
+    // Then
+    assertEquals(completions.get(), 1);
+    assertFalse(future.isCancelled());
+  }
 }
@@ -18,9 +18,11 @@ package dev.failsafe;
 import dev.failsafe.testing.Testing;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * Tests general Failsafe behaviors.
@@ -53,4 +55,51 @@ public class FailsafeTest extends Testing {
       throw new TimeoutException();
     }), FailsafeException.class, TimeoutException.class);
   }
+
+  /**
+   * Asserts that sync executions reuse a chain when their policies are stateless.
+   */
+  @Test
+  public void shouldReuseSyncChainForStatelessPolicies() {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    FailsafeExecutor<Object> executor = Failsafe.with(Fallback.of("fallback"), breaker,
+      Timeout.of(Duration.ofSeconds(10)));
+
+    // When
+    assertEquals(executor.get(() -> "foo"), "foo");
+    SyncExecutionImpl.Chain<Object> chain = executor.syncChain;
+    assertEquals(executor.get(() -> {
+      throw new IllegalStateException();
+    }), "fallback");
+
+    // Then
+    assertNotNull(chain);
+    assertSame(executor.syncChain, chain);
+    assertEquals(breaker.getFailureCount(), 1);
+
+    // When the scheduler changes
+    executor.with(ForkJoinPool.commonPool()).run(() -> {
+    });
+
+    // Then
+    assertNotSame(executor.syncChain, chain);
+  }
+
+  /**
+   * Asserts that sync executions do not reuse a chain when a policy holds per-execution state.
+   */
+  @Test
+  public void shouldNotReuseSyncChainForRetryPolicy() {
+    // Given
+    FailsafeExecutor<Object> executor = Failsafe.with(RetryPolicy.builder().withMaxRetries(2).build());
+
+    // When / Then
+    for (int i = 0; i < 2; i++) {
+      assertThrows(() -> executor.run(() -> {
+        throw new IllegalStateException();
+      }), IllegalStateException.class);
+    }
+    assertNull(executor.syncChain);
+  }
 }
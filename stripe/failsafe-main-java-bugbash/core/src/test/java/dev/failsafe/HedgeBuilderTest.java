@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class HedgeBuilderTest {
+  @Test
+  public void shouldCreateBuilderFromExistingConfig() {
+    HedgeConfig<Object> initialConfig = Hedge.builder(Duration.ofMillis(50))
+      .withDelayPercentile(95)
+      .withMaxHedges(2)
+      .withInterrupt()
+      .handleResult(null).config;
+    HedgeConfig<Object> newConfig = Hedge.builder(initialConfig).config;
+    assertEquals(newConfig.delay, Duration.ofMillis(50));
+    assertEquals(newConfig.delayPercentile, 95, 0);
+    assertEquals(newConfig.maxHedges, 2);
+    assertTrue(newConfig.canInterrupt);
+    assertEquals(newConfig.failureConditions.size(), 1);
+  }
+
+  @Test
+  public void shouldRequireValidConfig() {
+    assertThrows(() -> Hedge.builder(Duration.ZERO), IllegalArgumentException.class);
+    assertThrows(() -> Hedge.builder(Duration.ofMillis(10)).withDelayPercentile(100), IllegalArgumentException.class);
+    assertThrows(() -> Hedge.builder(Duration.ofMillis(10)).withMaxHedges(0), IllegalArgumentException.class);
+  }
+}
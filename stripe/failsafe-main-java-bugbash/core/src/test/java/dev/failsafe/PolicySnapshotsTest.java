@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class PolicySnapshotsTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldRestoreOpenCircuitBreaker() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder().withDelay(Duration.ofMinutes(1)).build();
+    breaker.open();
+    byte[] snapshot = save(new PolicySnapshots().register("cb", breaker));
+
+    // When
+    CircuitBreaker<Object> restored = CircuitBreaker.builder().withDelay(Duration.ofMinutes(1)).build();
+    int count = restore(new PolicySnapshots().register("cb", restored), snapshot, Duration.ofSeconds(20));
+
+    // Then
+    assertEquals(count, 1);
+    assertTrue(restored.isOpen());
+    assertTrue(restored.getRemainingDelay().compareTo(Duration.ofSeconds(40)) <= 0);
+    assertTrue(restored.getRemainingDelay().compareTo(Duration.ofSeconds(39)) > 0);
+
+    // When the delay elapsed before the snapshot was restored
+    restored = CircuitBreaker.builder().withDelay(Duration.ofMinutes(1)).build();
+    restore(new PolicySnapshots().register("cb", restored), snapshot, Duration.ofMinutes(2));
+
+    // Then
+    assertTrue(restored.isOpen());
+    assertTrue(restored.tryAcquirePermit());
+    assertTrue(restored.isHalfOpen());
+  }
+
+  @Test
+  public void shouldRestoreCircuitBreakerResults() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder().withFailureThreshold(3, 5).build();
+    breaker.recordFailure();
+    breaker.recordSuccess();
+    breaker.recordFailure();
+    byte[] snapshot = save(new PolicySnapshots().register("cb", breaker));
+
+    // When
+    CircuitBreaker<Object> restored = CircuitBreaker.builder().withFailureThreshold(3, 5).build();
+    restore(new PolicySnapshots().register("cb", restored), snapshot, Duration.ZERO);
+
+    // Then
+    assertTrue(restored.isClosed());
+    assertEquals(restored.getFailureCount(), 2L);
+    assertEquals(restored.getSuccessCount(), 1);
+    restored.recordFailure();
+    assertTrue(restored.isOpen());
+  }
+
+  @Test
+  public void shouldDropTimeBasedResultsOlderThanThresholdingPeriod() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder().withFailureThreshold(3, Duration.ofMinutes(1)).build();
+    breaker.recordFailure();
+    breaker.recordFailure();
+    byte[] snapshot = save(new PolicySnapshots().register("cb", breaker));
+
+    // When
+    CircuitBreaker<Object> recent = CircuitBreaker.builder().withFailureThreshold(3, Duration.ofMinutes(1)).build();
+    CircuitBreaker<Object> stale = CircuitBreaker.builder().withFailureThreshold(3, Duration.ofMinutes(1)).build();
+    restore(new PolicySnapshots().register("cb", recent), snapshot, Duration.ofSeconds(10));
+    restore(new PolicySnapshots().register("cb", stale), snapshot, Duration.ofMinutes(2));
+
+    // Then
+    assertEquals(recent.getFailureCount(), 2L);
+    assertEquals(stale.getFailureCount(), 0L);
+  }
+
+  @Test
+  public void shouldRestoreRateLimiterPermits() throws Throwable {
+    // Given
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).build();
+    assertTrue(limiter.tryAcquirePermits(5));
+    byte[] snapshot = save(new PolicySnapshots().register("rl", limiter));
+
+    // When
+    RateLimiter<Object> restored = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).build();
+    restore(new PolicySnapshots().register("rl", restored), snapshot, Duration.ZERO);
+
+    // Then
+    assertFalse(restored.tryAcquirePermit());
+
+    // When the period elapsed before the snapshot was restored
+    restored = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).build();
+    restore(new PolicySnapshots().register("rl", restored), snapshot, Duration.ofMinutes(1));
+
+    // Then
+    assertTrue(restored.tryAcquirePermits(5));
+  }
+
+  @Test
+  public void shouldRestoreSmoothRateLimiterPermits() throws Throwable {
+    // Given
+    RateLimiter<Object> limiter = RateLimiter.smoothBuilder(Duration.ofSeconds(10)).build();
+    assertTrue(limiter.reservePermits(4).compareTo(Duration.ofSeconds(29)) > 0);
+    byte[] snapshot = save(new PolicySnapshots().register("rl", limiter));
+
+    // When
+    RateLimiter<Object> restored = RateLimiter.smoothBuilder(Duration.ofSeconds(10)).build();
+    restore(new PolicySnapshots().register("rl", restored), snapshot, Duration.ofSeconds(15));
+
+    // Then
+    assertFalse(restored.tryAcquirePermit());
+    assertTrue(restored.tryReservePermits(1, Duration.ofSeconds(30)).compareTo(Duration.ofSeconds(25)) <= 0);
+  }
+
+  @Test
+  public void shouldIgnoreUnmatchedEntries() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    breaker.open();
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).build();
+    byte[] snapshot = save(new PolicySnapshots().register("cb", breaker).register("rl", limiter));
+
+    // When
+    CircuitBreaker<Object> other = CircuitBreaker.ofDefaults();
+    RateLimiter<Object> smooth = RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build();
+    int count = restore(new PolicySnapshots().register("other", other).register("rl", smooth), snapshot,
+      Duration.ZERO);
+
+    // Then
+    assertEquals(count, 0);
+    assertTrue(other.isClosed());
+  }
+
+  @Test
+  public void shouldIgnoreSnapshotsOlderThanMaxAge() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    breaker.open();
+    PolicySnapshots snapshots = new PolicySnapshots().register("cb", breaker);
+    byte[] snapshot = save(snapshots);
+    breaker.close();
+
+    // When
+    int count = snapshots.restore(new ByteArrayInputStream(snapshot), Duration.ofMinutes(1),
+      System.currentTimeMillis() + Duration.ofMinutes(2).toMillis());
+
+    // Then
+    assertEquals(count, 0);
+    assertTrue(breaker.isClosed());
+  }
+
+  @Test
+  public void shouldSaveAndRestoreFile() throws Throwable {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("policies.snapshot");
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    breaker.open();
+    CircuitBreaker<Object> restored = CircuitBreaker.ofDefaults();
+    PolicySnapshots snapshots = new PolicySnapshots().register("cb", restored);
+
+    // When / Then
+    assertEquals(snapshots.restore(file, Duration.ofMinutes(1)), 0);
+    new PolicySnapshots().register("cb", breaker).save(file);
+    new PolicySnapshots().register("cb", breaker).save(file);
+    assertEquals(snapshots.restore(file, Duration.ofMinutes(1)), 1);
+    assertTrue(restored.isOpen());
+    assertEquals(folder.getRoot().list().length, 1);
+  }
+
+  @Test
+  public void shouldRejectInvalidSnapshot() {
+    PolicySnapshots snapshots = new PolicySnapshots();
+    assertThrows(() -> snapshots.restore(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }), Duration.ZERO),
+      IOException.class);
+  }
+
+  @Test
+  public void shouldRejectInvalidCircuitBreakerState() throws Throwable {
+    // Given
+    byte[] snapshot = save(new PolicySnapshots().register("cb", CircuitBreaker.ofDefaults()));
+    // The state follows the snapshot header and the entry's name, type and length
+    int stateOffset = 17 + 4 + 1 + 4;
+    CircuitBreaker<Object> restored = CircuitBreaker.ofDefaults();
+    PolicySnapshots snapshots = new PolicySnapshots().register("cb", restored);
+
+    // When / Then
+    snapshot[stateOffset] = 3;
+    assertThrows(() -> restore(snapshots, snapshot, Duration.ZERO), IOException.class);
+    snapshot[stateOffset] = -1;
+    assertThrows(() -> restore(snapshots, snapshot, Duration.ZERO), IOException.class);
+    assertTrue(restored.isClosed());
+  }
+
+  @Test
+  public void shouldRejectInvalidEntryLength() throws Throwable {
+    // Given
+    byte[] snapshot = save(new PolicySnapshots().register("cb", CircuitBreaker.ofDefaults()));
+    // The entry's length follows the snapshot header and the entry's name and type
+    int lengthOffset = 17 + 4 + 1;
+    PolicySnapshots snapshots = new PolicySnapshots().register("cb", CircuitBreaker.ofDefaults());
+
+    // When / Then
+    snapshot[lengthOffset] = (byte) 0x80;
+    assertThrows(() -> restore(snapshots, snapshot, Duration.ZERO), IOException.class);
+    snapshot[lengthOffset] = (byte) 0x7f;
+    assertThrows(() -> restore(snapshots, snapshot, Duration.ZERO), IOException.class);
+  }
+
+  private static byte[] save(PolicySnapshots snapshots) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    snapshots.save(out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Restores the {@code snapshot} as if it was saved {@code age} ago.
+   */
+  private static int restore(PolicySnapshots snapshots, byte[] snapshot, Duration age) throws IOException {
+    return snapshots.restore(new ByteArrayInputStream(snapshot), age.plusMinutes(1),
+      System.currentTimeMillis() + age.toMillis());
+  }
+}
@@ -19,6 +19,7 @@ import org.junit.Test;
 
 import java.time.Duration;
 
+import static dev.failsafe.testing.Asserts.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -27,11 +28,14 @@ public class RateLimiterBuilderTest {
   public void shouldCreateBuilderFromExistingConfig() {
     RateLimiterConfig<Object> initialConfig = RateLimiter.smoothBuilder(Duration.ofMillis(10))
       .withMaxWaitTime(Duration.ofSeconds(10))
+      .withShards(4, 2)
       .onSuccess(e -> {
       }).config;
     RateLimiterConfig<Object> newConfig = RateLimiter.builder(initialConfig).config;
     assertEquals(newConfig.maxRate, Duration.ofMillis(10));
     assertEquals(newConfig.maxWaitTime, Duration.ofSeconds(10));
+    assertEquals(newConfig.shards, 4);
+    assertEquals(newConfig.shardBorrowLimit, 2);
     assertNotNull(newConfig.successListener);
   }
 
@@ -48,4 +52,21 @@ public class RateLimiterBuilderTest {
     maxRate2 = RateLimiter.smoothBuilder(Duration.ofMillis(15)).config.getMaxRate();
     assertEquals(maxRate1, maxRate2);
   }
+
+  @Test
+  public void shouldDefaultToUnsharded() {
+    assertEquals(RateLimiter.smoothBuilder(Duration.ofMillis(10)).config.getShards(), 1);
+    assertEquals(RateLimiter.burstyBuilder(10, Duration.ofSeconds(1)).config.getShards(), 1);
+  }
+
+  @Test
+  public void shouldRequireValidShards() {
+    assertThrows(() -> RateLimiter.smoothBuilder(Duration.ofMillis(10)).withShards(0), IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.smoothBuilder(Duration.ofMillis(10)).withShards(2, -1),
+      IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.smoothBuilder(Duration.ofMillis(10)).withShards(2, 2),
+      IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.burstyBuilder(3, Duration.ofSeconds(1)).withShards(4),
+      IllegalArgumentException.class);
+  }
 }
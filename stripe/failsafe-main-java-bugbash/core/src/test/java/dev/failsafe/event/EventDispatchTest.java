@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.event;
+
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.event.EventDispatch.OverflowPolicy;
+import dev.failsafe.testing.Testing;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventDispatchTest extends Testing {
+  @Test
+  public void testSyncCreatesEvents() {
+    // Given
+    List<ExecutionCompletedEvent<Object>> events = new CopyOnWriteArrayList<>();
+
+    // When
+    EventDispatch.sync().<Object>dispatchCompleted(events::add, "a", null, null);
+    EventDispatch.sync().<Object>dispatchCompleted(events::add, "b", null, null);
+
+    // Then
+    assertNotSame(events.get(0), events.get(1));
+    assertEquals(events.get(0).getResult(), "a");
+    assertEquals(events.get(1).getResult(), "b");
+  }
+
+  @Test
+  public void testReusableReusesAndClearsEvents() {
+    // Given
+    List<ExecutionCompletedEvent<Object>> events = new CopyOnWriteArrayList<>();
+    List<Object> results = new CopyOnWriteArrayList<>();
+    EventListener<ExecutionCompletedEvent<Object>> listener = e -> {
+      events.add(e);
+      results.add(e.getResult());
+    };
+
+    // When
+    EventDispatch.reusable().dispatchCompleted(listener, "a", null, null);
+    EventDispatch.reusable().dispatchCompleted(listener, "b", null, null);
+
+    // Then
+    assertSame(events.get(0), events.get(1));
+    assertEquals(results.get(0), "a");
+    assertEquals(results.get(1), "b");
+    assertNull(events.get(0).getResult());
+  }
+
+  /**
+   * Asserts that a listener call nested within another listener call does not overwrite the outer event.
+   */
+  @Test
+  public void testReusableWithNestedDispatch() {
+    // Given
+    AtomicReference<Object> outerResult = new AtomicReference<>();
+    AtomicReference<Object> innerResult = new AtomicReference<>();
+    EventListener<ExecutionCompletedEvent<Object>> innerListener = e -> innerResult.set(e.getResult());
+    EventListener<ExecutionCompletedEvent<Object>> outerListener = e -> {
+      EventDispatch.reusable().dispatchCompleted(innerListener, "inner", null, null);
+      outerResult.set(e.getResult());
+    };
+
+    // When
+    EventDispatch.reusable().dispatchCompleted(outerListener, "outer", null, null);
+
+    // Then
+    assertEquals(outerResult.get(), "outer");
+    assertEquals(innerResult.get(), "inner");
+  }
+
+  @Test
+  public void testReusableScheduledEvent() {
+    // Given
+    AtomicReference<Duration> delay = new AtomicReference<>();
+
+    // When
+    EventDispatch.reusable().<Object>dispatchScheduled(e -> delay.set(e.getDelay()), null, null, 1_000_000, null);
+
+    // Then
+    assertEquals(delay.get(), Duration.ofMillis(1));
+  }
+
+  @Test
+  public void testAsyncDispatchesInOrder() throws Throwable {
+    // Given
+    EventDispatch dispatch = EventDispatch.async(4, OverflowPolicy.BLOCK);
+    List<Object> results = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new CopyOnWriteArrayList<>();
+    EventListener<ExecutionAttemptedEvent<Object>> listener = e -> {
+      results.add(e.getLastResult());
+      threads.add(Thread.currentThread());
+    };
+
+    // When
+    for (int i = 0; i < 100; i++)
+      dispatch.dispatchAttempted(listener, i, null, null);
+    dispatch.close();
+
+    // Then
+    assertEquals(results.size(), 100);
+    for (int i = 0; i < 100; i++)
+      assertEquals(results.get(i), i);
+    assertNotSame(threads.get(0), Thread.currentThread());
+  }
+
+  @Test
+  public void testAsyncDropsWhenFull() throws Throwable {
+    // Given
+    EventDispatch dispatch = EventDispatch.async(2, OverflowPolicy.DROP);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Object> results = new CopyOnWriteArrayList<>();
+    EventListener<ExecutionCompletedEvent<Object>> listener = e -> {
+      results.add(e.getResult());
+      blocked.countDown();
+      release.await();
+    };
+    dispatch.dispatchCompleted(listener, 0, null, null);
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+    // When
+    for (int i = 1; i <= 5; i++)
+      dispatch.dispatchCompleted(listener, i, null, null);
+    release.countDown();
+    dispatch.close();
+
+    // Then
+    assertEquals(dispatch.getDroppedCount(), 3);
+    assertEquals(results.size(), 3);
+  }
+
+  /**
+   * Asserts that a queued event describes the execution as it was when the event was dispatched, not when it was
+   * delivered.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testAsyncCapturesContextWhenQueued() throws Throwable {
+    // Given
+    EventDispatch dispatch = EventDispatch.async(4, OverflowPolicy.BLOCK);
+    AtomicInteger attempts = new AtomicInteger(1);
+    AtomicReference<Duration> elapsed = new AtomicReference<>(Duration.ofMillis(10));
+    ExecutionContext<Object> context = mock(ExecutionContext.class);
+    when(context.getAttemptCount()).thenAnswer(i -> attempts.get());
+    when(context.getExecutionCount()).thenAnswer(i -> attempts.get());
+    when(context.getElapsedTime()).thenAnswer(i -> elapsed.get());
+    when(context.getElapsedAttemptTime()).thenAnswer(i -> elapsed.get());
+    when(context.getLastResult()).thenReturn("last");
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Object> observed = new CopyOnWriteArrayList<>();
+    dispatch.<Object>dispatchCompleted(e -> {
+      blocked.countDown();
+      release.await();
+    }, null, null, null);
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+    // When
+    dispatch.<Object>dispatchAttempted(e -> {
+      observed.add(e.getAttemptCount());
+      observed.add(e.getExecutionCount());
+      observed.add(e.getElapsedTime());
+      observed.add(e.getElapsedAttemptTime());
+      observed.add(e.getLastResult());
+    }, "result", null, context);
+    attempts.set(5);
+    elapsed.set(Duration.ofSeconds(1));
+    release.countDown();
+    dispatch.close();
+
+    // Then
+    assertEquals(observed.get(0), 1);
+    assertEquals(observed.get(1), 1);
+    assertEquals(observed.get(2), Duration.ofMillis(10));
+    assertEquals(observed.get(3), Duration.ofMillis(10));
+    assertEquals(observed.get(4), "result");
+  }
+
+  @Test
+  public void testAsyncDispatchesInlineAfterClose() {
+    // Given
+    EventDispatch dispatch = EventDispatch.async(2, OverflowPolicy.DROP);
+    dispatch.close();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+
+    // When
+    dispatch.<Object>dispatchCompleted(e -> thread.set(Thread.currentThread()), null, null, null);
+
+    // Then
+    assertSame(thread.get(), Thread.currentThread());
+  }
+
+  @Test
+  public void testExecutorAndPolicyListeners() {
+    // Given
+    EventDispatch dispatch = EventDispatch.async(16, OverflowPolicy.BLOCK);
+    List<Integer> attempts = new CopyOnWriteArrayList<>();
+    List<Object> completions = new CopyOnWriteArrayList<>();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder()
+      .handleResult(null)
+      .withMaxRetries(2)
+      .withEventDispatch(dispatch)
+      .onFailedAttempt(e -> attempts.add(e.getAttemptCount()))
+      .build();
+
+    // When
+    Failsafe.with(retryPolicy).with(dispatch).onComplete(e -> completions.add(e.getResult())).get(() -> null);
+    dispatch.close();
+
+    // Then
+    assertEquals(attempts.size(), 3);
+    assertEquals(completions.size(), 1);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.functional;
+
+import dev.failsafe.Cache;
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.testing.Testing;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+/**
+ * Tests various Cache scenarios.
+ */
+public class CacheTest extends Testing {
+  /**
+   * Asserts that cached results short-circuit executions, for both sync and async executions.
+   */
+  @Test
+  public void shouldReturnCachedResult() {
+    // Given
+    Cache<Object> cache = Cache.of(10, Duration.ofMinutes(1));
+    AtomicInteger executions = new AtomicInteger();
+
+    // When / Then
+    testGetSuccess(false, () -> {
+      cache.invalidateAll();
+      executions.set(0);
+    }, Failsafe.with(cache), ctx -> {
+      executions.incrementAndGet();
+      return "foo";
+    }, (f, e) -> {
+      assertEquals(Failsafe.with(cache).get(() -> "bar"), "foo");
+      assertEquals(executions.get(), 1);
+    }, "foo");
+  }
+
+  @Test
+  public void shouldCacheResultsPerKey() {
+    // Given
+    Cache<Object> cache = Cache.of(10, Duration.ofMinutes(1));
+
+    // When
+    Failsafe.with(cache.forKey(1)).get(() -> "a");
+    Failsafe.with(cache.forKey(2)).get(() -> "b");
+
+    // Then
+    assertEquals(cache.size(), 2);
+    assertEquals(Failsafe.with(cache.forKey(1)).get(() -> "c"), "a");
+    assertEquals(Failsafe.with(cache.forKey(2)).get(() -> "c"), "b");
+    cache.forKey(1).invalidate();
+    assertEquals(Failsafe.with(cache.forKey(1)).get(() -> "c"), "c");
+  }
+
+  @Test
+  public void shouldNotCacheFailures() {
+    // Given
+    Cache<Object> cache = Cache.of(10, Duration.ofMinutes(1));
+
+    // When
+    assertThrows(() -> Failsafe.with(cache).get(() -> {
+      throw new IllegalStateException();
+    }), IllegalStateException.class);
+
+    // Then
+    assertEquals(cache.size(), 0);
+    assertEquals(Failsafe.with(cache).get(() -> "foo"), "foo");
+  }
+
+  @Test
+  public void shouldExpireResults() {
+    // Given
+    Cache<Object> cache = Cache.of(10, Duration.ofMillis(50));
+    Failsafe.with(cache).get(() -> "foo");
+
+    // When
+    sleep(100);
+
+    // Then
+    assertEquals(Failsafe.with(cache).get(() -> "bar"), "bar");
+  }
+
+  /**
+   * Asserts that cache hits skip inner policies.
+   */
+  @Test
+  public void shouldSkipInnerPoliciesOnHit() {
+    // Given
+    Cache<Object> cache = Cache.of(10, Duration.ofMinutes(1));
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().handleResult(null).build();
+    AtomicInteger executions = new AtomicInteger();
+    Failsafe.with(cache, retryPolicy).get(() -> executions.incrementAndGet() < 3 ? null : "foo");
+
+    // When / Then
+    assertEquals(Failsafe.with(cache, retryPolicy).get(() -> null), "foo");
+    assertEquals(executions.get(), 3);
+  }
+
+  /**
+   * Asserts that async executions return stale results while revalidating them in the background, and that
+   * revalidations are handled by inner policies.
+   */
+  @Test
+  public void shouldReturnStaleResultWhileRevalidating() throws Throwable {
+    // Given
+    Cache<Object> cache = Cache.builder(10, Duration.ofMillis(50))
+      .withStaleWhileRevalidate(Duration.ofMinutes(1))
+      .build();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().withMaxRetries(1).build();
+    Failsafe.with(cache, retryPolicy).getAsync(() -> "foo").get();
+    sleep(100);
+    CountDownLatch revalidated = new CountDownLatch(1);
+    AtomicInteger revalidations = new AtomicInteger();
+
+    // When the revalidation fails once
+    Object result = Failsafe.with(cache, retryPolicy).getAsync(() -> {
+      if (revalidations.incrementAndGet() == 1)
+        throw new IllegalStateException();
+      revalidated.countDown();
+      return "bar";
+    }).get();
+
+    // Then
+    assertEquals(result, "foo");
+    assertTrue(revalidated.await(1, TimeUnit.SECONDS));
+    sleep(50);
+    assertEquals(Failsafe.with(cache, retryPolicy).getAsync(() -> "baz").get(), "bar");
+    assertEquals(revalidations.get(), 2);
+  }
+
+  /**
+   * Asserts that sync executions treat stale results as missing.
+   */
+  @Test
+  public void shouldNotReturnStaleResultForSyncExecutions() {
+    // Given
+    Cache<Object> cache = Cache.builder(10, Duration.ofMillis(50))
+      .withStaleWhileRevalidate(Duration.ofMinutes(1))
+      .build();
+    Failsafe.with(cache).get(() -> "foo");
+    sleep(100);
+
+    // When / Then
+    assertEquals(Failsafe.with(cache).get(() -> "bar"), "bar");
+  }
+}
@@ -224,4 +224,31 @@ public class CircuitBreakerTest extends Testing {
     executor.get(() -> true);
     assertTrue(circuitBreaker.isClosed());
   }
+
+  /**
+   * Asserts that a circuit breaker opens when executions succeed but are slow.
+   */
+  @Test
+  public void shouldOpenWhenSlowCallRateExceeded() {
+    // Given
+    CircuitBreaker<Boolean> circuitBreaker = CircuitBreaker.<Boolean>builder()
+      .withFailureThreshold(2, 2)
+      .withSlowCallThreshold(Duration.ofMillis(20), 50)
+      .build();
+    FailsafeExecutor<Boolean> executor = Failsafe.with(circuitBreaker);
+
+    // When
+    executor.get(() -> true);
+    assertTrue(circuitBreaker.isClosed());
+    executor.get(() -> {
+      Thread.sleep(50);
+      return true;
+    });
+
+    // Then
+    assertTrue(circuitBreaker.isOpen());
+    assertEquals(circuitBreaker.getSlowCallCount(), 1);
+    assertEquals(circuitBreaker.getSlowCallRate(), 50);
+    assertEquals(circuitBreaker.getFailureCount(), 0L);
+  }
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.functional;
+
+import dev.failsafe.Coalescer;
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.testing.Testing;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+/**
+ * Tests various Coalescer scenarios.
+ */
+public class CoalescerTest extends Testing {
+  // Runs executions on separate threads, so that blocked executions cannot starve others
+  ExecutorService executor = Executors.newCachedThreadPool();
+
+  @After
+  public void afterMethod() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Asserts that concurrent executions for the same key share a single execution.
+   */
+  @Test
+  public void shouldCoalesceConcurrentExecutions() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger executions = new AtomicInteger();
+
+    // When
+    List<CompletableFuture<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++)
+      futures.add(Failsafe.with(coalescer.forKey("a")).with(executor).getAsync(() -> {
+        executions.incrementAndGet();
+        release.await();
+        return "foo";
+      }));
+    release.countDown();
+
+    // Then
+    for (CompletableFuture<Object> future : futures)
+      assertEquals(future.get(1, TimeUnit.SECONDS), "foo");
+    assertEquals(executions.get(), 1);
+  }
+
+  @Test
+  public void shouldNotCoalesceDifferentKeys() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger executions = new AtomicInteger();
+
+    // When
+    CompletableFuture<Object> future1 = Failsafe.with(coalescer.forKey(1)).with(executor).getAsync(() -> {
+      executions.incrementAndGet();
+      release.await();
+      return 1;
+    });
+    CompletableFuture<Object> future2 = Failsafe.with(coalescer.forKey(2)).with(executor).getAsync(() -> {
+      executions.incrementAndGet();
+      release.await();
+      return 2;
+    });
+    release.countDown();
+
+    // Then
+    assertEquals(future1.get(1, TimeUnit.SECONDS), 1);
+    assertEquals(future2.get(1, TimeUnit.SECONDS), 2);
+    assertEquals(executions.get(), 2);
+  }
+
+  /**
+   * Asserts that results are not shared once a flight completes.
+   */
+  @Test
+  public void shouldStartNewFlightAfterCompletion() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+
+    // When / Then
+    assertEquals(Failsafe.with(coalescer).with(executor).getAsync(() -> "foo").get(), "foo");
+    assertEquals(Failsafe.with(coalescer).with(executor).getAsync(() -> "bar").get(), "bar");
+  }
+
+  /**
+   * Asserts that inner policies are applied once for the shared execution.
+   */
+  @Test
+  public void shouldRetrySharedExecutionOnce() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().withMaxRetries(2).build();
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When
+    List<CompletableFuture<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < 5; i++)
+      futures.add(Failsafe.with(coalescer, retryPolicy).with(executor).getAsync(() -> {
+        release.await();
+        if (attempts.incrementAndGet() < 3)
+          throw new IllegalStateException();
+        return "foo";
+      }));
+    release.countDown();
+
+    // Then
+    for (CompletableFuture<Object> future : futures)
+      assertEquals(future.get(1, TimeUnit.SECONDS), "foo");
+    assertEquals(attempts.get(), 3);
+  }
+
+  @Test
+  public void shouldShareFailures() {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch release = new CountDownLatch(1);
+
+    // When
+    List<CompletableFuture<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++)
+      futures.add(Failsafe.with(coalescer).with(executor).getAsync(() -> {
+        release.await();
+        throw new IllegalStateException();
+      }));
+    release.countDown();
+
+    // Then
+    for (CompletableFuture<Object> future : futures)
+      assertThrows(() -> future.get(1, TimeUnit.SECONDS), ExecutionException.class, IllegalStateException.class);
+  }
+
+  /**
+   * Asserts that cancelling the leading execution does not cancel the shared execution while other waiters remain.
+   */
+  @Test
+  public void shouldNotCancelSharedExecutionWhenLeaderIsCancelled() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger interruptions = new AtomicInteger();
+    CompletableFuture<Object> leader = Failsafe.with(coalescer).with(executor).getAsync(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        interruptions.incrementAndGet();
+        throw e;
+      }
+      return "foo";
+    });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    CompletableFuture<Object> waiter = Failsafe.with(coalescer).with(executor).getAsync(() -> "bar");
+
+    // When
+    assertTrue(leader.cancel(true));
+    release.countDown();
+
+    // Then
+    assertEquals(waiter.get(1, TimeUnit.SECONDS), "foo");
+    assertThrows(leader::get, CancellationException.class);
+    assertEquals(interruptions.get(), 0);
+  }
+
+  /**
+   * Asserts that an outer Timeout that cancels the leading execution does not cancel or interrupt the shared execution
+   * or its inner policies while other waiters remain.
+   */
+  @Test
+  public void shouldNotCancelSharedExecutionWhenLeaderTimesOut() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    Timeout<Object> timeout = Timeout.builder(Duration.ofMillis(100)).withInterrupt().build();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().withMaxRetries(1).build();
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicInteger interruptions = new AtomicInteger();
+
+    // When
+    CompletableFuture<Object> leader = Failsafe.with(timeout, coalescer, retryPolicy).with(executor).getAsync(() -> {
+      started.countDown();
+      if (attempts.incrementAndGet() == 1) {
+        try {
+          Thread.sleep(300);
+        } catch (InterruptedException e) {
+          interruptions.incrementAndGet();
+          throw e;
+        }
+        throw new IllegalStateException();
+      }
+      return "foo";
+    });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    CompletableFuture<Object> waiter = Failsafe.with(coalescer).with(executor).getAsync(() -> "bar");
+
+    // Then
+    assertThrows(() -> leader.get(1, TimeUnit.SECONDS), ExecutionException.class, TimeoutExceededException.class);
+    assertEquals(waiter.get(1, TimeUnit.SECONDS), "foo");
+    assertEquals(attempts.get(), 2);
+    assertEquals(interruptions.get(), 0);
+  }
+
+  /**
+   * Asserts that cancelling a waiting execution does not affect the others.
+   */
+  @Test
+  public void shouldNotCancelSharedExecutionWhenWaiterIsCancelled() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Object> leader = Failsafe.with(coalescer).with(executor).getAsync(() -> {
+      started.countDown();
+      release.await();
+      return "foo";
+    });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    CompletableFuture<Object> waiter = Failsafe.with(coalescer).with(executor).getAsync(() -> "bar");
+
+    // When
+    assertTrue(waiter.cancel(true));
+    release.countDown();
+
+    // Then
+    assertEquals(leader.get(1, TimeUnit.SECONDS), "foo");
+    assertThrows(waiter::get, CancellationException.class);
+  }
+
+  /**
+   * Asserts that the shared execution is cancelled once all waiters are cancelled.
+   */
+  @Test
+  public void shouldCancelAbandonedExecution() throws Throwable {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<Object> leader = Failsafe.with(coalescer).with(executor).getAsync(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        throw e;
+      }
+      return "foo";
+    });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    CompletableFuture<Object> waiter = Failsafe.with(coalescer).with(executor).getAsync(() -> "bar");
+
+    // When
+    leader.cancel(true);
+    waiter.cancel(true);
+
+    // Then
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    assertEquals(Failsafe.with(coalescer).with(executor).getAsync(() -> "baz").get(1, TimeUnit.SECONDS), "baz");
+  }
+
+  @Test
+  public void shouldNotCoalesceSyncExecutions() {
+    // Given
+    Coalescer<Object> coalescer = Coalescer.create();
+    AtomicInteger executions = new AtomicInteger();
+
+    // When
+    Failsafe.with(coalescer).get(executions::incrementAndGet);
+    Failsafe.with(coalescer).get(executions::incrementAndGet);
+
+    // Then
+    assertEquals(executions.get(), 2);
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.functional;
+
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.Failsafe;
+import dev.failsafe.Hedge;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.testing.Testing;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests various Hedge scenarios.
+ */
+public class HedgeTest extends Testing {
+  // Runs attempts on separate threads, so that blocked attempts cannot starve timeouts
+  ExecutorService executor = Executors.newCachedThreadPool();
+
+  @After
+  public void afterMethod() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Asserts that a hedged attempt wins against a slow attempt, which is interrupted.
+   */
+  @Test
+  public void shouldReturnHedgedResult() throws Throwable {
+    // Given
+    Hedge<Object> hedge = Hedge.builder(Duration.ofMillis(50)).withInterrupt().build();
+    AtomicInteger attempts = new AtomicInteger();
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    // When
+    Object result = Failsafe.with(hedge).with(executor).getAsync(() -> {
+      if (attempts.getAndIncrement() == 0) {
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          throw e;
+        }
+      }
+      return "hedged";
+    }).get(1, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals(result, "hedged");
+    assertEquals(attempts.get(), 2);
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Asserts that hedged attempts are not started for a fast execution.
+   */
+  @Test
+  public void shouldNotHedgeFastExecutions() throws Throwable {
+    // Given
+    Hedge<Object> hedge = Hedge.builder(Duration.ofMillis(100)).withMaxHedges(3).build();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When
+    Object result = Failsafe.with(hedge).with(executor).getAsync(() -> {
+      attempts.incrementAndGet();
+      return "primary";
+    }).get();
+    Thread.sleep(200);
+
+    // Then
+    assertEquals(result, "primary");
+    assertEquals(attempts.get(), 1);
+  }
+
+  /**
+   * Asserts that a failed attempt does not win while other attempts are running, and that the last failure is returned
+   * when all attempts fail.
+   */
+  @Test
+  public void shouldReturnLastFailure() throws Throwable {
+    // Given
+    Hedge<Object> hedge = Hedge.builder(Duration.ofMillis(20)).withMaxHedges(2).build();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When / Then
+    assertThrows(() -> Failsafe.with(hedge).with(executor).getAsync(() -> {
+      int attempt = attempts.getAndIncrement();
+      Thread.sleep(attempt == 0 ? 100 : 10);
+      throw new IllegalStateException(String.valueOf(attempt));
+    }).get(), ExecutionException.class, IllegalStateException.class);
+    assertEquals(attempts.get(), 3);
+  }
+
+  /**
+   * Asserts that a successful hedged attempt wins over a failed attempt.
+   */
+  @Test
+  public void shouldIgnoreFailureWhileOtherAttemptsAreRunning() throws Throwable {
+    // Given
+    Hedge<Object> hedge = Hedge.of(Duration.ofMillis(20));
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When
+    Object result = Failsafe.with(hedge).with(executor).getAsync(() -> {
+      if (attempts.getAndIncrement() == 0) {
+        Thread.sleep(100);
+        throw new IllegalStateException();
+      }
+      Thread.sleep(200);
+      return "hedged";
+    }).get();
+
+    // Then
+    assertEquals(result, "hedged");
+  }
+
+  /**
+   * Asserts that an outer Timeout cancels all attempts.
+   */
+  @Test
+  public void shouldComposeWithTimeout() {
+    // Given
+    Timeout<Object> timeout = Timeout.of(Duration.ofMillis(100));
+    Hedge<Object> hedge = Hedge.of(Duration.ofMillis(20));
+
+    // When / Then
+    assertThrows(() -> Failsafe.with(timeout, hedge).with(executor).getAsync(() -> {
+      Thread.sleep(1000);
+      return null;
+    }).get(), ExecutionException.class, TimeoutExceededException.class);
+  }
+
+  /**
+   * Asserts that an outer CircuitBreaker records one result per hedged execution.
+   */
+  @Test
+  public void shouldComposeWithCircuitBreaker() throws Throwable {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    Hedge<Object> hedge = Hedge.of(Duration.ofMillis(20));
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When
+    Object result = Failsafe.with(breaker, hedge).with(executor).getAsync(() -> {
+      if (attempts.getAndIncrement() == 0)
+        Thread.sleep(1000);
+      return "hedged";
+    }).get();
+
+    // Then
+    assertEquals(result, "hedged");
+    assertEquals(breaker.getSuccessCount(), 1);
+    assertEquals(breaker.getFailureCount(), 0);
+  }
+
+  /**
+   * Asserts that synchronous executions are performed as a single attempt.
+   */
+  @Test
+  public void shouldNotHedgeSyncExecutions() {
+    // Given
+    Hedge<Object> hedge = Hedge.of(Duration.ofMillis(10));
+    AtomicInteger attempts = new AtomicInteger();
+
+    // When
+    Object result = Failsafe.with(hedge).get(() -> {
+      attempts.incrementAndGet();
+      Thread.sleep(50);
+      return "primary";
+    });
+
+    // Then
+    assertEquals(result, "primary");
+    assertEquals(attempts.get(), 1);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.functional;
+
+import dev.failsafe.*;
+import dev.failsafe.spi.StripedMetrics;
+import dev.failsafe.testing.Testing;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+/**
+ * Tests that executions are recorded to metrics.
+ */
+public class MetricsTest extends Testing {
+  @Test
+  public void shouldRecordRetries() throws Throwable {
+    // Given
+    StripedMetrics metrics = new StripedMetrics();
+    RetryPolicy<Object> retryPolicy = RetryPolicy.builder().withMaxRetries(2).build();
+    FailsafeExecutor<Object> failsafe = Failsafe.with(retryPolicy).withMetrics(metrics);
+
+    // When
+    assertThrows(() -> failsafe.run(() -> {
+      throw new IllegalStateException();
+    }), IllegalStateException.class);
+    assertThrows(() -> failsafe.runAsync(() -> {
+      throw new IllegalStateException();
+    }).get(), ExecutionException.class, IllegalStateException.class);
+
+    // Then
+    StripedMetrics.Stats stats = metrics.get(retryPolicy);
+    assertEquals(stats.getAttempts(), 6);
+    assertEquals(stats.getFailures(), 6);
+    assertEquals(stats.getRetries(), 4);
+  }
+
+  @Test
+  public void shouldRecordAttemptLatencies() {
+    // Given
+    StripedMetrics metrics = new StripedMetrics();
+    Fallback<Object> fallback = Fallback.of("fallback");
+    FailsafeExecutor<Object> failsafe = Failsafe.with(fallback).withMetrics(metrics);
+
+    // When
+    for (int i = 0; i < 3; i++)
+      failsafe.get(() -> {
+        Thread.sleep(20);
+        return "success";
+      });
+
+    // Then
+    StripedMetrics.Stats stats = metrics.get(fallback);
+    assertEquals(stats.getAttempts(), 3);
+    assertEquals(stats.getFailures(), 0);
+    assertTrue(stats.getLatencyAtPercentile(50).compareTo(Duration.ofMillis(20)) >= 0);
+    assertTrue(stats.getLatencyAtPercentile(100).compareTo(Duration.ofSeconds(5)) < 0);
+  }
+
+  @Test
+  public void shouldRecordRejections() {
+    // Given
+    StripedMetrics metrics = new StripedMetrics();
+    CircuitBreaker<Object> breaker = CircuitBreaker.ofDefaults();
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(1, Duration.ofMinutes(1)).build();
+    breaker.open();
+
+    // When
+    assertThrows(() -> Failsafe.with(breaker).withMetrics(metrics).run(() -> {
+    }), CircuitBreakerOpenException.class);
+    Failsafe.with(limiter).withMetrics(metrics).run(() -> {
+    });
+    assertThrows(() -> Failsafe.with(limiter).withMetrics(metrics).run(() -> {
+    }), RateLimitExceededException.class);
+
+    // Then
+    assertEquals(metrics.get(breaker).getRejections(), 1);
+    assertEquals(metrics.get(breaker).getAttempts(), 0);
+    assertEquals(metrics.get(limiter).getRejections(), 1);
+    assertEquals(metrics.get(limiter).getAttempts(), 1);
+  }
+
+  @Test
+  public void shouldRecordRateLimiterWaits() {
+    // Given
+    StripedMetrics metrics = new StripedMetrics();
+    RateLimiter<Object> limiter = RateLimiter.smoothBuilder(Duration.ofMillis(50))
+      .withMaxWaitTime(Duration.ofSeconds(1))
+      .build();
+    FailsafeExecutor<Object> failsafe = Failsafe.with(limiter).withMetrics(metrics);
+
+    // When
+    failsafe.run(() -> {
+    });
+    failsafe.run(() -> {
+    });
+
+    // Then
+    StripedMetrics.Stats stats = metrics.get(limiter);
+    assertEquals(stats.getWaits(), 1);
+    assertTrue(stats.getTotalWaitTime().toMillis() > 0);
+  }
+
+  @Test
+  public void shouldRecordTimeouts() {
+    // Given
+    StripedMetrics metrics = new StripedMetrics();
+    Timeout<Object> timeout = Timeout.of(Duration.ofMillis(20));
+
+    // When
+    assertThrows(() -> Failsafe.with(timeout).withMetrics(metrics).run(() -> Thread.sleep(200)),
+      TimeoutExceededException.class);
+
+    // Then
+    assertEquals(metrics.get(timeout).getTimeouts(), 1);
+    assertEquals(metrics.get(timeout).getFailures(), 1);
+  }
+
+  /**
+   * Asserts that reconfiguring metrics takes effect for subsequent executions.
+   */
+  @Test
+  public void shouldRecordToReconfiguredMetrics() {
+    // Given
+    StripedMetrics metrics1 = new StripedMetrics();
+    StripedMetrics metrics2 = new StripedMetrics();
+    Fallback<Object> fallback = Fallback.of("fallback");
+    FailsafeExecutor<Object> failsafe = Failsafe.with(fallback).withMetrics(metrics1);
+
+    // When
+    failsafe.run(() -> {
+    });
+    failsafe.withMetrics(metrics2).run(() -> {
+    });
+
+    // Then
+    assertEquals(metrics1.get(fallback).getAttempts(), 1);
+    assertEquals(metrics2.get(fallback).getAttempts(), 1);
+  }
+
+  /**
+   * Asserts that configuring metrics does not make executor lambdas ambiguous.
+   */
+  @Test
+  public void shouldNotConflictWithExecutorLambdas() {
+    AtomicInteger executions = new AtomicInteger();
+    Failsafe.none().with(r -> {
+      executions.incrementAndGet();
+      r.run();
+    }).runAsync(() -> {
+    }).join();
+    assertEquals(executions.get(), 1);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Bulkhead.LimitAlgorithm;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveLimitTest {
+  @Test
+  public void testAimd() {
+    // Given
+    AdaptiveLimit limit = AdaptiveLimit.of(LimitAlgorithm.AIMD, 10, 20);
+
+    // When / Then app limited
+    assertEquals(limit.record(1000, 4, false), 10);
+
+    // When / Then
+    assertEquals(limit.record(1000, 10, false), 11);
+    assertEquals(limit.record(1000, 10, true), 9);
+    for (int i = 0; i < 100; i++)
+      limit.record(1000, 20, false);
+    assertEquals(limit.record(1000, 20, false), 20);
+    for (int i = 0; i < 100; i++)
+      limit.record(1000, 20, true);
+    assertEquals(limit.record(1000, 20, true), 1);
+  }
+
+  @Test
+  public void testVegas() {
+    // Given
+    AdaptiveLimit limit = AdaptiveLimit.of(LimitAlgorithm.VEGAS, 10, 100);
+    limit.record(1000, 10, false);
+
+    // When / Then no queueing
+    int limitValue = limit.record(1000, 10, false);
+    assertTrue(limitValue > 10);
+
+    // When / Then queueing doubles latency
+    int queuedLimit = limitValue;
+    for (int i = 0; i < 5; i++)
+      queuedLimit = limit.record(2000, queuedLimit, false);
+    assertTrue(queuedLimit < limitValue);
+
+    // When / Then
+    assertTrue(limit.record(1000, queuedLimit, true) < queuedLimit);
+  }
+
+  @Test
+  public void testGradient() {
+    // Given
+    AdaptiveLimit limit = AdaptiveLimit.of(LimitAlgorithm.GRADIENT, 10, 100);
+
+    // When / Then steady latencies grow the limit
+    int limitValue = 10;
+    for (int i = 0; i < 20; i++)
+      limitValue = limit.record(1000, limitValue, false);
+    assertTrue(limitValue > 10);
+
+    // When / Then latencies well above the long term average shrink the limit
+    int slowLimit = limitValue;
+    for (int i = 0; i < 20; i++)
+      slowLimit = limit.record(10_000, slowLimit, false);
+    assertTrue(slowLimit < limitValue);
+    assertTrue(slowLimit >= 1);
+  }
+
+  @Test
+  public void shouldRecordOneThreadAtATime() {
+    AdaptiveLimit limit = AdaptiveLimit.of(LimitAlgorithm.AIMD, 10, 20);
+    assertTrue(limit.tryStartRecording());
+    assertFalse(limit.tryStartRecording());
+    limit.finishRecording();
+    assertTrue(limit.tryStartRecording());
+  }
+
+  @Test
+  public void shouldRecordDeferredFailures() {
+    AdaptiveLimit limit = AdaptiveLimit.of(LimitAlgorithm.AIMD, 10, 20);
+    limit.deferFailure(1000);
+    limit.deferFailure(1000);
+    assertTrue(limit.hasDeferredFailures());
+    assertEquals(limit.recordDeferredFailures(10), 8);
+    assertFalse(limit.hasDeferredFailures());
+    assertEquals(limit.recordDeferredFailures(10), 8);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Bulkhead;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BulkheadImplTest {
+  @Test
+  public void shouldHandPermitToWaiter() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(1);
+    assertTrue(bulkhead.tryAcquirePermit());
+    CompletableFuture<Void> waiter = bulkhead.acquirePermitAsync();
+    assertFalse(waiter.isDone());
+
+    // When
+    bulkhead.releasePermit();
+
+    // Then the permit is handed to the waiter rather than made available
+    assertTrue(waiter.isDone());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  @Test
+  public void shouldSkipCancelledWaiters() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(1);
+    assertTrue(bulkhead.tryAcquirePermit());
+    CompletableFuture<Void> waiter1 = bulkhead.acquirePermitAsync();
+    CompletableFuture<Void> waiter2 = bulkhead.acquirePermitAsync();
+    waiter1.cancel(false);
+
+    // When
+    bulkhead.releasePermit();
+
+    // Then
+    assertTrue(waiter2.isDone());
+    assertFalse(waiter2.isCancelled());
+    assertFalse(bulkhead.tryAcquirePermit());
+
+    // When / Then
+    bulkhead.releasePermit();
+    assertTrue(bulkhead.tryAcquirePermit());
+  }
+
+  @Test
+  public void shouldPurgeAbandonedWaiters() throws Throwable {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(1);
+    assertTrue(bulkhead.tryAcquirePermit());
+    CompletableFuture<Void> waiter = bulkhead.acquirePermitAsync();
+
+    // When
+    for (int i = 0; i < 1000; i++)
+      bulkhead.acquirePermitAsync().cancel(false);
+    for (int i = 0; i < 10; i++)
+      assertFalse(bulkhead.tryAcquirePermit(Duration.ofMillis(1)));
+
+    // Then abandoned waiters are purged while the remaining waiter is kept
+    assertTrue(bulkhead.getWaiterCount() <= 16);
+    bulkhead.releasePermit();
+    assertTrue(waiter.isDone());
+  }
+
+  @Test
+  public void shouldNotLeakPermitsAfterWaitTimeExceeded() throws Throwable {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(1);
+    assertTrue(bulkhead.tryAcquirePermit());
+
+    // When
+    assertFalse(bulkhead.tryAcquirePermit(Duration.ofMillis(10)));
+    bulkhead.releasePermit();
+
+    // Then the timed out waiter does not take the released permit
+    assertTrue(bulkhead.tryAcquirePermit());
+  }
+
+  @Test
+  public void shouldNotReleaseMoreThanMaxPermits() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(2);
+
+    // When
+    bulkhead.releasePermit();
+
+    // Then
+    assertTrue(bulkhead.tryAcquirePermit());
+    assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that in-flight executions drain below a decreased adaptive limit before new permits are acquired.
+   */
+  @Test
+  public void shouldDrainToDecreasedLimit() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.builder(4)
+      .withAdaptiveConcurrency(Bulkhead.LimitAlgorithm.AIMD, 4)
+      .build();
+    for (int i = 0; i < 4; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+
+    // When a failure decreases the limit
+    bulkhead.releasePermit(1000, true);
+
+    // Then
+    assertEquals(bulkhead.getConcurrencyLimit(), 3);
+    assertFalse(bulkhead.tryAcquirePermit());
+    bulkhead.releasePermit();
+    assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that a failure which is released while another thread is adapting the limit is not skipped.
+   */
+  @Test
+  public void shouldNotSkipContendedFailures() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.builder(100)
+      .withAdaptiveConcurrency(Bulkhead.LimitAlgorithm.AIMD, 100)
+      .build();
+    assertTrue(bulkhead.adaptiveLimit.tryStartRecording());
+
+    // When a failure is released while recording is claimed
+    bulkhead.releasePermit(1000, true);
+    bulkhead.adaptiveLimit.finishRecording();
+    bulkhead.releasePermit(1000, false);
+
+    // Then the next release records the failure
+    assertEquals(bulkhead.getConcurrencyLimit(), 90);
+  }
+
+  /**
+   * Asserts that concurrent acquisitions and releases never exceed the max concurrency or lose permits.
+   */
+  @Test
+  public void shouldLimitConcurrency() throws Throwable {
+    // Given
+    int maxConcurrency = 4;
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(maxConcurrency);
+    AtomicInteger concurrency = new AtomicInteger();
+    AtomicInteger maxObservedConcurrency = new AtomicInteger();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+          for (int j = 0; j < 1000; j++) {
+            bulkhead.acquirePermit();
+            maxObservedConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            concurrency.decrementAndGet();
+            bulkhead.releasePermit();
+          }
+        } catch (InterruptedException ignore) {
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    // When
+    startLatch.countDown();
+    for (Thread thread : threads)
+      thread.join();
+
+    // Then
+    assertTrue(maxObservedConcurrency.get() <= maxConcurrency);
+    for (int i = 0; i < maxConcurrency; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+}
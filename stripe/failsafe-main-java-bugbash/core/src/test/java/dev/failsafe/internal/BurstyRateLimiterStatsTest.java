@@ -87,6 +87,24 @@ public class BurstyRateLimiterStatsTest extends RateLimiterStatsTest<BurstyRateL
     assertEquals(stats.getCurrentPeriod(), 2);
   }
 
+  /**
+   * Asserts that once a deficit is paid off, available permits do not accumulate beyond the max permits per period.
+   */
+  @Test
+  public void shouldNotAccumulatePermitsAfterDeficit() {
+    // Given 2 max permits per second
+    BurstyRateLimiterStats stats = createStats(2, Duration.ofSeconds(1));
+    assertEquals(acquire(stats, 3), 1000);
+    assertEquals(stats.getAvailablePermits(), -1);
+
+    // When several periods pass
+    stopwatch.set(5000);
+
+    // Then
+    assertEquals(stats.getAvailablePermits(), 2);
+    assertEquals(acquire(stats, 3), 1000);
+  }
+
   @Override
   void printInfo(BurstyRateLimiterStats stats, long waitMillis) {
     System.out.printf("[%s] elapsedMillis: %5s, availablePermits: %2s, currentPeriod: %s, waitMillis: %s%n",
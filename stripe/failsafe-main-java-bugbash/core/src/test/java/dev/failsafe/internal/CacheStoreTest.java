@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Cache.EvictionPolicy;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CacheStoreTest {
+  @Test
+  public void shouldEvictLeastRecentlyUsed() {
+    // Given
+    CacheStore<String> store = new CacheStore<>(2, EvictionPolicy.LRU, 1000, 0);
+    store.put(1, "a", 0);
+    store.put(2, "b", 0);
+    store.get(1, 0);
+
+    // When
+    store.put(3, "c", 0);
+
+    // Then
+    assertEquals(store.size(), 2);
+    assertEquals(store.get(1, 0).value, "a");
+    assertNull(store.get(2, 0));
+    assertEquals(store.get(3, 0).value, "c");
+  }
+
+  @Test
+  public void shouldExpireEntries() {
+    // Given
+    CacheStore<String> store = new CacheStore<>(10, EvictionPolicy.LRU, 100, 50);
+    store.put(1, "a", 0);
+
+    // When / Then
+    assertFalse(store.get(1, 99).isExpired(99));
+    assertTrue(store.get(1, 100).isExpired(100));
+    assertNull(store.get(1, 150));
+    assertEquals(store.size(), 0);
+  }
+
+  @Test
+  public void shouldReplaceExistingEntries() {
+    // Given
+    CacheStore<String> store = new CacheStore<>(2, EvictionPolicy.TINY_LFU, 100, 0);
+    store.put(1, "a", 0);
+    store.put(2, "b", 0);
+
+    // When
+    store.put(1, "c", 50);
+
+    // Then
+    assertEquals(store.size(), 2);
+    assertEquals(store.get(1, 120).value, "c");
+  }
+
+  /**
+   * Asserts that frequently used entries are not flushed by a scan of one-off keys.
+   */
+  @Test
+  public void shouldProtectFrequentEntriesFromScans() {
+    // Given
+    CacheStore<Integer> store = new CacheStore<>(100, EvictionPolicy.TINY_LFU, 1000, 0);
+    for (int i = 0; i < 50; i++) {
+      store.put(i, i, 0);
+      for (int j = 0; j < 3; j++)
+        store.get(i, 0);
+    }
+
+    // When
+    for (int i = 1000; i < 2000; i++)
+      store.put(i, i, 0);
+
+    // Then
+    assertEquals(store.size(), 100);
+    for (int i = 0; i < 50; i++)
+      assertNotNull(store.get(i, 0));
+  }
+
+  @Test
+  public void shouldAllowOneRevalidationAtATime() {
+    // Given
+    CacheStore<String> store = new CacheStore<>(1, EvictionPolicy.LRU, 100, 100);
+    store.put(1, "a", 0);
+    CacheStore.Entry<String> entry = store.get(1, 150);
+
+    // When / Then
+    assertTrue(entry.tryRevalidate());
+    assertFalse(entry.tryRevalidate());
+    entry.revalidationFailed();
+    assertTrue(entry.tryRevalidate());
+  }
+}
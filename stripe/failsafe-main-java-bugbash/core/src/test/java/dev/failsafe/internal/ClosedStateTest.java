@@ -18,6 +18,9 @@ package dev.failsafe.internal;
 import dev.failsafe.CircuitBreaker;
 import org.junit.Test;
 
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -30,7 +33,7 @@ public class ClosedStateTest {
     // Given
     CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.ofDefaults();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
     assertFalse(breaker.isOpen());
 
     // When
@@ -50,7 +53,7 @@ public class ClosedStateTest {
       .withFailureThreshold(2, 3)
       .build();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
 
     // When
     state.recordFailure(null);
@@ -72,7 +75,7 @@ public class ClosedStateTest {
       .withFailureThreshold(3)
       .build();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
 
     // When
     state.recordFailure(null);
@@ -94,7 +97,7 @@ public class ClosedStateTest {
     // Given
     CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.ofDefaults();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
     assertTrue(breaker.isClosed());
 
     // When
@@ -114,7 +117,7 @@ public class ClosedStateTest {
       .withFailureThreshold(3, 4)
       .build();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
     assertTrue(breaker.isClosed());
 
     // When / Then
@@ -135,7 +138,7 @@ public class ClosedStateTest {
       .withFailureThreshold(2)
       .build();
     breaker.close();
-    ClosedState<Object> state = new ClosedState<>(breaker);
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
     assertTrue(breaker.isClosed());
 
     // When / Then
@@ -146,6 +149,41 @@ public class ClosedStateTest {
     }
   }
 
+  /**
+   * Asserts that the circuit is opened after the slow call rate threshold is met, even though executions succeed.
+   */
+  @Test
+  public void testSlowCallRateThreshold() {
+    // Given
+    long slowNanos = Duration.ofMillis(100).toNanos();
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.builder()
+      .withFailureThreshold(3, 4)
+      .withSlowCallThreshold(Duration.ofMillis(100), 50)
+      .build();
+    breaker.close();
+    ClosedState<Object> state = (ClosedState<Object>) breaker.state.get();
+
+    // When
+    state.recordCallDuration(0);
+    state.recordSuccess();
+    state.recordCallDuration(slowNanos);
+    state.recordSuccess();
+    state.recordCallDuration(0);
+    state.recordSuccess();
+    assertTrue(breaker.isClosed());
+    assertEquals(state.getSlowCallCount(), 1);
+    state.recordCallDuration(slowNanos - 1);
+    state.recordSuccess();
+    assertTrue(breaker.isClosed());
+    state.recordCallDuration(slowNanos);
+    state.recordSuccess();
+
+    // Then
+    assertTrue(breaker.isOpen());
+    assertEquals(state.getSlowCallRate(), 50);
+    assertEquals(state.getStats().getFailureCount(), 0);
+  }
+
   // Disabled for now since thresholds are not dynamically configurable in 3.0, but may be again in future versions.
   //  /**
   //   * Asserts that the late configuration of a failure ratio is handled by resetting the state's internal tracking. Also
@@ -183,4 +221,22 @@ public class ClosedStateTest {
   //    // Then
   //    assertTrue(breaker.isOpen());
   //  }
+
+  /**
+   * Asserts that a stale closed state cannot open a newer closed state.
+   */
+  @Test
+  public void shouldNotTransitionFromStaleState() {
+    // Given
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.ofDefaults();
+    ClosedState<Object> staleState = (ClosedState<Object>) breaker.state.get();
+    breaker.open();
+    breaker.close();
+
+    // When
+    staleState.recordFailure(null);
+
+    // Then
+    assertTrue(breaker.isClosed());
+  }
 }
@@ -4,7 +4,9 @@ import dev.failsafe.internal.TimedCircuitStatsTest.TestClock;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -115,6 +117,26 @@ public class CountingCircuitStatsTest extends CircuitStatsTest {
     assertValues(stats, true, true, true, false, false, false, false, false);
   }
 
+  @Test
+  public void testSnapshotAndRestore() {
+    // Given
+    stats = new CountingCircuitStats(5, null);
+    recordSuccesses(stats, 3);
+    recordFailures(stats, 2);
+    recordSuccesses(stats, 1);
+    List<long[]> buckets = new ArrayList<>();
+
+    // When
+    stats.snapshot((ageMillis, successes, failures) -> buckets.add(new long[] { ageMillis, successes, failures }));
+    CountingCircuitStats restored = new CountingCircuitStats(5, null);
+    for (long[] bucket : buckets)
+      restored.restore(bucket[0], (int) bucket[1], (int) bucket[2]);
+
+    // Then
+    assertEquals(buckets.size(), 3);
+    assertValues(restored, true, true, false, false, true);
+  }
+
   private static boolean[] valuesFor(CountingCircuitStats stats) {
     boolean[] values = new boolean[stats.getExecutionCount()];
     for (int i = 0; i < values.length; i++)
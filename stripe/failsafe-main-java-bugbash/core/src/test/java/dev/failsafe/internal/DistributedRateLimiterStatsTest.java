@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiter;
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.spi.QuotaCoordinator;
+import dev.failsafe.spi.QuotaCoordinatorServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static dev.failsafe.testing.Testing.sleep;
+import static org.junit.Assert.*;
+
+public class DistributedRateLimiterStatsTest {
+  @Test
+  public void shouldLeasePermitsInBlocks() {
+    // Given 10 permits per minute, leased 4 at a time
+    AtomicInteger leases = new AtomicInteger();
+    QuotaCoordinator inProcess = QuotaCoordinator.inProcess();
+    QuotaCoordinator coordinator = (key, config, permits) -> {
+      leases.incrementAndGet();
+      return inProcess.lease(key, config, permits);
+    };
+    DistributedRateLimiterStats stats1 = createStats(coordinator);
+    DistributedRateLimiterStats stats2 = createStats(coordinator);
+    awaitLeased(stats1, 4);
+    awaitLeased(stats2, 4);
+
+    // When
+    int acquired = 0;
+    for (int i = 0; i < 10; i++) {
+      if (stats1.acquirePermits(1, Duration.ZERO) == 0)
+        acquired++;
+      if (stats2.acquirePermits(1, Duration.ZERO) == 0)
+        acquired++;
+    }
+
+    // Then only the 8 leased permits are acquired, and the remaining 2 are leased along with the next period's permits
+    assertEquals(acquired, 8);
+    sleep(100);
+    assertEquals(leases.get(), 4);
+  }
+
+  @Test
+  public void shouldWaitForDeficit() {
+    // Given a renewal that waits for the next period
+    DistributedRateLimiterStats stats = createStats(QuotaCoordinator.inProcess());
+    awaitLeased(stats, 4);
+    assertEquals(stats.acquirePermits(4, null), 0);
+    awaitLeased(stats, 4);
+    assertEquals(stats.acquirePermits(4, null), 0);
+    sleep(100);
+
+    // When / Then
+    assertEquals(stats.acquirePermits(2, null), Duration.ofSeconds(12).toNanos());
+    assertEquals(stats.acquirePermits(1, Duration.ofSeconds(12)), -1);
+    assertEquals(stats.getAvailablePermits(), -2);
+  }
+
+  @Test
+  public void shouldLeaseViaSocket() throws Throwable {
+    try (QuotaCoordinatorServer server = new QuotaCoordinatorServer(QuotaCoordinator.inProcess(), 0)) {
+      // Given
+      DistributedRateLimiterStats stats1 = createStats(QuotaCoordinator.connect(server.getAddress()));
+      DistributedRateLimiterStats stats2 = createStats(QuotaCoordinator.connect(server.getAddress()));
+      awaitLeased(stats1, 4);
+      awaitLeased(stats2, 4);
+
+      // When
+      assertEquals(stats1.acquirePermits(4, Duration.ZERO), 0);
+      assertEquals(stats2.acquirePermits(4, Duration.ZERO), 0);
+      sleep(100);
+
+      // Then the renewals wait for the next period
+      assertEquals(stats1.acquirePermits(1, Duration.ZERO), -1);
+      assertEquals(stats2.acquirePermits(1, Duration.ZERO), -1);
+    }
+  }
+
+  @Test
+  public void shouldTimeoutStalledLeases() throws Throwable {
+    try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      // Given a coordinator that accepts connections but never responds
+      SocketQuotaCoordinator coordinator = new SocketQuotaCoordinator(
+        new InetSocketAddress(server.getInetAddress(), server.getLocalPort()), 100);
+      RateLimiterConfig<Object> config = RateLimiter.burstyBuilder(10, Duration.ofMinutes(1)).build().getConfig();
+
+      // When / Then
+      assertThrows(() -> coordinator.lease("test", config, 4), SocketTimeoutException.class);
+    }
+  }
+
+  @Test
+  public void shouldRetryFailedLeases() {
+    // Given
+    AtomicBoolean failing = new AtomicBoolean(true);
+    QuotaCoordinator inProcess = QuotaCoordinator.inProcess();
+    DistributedRateLimiterStats stats = createStats((key, config, permits) -> {
+      if (failing.get())
+        throw new IOException();
+      return inProcess.lease(key, config, permits);
+    });
+
+    // When / Then
+    sleep(50);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), -1);
+    failing.set(false);
+    sleep(100);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), -1);
+    awaitLeased(stats, 4);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+  }
+
+  @Test
+  public void shouldNotCombineWithShardingOrSharing() {
+    QuotaCoordinator coordinator = QuotaCoordinator.inProcess();
+    assertThrows(() -> RateLimiter.burstyBuilder(10, Duration.ofMinutes(1)).withShards(2).withCoordinator(coordinator,
+      "test", 4), IllegalStateException.class);
+    assertThrows(() -> RateLimiter.burstyBuilder(10, Duration.ofMinutes(1)).withCoordinator(coordinator, "test", 4)
+      .withSharedFile(Paths.get("limiter")), IllegalStateException.class);
+    assertThrows(() -> RateLimiter.burstyBuilder(10, Duration.ofMinutes(1)).withCoordinator(coordinator, "test", 0),
+      IllegalArgumentException.class);
+  }
+
+  private static DistributedRateLimiterStats createStats(QuotaCoordinator coordinator) {
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(10, Duration.ofMinutes(1))
+      .withCoordinator(coordinator, "test", 4)
+      .build();
+    return (DistributedRateLimiterStats) ((RateLimiterImpl<Object>) limiter).stats;
+  }
+
+  private static void awaitLeased(DistributedRateLimiterStats stats, long permits) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (stats.getAvailablePermits() < permits) {
+      assertTrue("Timed out waiting for leased permits", System.nanoTime() < deadline);
+      sleep(10);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.RetryPolicyConfig;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class FailureClassifierTest {
+  @Test
+  public void shouldMergeExceptionTypes() {
+    // Given
+    RetryPolicyConfig<Object> config = RetryPolicy.builder()
+      .handle(IllegalArgumentException.class)
+      .handle(IOException.class, IllegalStateException.class)
+      .build()
+      .getConfig();
+    FailureClassifier<Object> classifier = FailureClassifier.of(config);
+
+    // When / Then
+    assertNotNull(classifier.exceptionTypes);
+    assertTrue(classifier.isFailure(null, new ConnectException()));
+    assertTrue(classifier.isFailure(null, new IllegalStateException()));
+    assertFalse(classifier.isFailure(null, new RuntimeException()));
+    assertFalse(classifier.isFailure(null, null));
+    assertFalse(classifier.isFailure("foo", null));
+  }
+
+  @Test
+  public void shouldEvaluateMixedConditionsInOrder() {
+    // Given
+    AtomicInteger predicateCalls = new AtomicInteger();
+    RetryPolicyConfig<Object> config = RetryPolicy.builder()
+      .handle(IOException.class)
+      .handleResult("foo")
+      .handleIf(e -> predicateCalls.incrementAndGet() > 1)
+      .build()
+      .getConfig();
+    FailureClassifier<Object> classifier = FailureClassifier.of(config);
+
+    // When / Then
+    assertNull(classifier.exceptionTypes);
+    assertTrue(classifier.isFailure(null, new IOException()));
+    assertTrue(classifier.isFailure("foo", null));
+    assertFalse(classifier.isFailure(null, new RuntimeException()));
+    assertTrue(classifier.isFailure(null, new RuntimeException()));
+    assertEquals(predicateCalls.get(), 2);
+  }
+
+  @Test
+  public void shouldFailByDefaultForUncheckedExceptions() {
+    // Given
+    FailureClassifier<Object> classifier = FailureClassifier.of(
+      RetryPolicy.builder().handleResult(null).build().getConfig());
+
+    // When / Then
+    assertTrue(classifier.isFailure(null, null));
+    assertTrue(classifier.isFailure("foo", new RuntimeException()));
+    assertFalse(classifier.isFailure("foo", null));
+
+    // Given no conditions
+    classifier = FailureClassifier.of(RetryPolicy.builder().build().getConfig());
+
+    // When / Then
+    assertTrue(classifier.isFailure(null, new RuntimeException()));
+    assertFalse(classifier.isFailure(null, null));
+  }
+
+  @Test
+  public void shouldTreatConditionExceptionsAsFalse() {
+    // Given
+    FailureClassifier<Object> classifier = FailureClassifier.of(RetryPolicy.builder().handleIf(e -> {
+      throw new IllegalStateException();
+    }).build().getConfig());
+
+    // When / Then
+    assertFalse(classifier.matches(null, new RuntimeException()));
+  }
+}
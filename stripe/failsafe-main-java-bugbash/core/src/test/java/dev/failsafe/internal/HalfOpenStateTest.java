@@ -19,6 +19,8 @@ import dev.failsafe.CircuitBreaker;
 import dev.failsafe.testing.Testing;
 import org.junit.Test;
 
+import java.time.Duration;
+
 import static dev.failsafe.internal.InternalTesting.stateFor;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -492,4 +494,43 @@ public class HalfOpenStateTest {
   //    // Then
   //    assertTrue(breaker.isClosed());
   //  }
+
+  /**
+   * Asserts that the circuit is opened rather than closed when the success threshold is met while the slow call rate
+   * threshold is exceeded.
+   */
+  @Test
+  public void testSlowCallRateThreshold() {
+    // Given
+    long slowNanos = Duration.ofMillis(100).toNanos();
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withSuccessThreshold(2)
+      .withSlowCallThreshold(Duration.ofMillis(100), 50)
+      .build();
+    breaker.halfOpen();
+    HalfOpenState<Object> state = stateFor(breaker);
+
+    // When
+    state.recordCallDuration(slowNanos);
+    state.recordSuccess();
+    assertTrue(breaker.isHalfOpen());
+    state.recordCallDuration(0);
+    state.recordSuccess();
+
+    // Then
+    assertTrue(breaker.isOpen());
+
+    // Given
+    breaker.halfOpen();
+    state = stateFor(breaker);
+
+    // When
+    state.recordCallDuration(0);
+    state.recordSuccess();
+    state.recordCallDuration(0);
+    state.recordSuccess();
+
+    // Then
+    assertTrue(breaker.isClosed());
+  }
 }
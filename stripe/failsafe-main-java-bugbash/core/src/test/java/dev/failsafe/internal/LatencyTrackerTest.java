@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LatencyTrackerTest {
+  @Test
+  public void shouldRequireMinSamples() {
+    LatencyTracker tracker = new LatencyTracker(95);
+    for (int i = 0; i < LatencyTracker.MIN_SAMPLES - 1; i++)
+      tracker.record(i);
+    assertEquals(tracker.getPercentile(), -1);
+
+    tracker.record(100);
+    assertEquals(tracker.getPercentile(), 100);
+  }
+
+  @Test
+  public void shouldTrackPercentileOfRecentSamples() {
+    // Given
+    LatencyTracker tracker = new LatencyTracker(95);
+    for (int i = 1; i <= 100; i++)
+      tracker.record(i);
+
+    // When / Then
+    assertEquals(tracker.getPercentile(), 95);
+
+    // When old samples are replaced
+    for (int i = 0; i < LatencyTracker.WINDOW_SIZE; i++)
+      tracker.record(1000);
+
+    // Then
+    assertEquals(tracker.getPercentile(), 1000);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class MappedPermitStateTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldShareBurstyPermits() {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("limiter");
+    RateLimiter<Object> limiter1 = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).build();
+    RateLimiter<Object> limiter2 = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).build();
+
+    // When / Then
+    assertTrue(limiter1.tryAcquirePermits(3));
+    assertFalse(limiter2.tryAcquirePermits(3));
+    assertTrue(limiter2.tryAcquirePermits(2));
+    assertFalse(limiter1.tryAcquirePermit());
+
+    // When a limiter is created after permits were acquired
+    RateLimiter<Object> limiter3 = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).build();
+
+    // Then
+    assertFalse(limiter3.tryAcquirePermit());
+  }
+
+  @Test
+  public void shouldShareSmoothPermits() {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("limiter");
+    RateLimiter<Object> limiter1 = RateLimiter.smoothBuilder(Duration.ofMinutes(1)).withSharedFile(file).build();
+    RateLimiter<Object> limiter2 = RateLimiter.smoothBuilder(Duration.ofMinutes(1)).withSharedFile(file).build();
+
+    // When / Then
+    assertTrue(limiter1.tryAcquirePermit());
+    assertFalse(limiter2.tryAcquirePermit());
+    Duration waitTime = limiter2.reservePermit();
+    assertTrue(waitTime.compareTo(Duration.ofSeconds(59)) > 0);
+    assertTrue(waitTime.compareTo(Duration.ofMinutes(1)) <= 0);
+  }
+
+  @Test
+  public void shouldRejectDifferentConfiguration() {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("limiter");
+    RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).build();
+
+    // When / Then
+    assertThrows(() -> RateLimiter.burstyBuilder(6, Duration.ofMinutes(1)).withSharedFile(file).build(),
+      IllegalStateException.class);
+    assertThrows(() -> RateLimiter.smoothBuilder(Duration.ofMinutes(1)).withSharedFile(file).build(),
+      IllegalStateException.class);
+    assertThrows(() -> RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withShards(2).withSharedFile(file),
+      IllegalStateException.class);
+    assertThrows(() -> RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).withShards(2),
+      IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldDeferInterrupts() {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("limiter");
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(5, Duration.ofMinutes(1)).withSharedFile(file).build();
+
+    // When
+    Thread.currentThread().interrupt();
+    boolean acquired = limiter.tryAcquirePermit();
+
+    // Then
+    assertTrue(Thread.interrupted());
+    assertTrue(acquired);
+    assertTrue(limiter.tryAcquirePermits(4));
+    assertFalse(limiter.tryAcquirePermit());
+  }
+
+  @Test
+  public void shouldNotRestoreSnapshots() throws Throwable {
+    // Given
+    Path file = folder.getRoot().toPath().resolve("limiter");
+    RateLimiterImpl<Object> limiter = (RateLimiterImpl<Object>) RateLimiter.burstyBuilder(5, Duration.ofMinutes(1))
+      .withSharedFile(file)
+      .build();
+    limiter.tryAcquirePermits(5);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    limiter.writeSnapshot(new DataOutputStream(out));
+
+    // When / Then
+    assertFalse(limiter.restoreSnapshot(new DataInputStream(new ByteArrayInputStream(out.toByteArray())), 0));
+  }
+}
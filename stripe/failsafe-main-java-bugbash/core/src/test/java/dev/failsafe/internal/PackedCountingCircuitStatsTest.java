@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.internal.TimedCircuitStatsTest.TestClock;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+
+public class PackedCountingCircuitStatsTest extends CircuitStatsTest {
+  PackedCountingCircuitStats stats;
+
+  @Test
+  public void testMetrics() {
+    stats = new PackedCountingCircuitStats(100, null);
+    assertEquals(stats.getSuccessRate(), 0);
+    assertEquals(stats.getFailureRate(), 0);
+    assertEquals(stats.getExecutionCount(), 0);
+
+    recordExecutions(stats, 50, i -> i % 3 == 0);
+
+    assertEquals(stats.getSuccessCount(), 17);
+    assertEquals(stats.getSuccessRate(), 34);
+    assertEquals(stats.getFailureCount(), 33);
+    assertEquals(stats.getFailureRate(), 66);
+    assertEquals(stats.getExecutionCount(), 50);
+
+    recordSuccesses(stats, 100);
+
+    assertEquals(stats.getSuccessCount(), 100);
+    assertEquals(stats.getSuccessRate(), 100);
+    assertEquals(stats.getFailureCount(), 0);
+    assertEquals(stats.getFailureRate(), 0);
+    assertEquals(stats.getExecutionCount(), 100);
+  }
+
+  @Test
+  public void shouldOverwriteOldestResults() {
+    stats = new PackedCountingCircuitStats(5, null);
+    recordSuccesses(stats, 5);
+    recordFailures(stats, 2);
+    assertEquals(stats.toString(), "[false, false, true, true, true]");
+    assertEquals(stats.getSuccessCount(), 3);
+    assertEquals(stats.getFailureCount(), 2);
+    assertEquals(stats.getExecutionCount(), 5);
+  }
+
+  @Test
+  public void testReset() {
+    stats = new PackedCountingCircuitStats(70, null);
+    recordExecutions(stats, 100, i -> i % 2 == 0);
+    stats.reset();
+    assertEquals(stats.getExecutionCount(), 0);
+
+    recordFailures(stats, 1);
+    assertEquals(stats.toString(), "[false]");
+  }
+
+  @Test
+  public void testCopyToSmallerStats() {
+    stats = new PackedCountingCircuitStats(10, null);
+    recordSuccesses(stats, 12);
+    recordFailures(stats, 2);
+
+    PackedCountingCircuitStats right = new PackedCountingCircuitStats(4, stats);
+    assertEquals(right.toString(), "[true, true, false, false]");
+  }
+
+  @Test
+  public void testCopyToLargerStats() {
+    stats = new PackedCountingCircuitStats(5, null);
+    recordSuccesses(stats, 2);
+    recordFailures(stats, 3);
+
+    PackedCountingCircuitStats right = new PackedCountingCircuitStats(6, stats);
+    assertEquals(right.toString(), "[true, true, false, false, false]");
+  }
+
+  @Test
+  public void testCopyFromTimedStats() {
+    TestClock clock = new TestClock();
+    TimedCircuitStats timedStats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordSuccesses(timedStats, 3);
+    clock.set(1200);
+    recordFailures(timedStats, 5);
+
+    stats = new PackedCountingCircuitStats(10, timedStats);
+    assertEquals(stats.getSuccessCount(), 3);
+    assertEquals(stats.getFailureCount(), 5);
+  }
+
+  @Test
+  public void shouldRecordConcurrently() throws Throwable {
+    int threads = 8;
+    int executionsPerThread = 1000;
+    stats = new PackedCountingCircuitStats(threads * executionsPerThread, null);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> recorders = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        recordExecutions(stats, executionsPerThread, j -> j % 4 == 0);
+      });
+      thread.start();
+      recorders.add(thread);
+    }
+
+    startLatch.countDown();
+    for (Thread thread : recorders)
+      thread.join();
+
+    assertEquals(stats.getExecutionCount(), threads * executionsPerThread);
+    assertEquals(stats.getSuccessCount(), threads * executionsPerThread / 4);
+    assertEquals(stats.getFailureRate(), 75);
+  }
+
+  /**
+   * Asserts that a slot is never counted as both a success and a failure when records lap each other.
+   */
+  @Test
+  public void shouldNotDoubleCountSlotsUnderContention() throws Throwable {
+    stats = new PackedCountingCircuitStats(3, null);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> recorders = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      boolean success = i % 2 == 0;
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        recordExecutions(stats, 100_000, j -> success);
+      });
+      thread.start();
+      recorders.add(thread);
+    }
+
+    startLatch.countDown();
+    for (Thread thread : recorders)
+      thread.join();
+
+    assertEquals(stats.getExecutionCount(), 3);
+    assertEquals(stats.getSuccessCount() + stats.getFailureCount(), 3);
+  }
+}
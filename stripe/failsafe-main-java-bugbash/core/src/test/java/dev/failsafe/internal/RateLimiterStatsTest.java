@@ -19,6 +19,9 @@ import dev.failsafe.internal.RateLimiterStats.Stopwatch;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
@@ -81,6 +84,41 @@ public abstract class RateLimiterStatsTest<T extends RateLimiterStats> {
     assertEquals(singlsCallWaitMillis, mulipleCallsWaitMillis);
   }
 
+  /**
+   * Asserts that permits acquired concurrently yield the same result as permits acquired by a single thread.
+   */
+  @Test
+  public void shouldAcquirePermitsConcurrently() throws Throwable {
+    // Given
+    T stats1 = createStats();
+    T stats2 = createStats();
+    int threads = 8;
+    int callsPerThread = 100;
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> acquirers = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        for (int j = 0; j < callsPerThread; j++)
+          stats1.acquirePermits(1, null);
+      });
+      thread.start();
+      acquirers.add(thread);
+    }
+
+    // When
+    startLatch.countDown();
+    for (Thread thread : acquirers)
+      thread.join();
+    acquire(stats2, 1, threads * callsPerThread);
+
+    // Then
+    assertEquals(acquire(stats1, 1), acquire(stats2, 1));
+  }
+
   /**
    * Asserts that acquire on a new stats object with a single permit has zero wait time.
    */
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiter;
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.RateLimiterStatsTest.TestStopwatch;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class ShardedRateLimiterStatsTest {
+  TestStopwatch stopwatch;
+
+  @Before
+  public void beforeMethod() {
+    stopwatch = new TestStopwatch();
+  }
+
+  ShardedRateLimiterStats createBurstyStats(long maxPermits, int shards, int shardBorrowLimit) {
+    RateLimiterConfig<Object> config = RateLimiter.burstyBuilder(maxPermits, Duration.ofSeconds(1))
+      .withShards(shards, shardBorrowLimit)
+      .build()
+      .getConfig();
+    return new ShardedRateLimiterStats(config, stopwatch);
+  }
+
+  @Test
+  public void shouldSplitBurstyPermitsAcrossShards() {
+    ShardedRateLimiterStats stats = createBurstyStats(10, 4, 3);
+    assertEquals(((BurstyRateLimiterStats) stats.shards[0]).periodPermits, 3);
+    assertEquals(((BurstyRateLimiterStats) stats.shards[1]).periodPermits, 3);
+    assertEquals(((BurstyRateLimiterStats) stats.shards[2]).periodPermits, 2);
+    assertEquals(((BurstyRateLimiterStats) stats.shards[3]).periodPermits, 2);
+  }
+
+  @Test
+  public void shouldBorrowFromNeighbours() {
+    // Given
+    ShardedRateLimiterStats stats = createBurstyStats(10, 4, 3);
+
+    // When / Then
+    for (int i = 0; i < 10; i++)
+      assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), -1);
+
+    // Then when waiting, permits are acquired from the thread's own shard
+    assertEquals(stats.acquirePermits(1, null), Duration.ofSeconds(1).toNanos());
+
+    // Given a new period
+    stopwatch.set(2000);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+  }
+
+  @Test
+  public void shouldLimitBorrowing() {
+    // Given
+    ShardedRateLimiterStats stats = createBurstyStats(10, 4, 0);
+    int shardIndex = stats.shardIndexFor(Thread.currentThread());
+    long shardPermits = ((BurstyRateLimiterStats) stats.shards[shardIndex]).periodPermits;
+
+    // When / Then
+    for (int i = 0; i < shardPermits; i++)
+      assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), -1);
+  }
+
+  @Test
+  public void shouldSplitSmoothRateAcrossShards() {
+    // Given
+    RateLimiterConfig<Object> config = RateLimiter.smoothBuilder(Duration.ofMillis(100))
+      .withShards(4)
+      .build()
+      .getConfig();
+    ShardedRateLimiterStats stats = new ShardedRateLimiterStats(config, stopwatch);
+    assertEquals(((SmoothRateLimiterStats) stats.shards[0]).intervalNanos, Duration.ofMillis(400).toNanos());
+
+    // When / Then
+    for (int i = 0; i < 4; i++)
+      assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), -1);
+
+    // Given
+    stopwatch.set(400);
+    assertEquals(stats.acquirePermits(1, Duration.ZERO), 0);
+  }
+
+  /**
+   * Asserts that the aggregate permits acquired by concurrent threads never exceed the max permits.
+   */
+  @Test
+  public void shouldNotExceedMaxPermitsConcurrently() throws Throwable {
+    // Given
+    ShardedRateLimiterStats stats = createBurstyStats(100, 8, 7);
+    AtomicInteger acquired = new AtomicInteger();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> acquirers = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        for (int j = 0; j < 50; j++)
+          if (stats.acquirePermits(1, Duration.ZERO) == 0)
+            acquired.incrementAndGet();
+      });
+      thread.start();
+      acquirers.add(thread);
+    }
+
+    // When
+    startLatch.countDown();
+    for (Thread thread : acquirers)
+      thread.join();
+
+    // Then
+    assertEquals(acquired.get(), 100);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.internal.TimedCircuitStatsTest.TestClock;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+
+public class StripedTimedCircuitStatsTest extends CircuitStatsTest {
+  StripedTimedCircuitStats stats;
+  private TestClock clock;
+
+  @Before
+  public void beforeMethod() {
+    clock = new TestClock();
+  }
+
+  @Test
+  public void testMetrics() {
+    // Given 4 buckets representing 1 second each
+    stats = new StripedTimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    assertEquals(stats.getSuccessRate(), 0);
+    assertEquals(stats.getFailureRate(), 0);
+    assertEquals(stats.getExecutionCount(), 0);
+
+    // Record into bucket 1
+    recordExecutions(stats, 50, i -> i % 5 == 0); // currentTime = 0
+    assertEquals(stats.getCurrentBucket().epoch, 0);
+    assertEquals(stats.getSuccessCount(), 10);
+    assertEquals(stats.getSuccessRate(), 20);
+    assertEquals(stats.getFailureCount(), 40);
+    assertEquals(stats.getFailureRate(), 80);
+    assertEquals(stats.getExecutionCount(), 50);
+
+    // Record into bucket 2
+    clock.set(1000);
+    recordSuccesses(stats, 10);
+    assertEquals(stats.getCurrentBucket().epoch, 1);
+    assertEquals(stats.getSuccessCount(), 20);
+    assertEquals(stats.getSuccessRate(), 33);
+    assertEquals(stats.getFailureCount(), 40);
+    assertEquals(stats.getFailureRate(), 67);
+    assertEquals(stats.getExecutionCount(), 60);
+
+    // Record into bucket 3
+    clock.set(2500);
+    recordFailures(stats, 20);
+    assertEquals(stats.getSuccessCount(), 20);
+    assertEquals(stats.getSuccessRate(), 25);
+    assertEquals(stats.getFailureCount(), 60);
+    assertEquals(stats.getFailureRate(), 75);
+    assertEquals(stats.getExecutionCount(), 80);
+
+    // Record into bucket 4
+    clock.set(3100);
+    recordExecutions(stats, 25, i -> i % 5 == 0);
+    assertEquals(stats.getSuccessCount(), 25);
+    assertEquals(stats.getSuccessRate(), 24);
+    assertEquals(stats.getFailureCount(), 80);
+    assertEquals(stats.getFailureRate(), 76);
+    assertEquals(stats.getExecutionCount(), 105);
+
+    // Record into bucket 2, skipping bucket 1
+    clock.set(5400);
+    recordSuccesses(stats, 8);
+    assertEquals(stats.getCurrentBucket().epoch, 5);
+    assertEquals(stats.buckets.get(1).epoch, 5);
+    assertEquals(stats.getSuccessCount(), 13);
+    assertEquals(stats.getSuccessRate(), 25);
+    assertEquals(stats.getFailureCount(), 40);
+    assertEquals(stats.getFailureRate(), 75);
+    assertEquals(stats.getExecutionCount(), 53);
+
+    // Record into bucket 4, skipping bucket 3
+    clock.set(7300);
+    recordFailures(stats, 5);
+    assertEquals(stats.getSuccessCount(), 8);
+    assertEquals(stats.getSuccessRate(), 62);
+    assertEquals(stats.getFailureCount(), 5);
+    assertEquals(stats.getFailureRate(), 38);
+    assertEquals(stats.getExecutionCount(), 13);
+
+    // Skip all buckets
+    clock.set(22500);
+    assertEquals(stats.getSuccessRate(), 0);
+    assertEquals(stats.getFailureRate(), 0);
+    assertEquals(stats.getExecutionCount(), 0);
+  }
+
+  @Test
+  public void testReset() {
+    stats = new StripedTimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordSuccesses(stats, 3);
+    clock.set(1500);
+    recordFailures(stats, 2);
+    assertEquals(stats.getExecutionCount(), 5);
+
+    stats.reset();
+    assertEquals(stats.getExecutionCount(), 0);
+    recordSuccesses(stats, 1);
+    assertEquals(stats.getSuccessCount(), 1);
+  }
+
+  @Test
+  public void testCopyExecutions() {
+    TimedCircuitStats oldStats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordSuccesses(oldStats, 2);
+    clock.set(1100);
+    recordFailures(oldStats, 3);
+
+    stats = new StripedTimedCircuitStats(4, Duration.ofSeconds(4), clock, oldStats);
+    assertEquals(stats.getSuccessCount(), 2);
+    assertEquals(stats.getFailureCount(), 3);
+  }
+
+  @Test
+  public void shouldRecordConcurrently() throws Throwable {
+    stats = new StripedTimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    int threads = 8;
+    int executionsPerThread = 10000;
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> recorders = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        recordExecutions(stats, executionsPerThread, j -> j % 4 == 0);
+      });
+      thread.start();
+      recorders.add(thread);
+    }
+
+    startLatch.countDown();
+    for (Thread thread : recorders)
+      thread.join();
+
+    assertEquals(stats.getExecutionCount(), threads * executionsPerThread);
+    assertEquals(stats.getSuccessCount(), threads * executionsPerThread / 4);
+    assertEquals(stats.getSuccessRate(), 25);
+  }
+}
@@ -21,7 +21,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -243,6 +245,47 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
   /**
    * Accepts a [startTime, successCount, failureCount] tuple.
    */
+  @Test
+  public void testSnapshotAndRestore() {
+    // Given 4 buckets representing 1 second each
+    stats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordSuccesses(stats, 3);
+    clock.set(1200);
+    recordFailures(stats, 5);
+    clock.set(2500);
+    List<long[]> buckets = new ArrayList<>();
+
+    // When
+    stats.snapshot((ageMillis, successes, failures) -> buckets.add(new long[] { ageMillis, successes, failures }));
+    clock.set(10000);
+    TimedCircuitStats restored = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    for (long[] bucket : buckets)
+      restored.restore(bucket[0] + 1000, (int) bucket[1], (int) bucket[2]);
+
+    // Then
+    assertEquals(buckets.size(), 2);
+    assertEquals(buckets.get(0)[0], 2500L);
+    assertEquals(restored.getSuccessCount(), 3);
+    assertEquals(restored.getFailureCount(), 5);
+
+    // When the oldest restored bucket expires
+    clock.set(11000);
+    restored.getCurrentBucket();
+
+    // Then
+    assertEquals(restored.getSuccessCount(), 0);
+    assertEquals(restored.getFailureCount(), 5);
+
+    // When restoring results that are older than the thresholding period
+    restored = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    for (long[] bucket : buckets)
+      restored.restore(bucket[0] + 2000, (int) bucket[1], (int) bucket[2]);
+
+    // Then
+    assertEquals(restored.getSuccessCount(), 0);
+    assertEquals(restored.getFailureCount(), 5);
+  }
+
   private static int[] b(int... values) {
     return new int[] { values[0], values[1], values[2] };
   }
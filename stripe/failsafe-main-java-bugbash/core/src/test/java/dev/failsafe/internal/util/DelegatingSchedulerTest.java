@@ -26,6 +26,8 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class DelegatingSchedulerTest {
@@ -90,4 +92,13 @@ public class DelegatingSchedulerTest {
     }, 0, TimeUnit.MILLISECONDS);
     waiter.await(1000);
   }
+
+  @Test
+  public void shouldIgnoreInvalidTimingWheelTickMillis() {
+    assertNotNull(DelegatingScheduler.timingWheelFor(" 10 "));
+    assertNull(DelegatingScheduler.timingWheelFor(null));
+    assertNull(DelegatingScheduler.timingWheelFor("10ms"));
+    assertNull(DelegatingScheduler.timingWheelFor("0"));
+    assertNull(DelegatingScheduler.timingWheelFor("-5"));
+  }
 }
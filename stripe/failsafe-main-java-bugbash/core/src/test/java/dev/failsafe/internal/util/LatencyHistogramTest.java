@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+  @Test
+  public void testBucketIndex() {
+    // Exact values
+    for (int i = 0; i < 64; i++) {
+      assertEquals(LatencyHistogram.bucketIndex(i), i);
+      assertEquals(LatencyHistogram.highestEquivalentValue(i), i);
+    }
+
+    // Contiguous buckets that contain their values
+    int lastIndex = 63;
+    for (long value = 64; value < 100_000; value++) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertTrue(index == lastIndex || index == lastIndex + 1);
+      assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+      assertTrue(LatencyHistogram.highestEquivalentValue(index) - value <= value / LatencyHistogram.SUB_BUCKETS);
+      lastIndex = index;
+    }
+    assertEquals(LatencyHistogram.highestEquivalentValue(LatencyHistogram.BUCKETS - 1), Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testGetValueAtPercentile() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram(4);
+    assertEquals(histogram.getValueAtPercentile(50), 0);
+
+    // When
+    for (int i = 1; i <= 1000; i++)
+      histogram.record(i * 1000L);
+
+    // Then
+    assertEquals(histogram.getCount(), 1000);
+    assertWithin(histogram.getValueAtPercentile(50), 500_000);
+    assertWithin(histogram.getValueAtPercentile(99), 990_000);
+    assertWithin(histogram.getValueAtPercentile(100), 1_000_000);
+    assertWithin(histogram.getValueAtPercentile(0), 1000);
+  }
+
+  @Test
+  public void testRecordConcurrently() throws Throwable {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram(4);
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++)
+          histogram.record(j);
+      });
+    }
+
+    // When
+    for (Thread thread : threads)
+      thread.start();
+    for (Thread thread : threads)
+      thread.join();
+
+    // Then
+    assertEquals(histogram.getCount(), 40_000);
+  }
+
+  private static void assertWithin(long actual, long expected) {
+    assertTrue(actual + " != " + expected, actual >= expected && actual - expected <= expected / 32);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.spi.Scheduler;
+import net.jodah.concurrentunit.Waiter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static dev.failsafe.testing.Testing.runInThread;
+import static org.junit.Assert.*;
+
+public class TimingWheelTest {
+  TimingWheel wheel = new TimingWheel(Duration.ofMillis(10), 8);
+
+  @After
+  public void afterMethod() {
+    wheel.close();
+  }
+
+  @Test
+  public void shouldRejectInvalidArguments() {
+    assertThrows(() -> new TimingWheel(Duration.ofNanos(100), 8), IllegalArgumentException.class);
+    assertThrows(() -> new TimingWheel(Duration.ofMillis(10), 0), IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldWaitForRunOrCancel() throws Throwable {
+    // Given
+    AtomicInteger runs = new AtomicInteger();
+    ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+    // When / Then
+    assertThrows(() -> future.get(1, TimeUnit.MILLISECONDS), TimeoutException.class);
+    assertNull(future.get());
+    assertEquals(runs.get(), 1);
+    assertNull(future.get(1, TimeUnit.MILLISECONDS));
+
+    // Given
+    ScheduledFuture<?> cancelled = wheel.schedule(runs::incrementAndGet, 1, TimeUnit.MINUTES);
+    runInThread(() -> {
+      Thread.sleep(50);
+      cancelled.cancel(false);
+    });
+
+    // When / Then
+    assertThrows(() -> cancelled.get(1, TimeUnit.SECONDS), CancellationException.class);
+    assertThrows(cancelled::get, CancellationException.class);
+  }
+
+  @Test
+  public void shouldRunAfterDelay() throws Throwable {
+    // Given
+    Duration delay = Duration.ofMillis(100);
+    Waiter waiter = new Waiter();
+    long startTime = System.nanoTime();
+
+    // When
+    ScheduledFuture<?> future = wheel.schedule(waiter::resume, delay.toMillis(), TimeUnit.MILLISECONDS);
+
+    // Then
+    waiter.await(1000);
+    assertTrue(System.nanoTime() - startTime >= delay.toNanos());
+    assertTrue(future.isDone());
+    assertFalse(future.isCancelled());
+    assertFalse(future.cancel(false));
+  }
+
+  /**
+   * Asserts that delays longer than one rotation of the wheel are not run early.
+   */
+  @Test
+  public void shouldRunAfterMultipleRounds() throws Throwable {
+    // Given a wheel that rotates every 80 ms
+    Duration delay = Duration.ofMillis(250);
+    Waiter waiter = new Waiter();
+    long startTime = System.nanoTime();
+
+    // When
+    wheel.schedule(waiter::resume, delay.toMillis(), TimeUnit.MILLISECONDS);
+
+    // Then
+    waiter.await(1000);
+    assertTrue(System.nanoTime() - startTime >= delay.toNanos());
+  }
+
+  @Test
+  public void shouldNotRunCancelledTasks() throws Throwable {
+    // Given
+    AtomicInteger runs = new AtomicInteger();
+    Waiter waiter = new Waiter();
+    ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+    // When
+    assertTrue(future.cancel(false));
+    wheel.schedule(waiter::resume, 100, TimeUnit.MILLISECONDS);
+
+    // Then
+    waiter.await(1000);
+    assertEquals(runs.get(), 0);
+    assertTrue(future.isCancelled());
+    assertTrue(future.isDone());
+  }
+
+  @Test
+  public void shouldRunManyTasks() throws Throwable {
+    // Given
+    int tasks = 10_000;
+    AtomicInteger runs = new AtomicInteger();
+    Waiter waiter = new Waiter();
+
+    // When every other task is cancelled
+    for (int i = 0; i < tasks; i++) {
+      ScheduledFuture<?> future = wheel.schedule(() -> {
+        if (runs.incrementAndGet() == tasks / 2)
+          waiter.resume();
+      }, i % 100, TimeUnit.MILLISECONDS);
+      if (i % 2 == 1)
+        future.cancel(false);
+    }
+
+    // Then
+    waiter.await(5000);
+    Thread.sleep(50);
+    assertEquals(runs.get(), tasks / 2);
+  }
+
+  @Test
+  public void shouldParkWhenIdle() throws Throwable {
+    // Given
+    wheel.schedule(() -> {
+    }, 10, TimeUnit.MILLISECONDS).get();
+
+    // When
+    Thread.sleep(50);
+
+    // Then the worker parks without a timeout until another task is scheduled
+    assertEquals(wheel.worker.getState(), Thread.State.WAITING);
+    Waiter waiter = new Waiter();
+    wheel.schedule(waiter::resume, 10, TimeUnit.MILLISECONDS);
+    waiter.await(1000);
+  }
+
+  @Test
+  public void shouldStopWhenClosed() throws Throwable {
+    // Given
+    ScheduledFuture<?> future = wheel.schedule(() -> {
+    }, 1, TimeUnit.MINUTES);
+
+    // When
+    wheel.close();
+    wheel.worker.join(1000);
+
+    // Then
+    assertFalse(wheel.worker.isAlive());
+    assertThrows(future::get, CancellationException.class);
+    assertThrows(() -> wheel.schedule(() -> {
+    }, 10, TimeUnit.MILLISECONDS), RejectedExecutionException.class);
+  }
+
+  @Test
+  public void shouldTimeoutWithTimingWheelScheduler() {
+    Scheduler scheduler = Scheduler.ofTimingWheel(Duration.ofMillis(10));
+    Timeout<Object> timeout = Timeout.of(Duration.ofMillis(50));
+
+    try {
+      assertThrows(() -> Failsafe.with(timeout).with(scheduler).getAsync(() -> {
+        Thread.sleep(1000);
+        return null;
+      }).get(), ExecutionException.class, TimeoutExceededException.class);
+    } finally {
+      scheduler.close();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.spi.Scheduler;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+public class VirtualThreadsTest {
+  @Test
+  public void shouldRunAttemptsOnVirtualThreads() throws Throwable {
+    assumeTrue(VirtualThreads.isSupported());
+
+    // Given
+    Scheduler scheduler = Scheduler.ofVirtualThreads();
+    RetryPolicy<Boolean> retryPolicy = RetryPolicy.<Boolean>builder()
+      .handleResult(false)
+      .withDelay(Duration.ofMillis(10))
+      .build();
+
+    // When / Then
+    assertTrue(Failsafe.with(retryPolicy).with(scheduler).getAsync(ctx -> isVirtual() && ctx.isRetry()).get());
+  }
+
+  @Test
+  public void shouldInterruptVirtualThreadsOnTimeout() throws Throwable {
+    assumeTrue(VirtualThreads.isSupported());
+
+    // Given
+    Scheduler scheduler = Scheduler.ofVirtualThreads();
+    Timeout<Object> timeout = Timeout.builder(Duration.ofMillis(50)).withInterrupt().build();
+    AtomicBoolean interrupted = new AtomicBoolean();
+
+    // When / Then
+    assertThrows(() -> Failsafe.with(timeout).with(scheduler).runAsync(() -> {
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+        throw e;
+      }
+    }).get(), ExecutionException.class, TimeoutExceededException.class);
+    Thread.sleep(100);
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void shouldThrowWhenUnsupported() {
+    assumeFalse(VirtualThreads.isSupported());
+    assertThrows(Scheduler::ofVirtualThreads, UnsupportedOperationException.class);
+  }
+
+  private static boolean isVirtual() throws Exception {
+    return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+  }
+}
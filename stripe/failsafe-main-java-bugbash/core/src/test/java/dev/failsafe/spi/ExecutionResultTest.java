@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExecutionResultTest {
+  @Test
+  public void testFactories() {
+    ExecutionResult<String> success = ExecutionResult.success("foo");
+    assertTrue(success.isComplete() && success.isSuccess() && success.getSuccessAll() && !success.isNonResult());
+
+    ExecutionResult<String> exception = ExecutionResult.exception(new IllegalStateException());
+    assertTrue(exception.isComplete() && !exception.isSuccess() && !exception.getSuccessAll());
+
+    ExecutionResult<String> none = ExecutionResult.none();
+    assertTrue(none.isComplete() && none.isSuccess() && none.getSuccessAll() && none.isNonResult());
+
+    ExecutionResult<String> initial = new ExecutionResult<>(null, new IllegalStateException());
+    assertTrue(initial.isComplete() && !initial.isSuccess() && !initial.getSuccessAll());
+  }
+
+  @Test
+  public void testTransitions() {
+    // Given
+    ExecutionResult<String> result = ExecutionResult.success("foo");
+
+    // When / Then
+    ExecutionResult<String> failure = result.withException();
+    assertFalse(failure.isSuccess());
+    assertFalse(failure.getSuccessAll());
+    assertTrue(failure.isComplete());
+    assertEquals(failure.getResult(), "foo");
+
+    ExecutionResult<String> retry = failure.with(100, false, false);
+    assertEquals(retry.getDelay(), 100);
+    assertFalse(retry.isComplete());
+
+    ExecutionResult<String> fallback = retry.withResult("bar");
+    assertTrue(fallback.isComplete() && fallback.isSuccess());
+    assertFalse(fallback.getSuccessAll());
+    assertEquals(fallback.getDelay(), 100);
+
+    assertFalse(result.withNotComplete().isComplete());
+    assertTrue(result.withNotComplete().withSuccess().isComplete());
+    assertTrue(result.withNonResult().isNonResult());
+  }
+
+  @Test
+  public void shouldReturnSameResultWhenUnchanged() {
+    ExecutionResult<String> result = ExecutionResult.success("foo");
+    assertSame(result.withSuccess(), result);
+    assertSame(result.withDelay(0), result);
+    assertSame(result.with(0, true, true), result);
+    ExecutionResult<String> failure = ExecutionResult.exception(new IllegalStateException());
+    assertSame(failure.withException(), failure);
+    ExecutionResult<String> notComplete = failure.withNotComplete();
+    assertSame(notComplete.withNotComplete(), notComplete);
+  }
+
+  /**
+   * Asserts that results without a value, exception or delay are intern'ed for all flag combinations.
+   */
+  @Test
+  public void shouldInternEmptyResults() {
+    ExecutionResult<String> result = ExecutionResult.success(null);
+    assertSame(result, ExecutionResult.success(null));
+    assertSame(result.withNotComplete(), ExecutionResult.success(null).withNotComplete());
+    assertSame(result.withException(), ExecutionResult.success(null).withException());
+    assertSame(ExecutionResult.none().with(0, false, false), ExecutionResult.none().with(0, false, false));
+    assertNotSame(result.withDelay(1), result.withDelay(1));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.CircuitBreakerOpenException;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeExecutor;
+import dev.failsafe.RateLimiter;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.junit.Assert.*;
+
+public class TickerTest {
+  @Test
+  public void testVirtualTicker() {
+    // Given
+    VirtualTicker ticker = Ticker.virtual();
+
+    // When / Then
+    assertEquals(ticker.read(), 0);
+    assertEquals(ticker.advance(Duration.ofMillis(5)), TimeUnit.MILLISECONDS.toNanos(5));
+    assertEquals(ticker.read(), TimeUnit.MILLISECONDS.toNanos(5));
+    assertThrows(() -> ticker.advance(Duration.ofMillis(-1)), IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testCoarseTicker() throws Throwable {
+    // Given
+    Ticker ticker = Ticker.coarse();
+    long start = ticker.read();
+
+    // When
+    Thread.sleep(20);
+
+    // Then
+    assertTrue(ticker.read() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+    assertSame(Ticker.coarse(), ticker);
+  }
+
+  /**
+   * Asserts that a circuit breaker's delay elapses according to its ticker.
+   */
+  @Test
+  public void shouldHalfOpenCircuitBreakerAfterVirtualDelay() {
+    // Given
+    VirtualTicker ticker = Ticker.virtual();
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withDelay(Duration.ofMinutes(1))
+      .withTicker(ticker)
+      .build();
+    breaker.open();
+
+    // When / Then
+    ticker.advance(Duration.ofSeconds(59));
+    assertFalse(breaker.tryAcquirePermit());
+    assertEquals(breaker.getRemainingDelay(), Duration.ofSeconds(1));
+    ticker.advance(Duration.ofSeconds(1));
+    assertTrue(breaker.tryAcquirePermit());
+    assertTrue(breaker.isHalfOpen());
+  }
+
+  /**
+   * Asserts that a rate limiter's permits are refreshed according to its ticker.
+   */
+  @Test
+  public void shouldRefreshRateLimiterPermitsAfterVirtualPeriod() {
+    // Given
+    VirtualTicker ticker = Ticker.virtual();
+    RateLimiter<Object> limiter = RateLimiter.burstyBuilder(2, Duration.ofHours(1)).withTicker(ticker).build();
+
+    // When / Then
+    assertTrue(limiter.tryAcquirePermits(2));
+    assertFalse(limiter.tryAcquirePermit());
+    ticker.advance(Duration.ofHours(1));
+    assertTrue(limiter.tryAcquirePermits(2));
+  }
+
+  /**
+   * Asserts that execution times are read from an executor's ticker.
+   */
+  @Test
+  public void shouldReadExecutionTimesFromTicker() {
+    // Given
+    VirtualTicker ticker = Ticker.virtual();
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withSlowCallThreshold(Duration.ofSeconds(1), 100)
+      .withTicker(ticker)
+      .build();
+    FailsafeExecutor<Object> executor = Failsafe.with(breaker).with(ticker);
+
+    // When
+    Object result = executor.get(ctx -> {
+      ticker.advance(Duration.ofSeconds(2));
+      return ctx.getElapsedAttemptTime();
+    });
+
+    // Then
+    assertEquals(result, Duration.ofSeconds(2));
+    assertTrue(breaker.isOpen());
+    assertThrows(() -> executor.get(() -> null), CircuitBreakerOpenException.class);
+  }
+}
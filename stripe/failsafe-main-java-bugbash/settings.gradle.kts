@@ -6,6 +6,8 @@ rootProject.name = "failsafe-parent"
 include(":failsafe-okhttp")
 include(":failsafe-retrofit")
 include(":failsafe")
+include(":failsafe-benchmarks")
 project(":failsafe-okhttp").projectDir = file("modules/okhttp")
 project(":failsafe-retrofit").projectDir = file("modules/retrofit")
 project(":failsafe").projectDir = file("core")
+project(":failsafe-benchmarks").projectDir = file("benchmarks")